@@ -1,16 +1,22 @@
 package com.tripwise.tripmedia;
 
+import com.tripwise.tripmedia.config.MediaIndexManager;
 import com.tripwise.tripmedia.config.MediaProps;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 @ConfigurationPropertiesScan(basePackageClasses = MediaProps.class)
 public class TripmediaApplication {
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--" + MediaIndexManager.MIGRATE_OPTION)) {
+            System.exit(MediaIndexManager.migrate(args));
+        }
         SpringApplication.run(TripmediaApplication.class, args);
     }
 
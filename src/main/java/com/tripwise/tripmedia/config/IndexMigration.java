@@ -0,0 +1,24 @@
+package com.tripwise.tripmedia.config;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 17:30
+ * Description : Sources of the {@code --migrate-indexes} context ({@link MediaIndexManager#migrate}): MongoDB and
+ * {@link MediaIndexManager} only.
+ * - Neither a {@code @Configuration} nor a {@code @Component}, so the application's component scan ignores it; and a
+ * top-level class rather than a member of {@link MediaIndexManager}, whose member classes Spring would process
+ * (importing the outer class from there is a circular {@code @Import}).
+ * ================================================================
+ */
+@ImportAutoConfiguration({MongoAutoConfiguration.class, MongoDataAutoConfiguration.class})
+@Import(MediaIndexManager.class)
+class IndexMigration {
+}
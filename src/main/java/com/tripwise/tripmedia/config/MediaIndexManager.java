@@ -0,0 +1,100 @@
+package com.tripwise.tripmedia.config;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 17:30
+ * Description : Creates the indexes declared on {@link Media} and {@link MediaObject}
+ * ({@code @Indexed}/{@code @CompoundIndex}).
+ * - Startup: with {@code media.indexes.create-on-startup=true} indexes are created on a background thread, so an
+ * unreachable MongoDB does not block boot.
+ * - Migration command: start with {@code --migrate-indexes} to create the indexes synchronously and exit
+ * (exit code 0 on success, 1 on failure). {@code main} runs it in a context that holds only MongoDB and this class,
+ * so no web server, scheduled job or other component is started.
+ * - Index creation is idempotent; existing indexes with the same definition are left as they are.
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class MediaIndexManager implements ApplicationRunner {
+
+    public static final String MIGRATE_OPTION = "migrate-indexes";
+
+    private final MongoTemplate mongo;
+    private final boolean createOnStartup;
+
+    public MediaIndexManager(MongoTemplate mongo,
+                             @Value("${media.indexes.create-on-startup:true}") boolean createOnStartup) {
+        this.mongo = mongo;
+        this.createOnStartup = createOnStartup;
+    }
+
+    /**
+     * Migration command: creates the indexes in a context without web server and scheduling, then closes it.
+     *
+     * @param args the command-line arguments (for property overrides such as {@code --spring.data.mongodb.uri})
+     * @return the process exit code: 0 on success, 1 on failure
+     */
+    public static int migrate(String... args) {
+        try (var context = new SpringApplicationBuilder(IndexMigration.class)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            context.getBean(MediaIndexManager.class).ensureIndexes();
+            return 0;
+        } catch (RuntimeException e) {
+            log.error("Index migration failed: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (createOnStartup && !args.containsOption(MIGRATE_OPTION)) {
+            Thread t = new Thread(() -> {
+                try {
+                    ensureIndexes();
+                } catch (RuntimeException e) {
+                    log.warn("Could not create media indexes: {}", e.getMessage());
+                }
+            }, "media-index-init");
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    /**
+     * Creates every index declared on {@link Media} and {@link MediaObject}.
+     *
+     * @return the names of the ensured indexes
+     */
+    public List<String> ensureIndexes() {
+        var resolver = IndexResolver.create(mongo.getConverter().getMappingContext());
+        List<String> names = new ArrayList<>();
+        for (Class<?> type : List.of(Media.class, MediaObject.class)) {
+            var ops = mongo.indexOps(type);
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                names.add(ops.createIndex(index));
+            }
+        }
+        log.info("Media indexes ensured: {}", names);
+        return names;
+    }
+}
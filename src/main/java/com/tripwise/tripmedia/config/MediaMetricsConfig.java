@@ -0,0 +1,142 @@
+package com.tripwise.tripmedia.config;
+
+import com.tripwise.tripmedia.service.MediaCache;
+import com.tripwise.tripmedia.service.MediaWriteBatcher;
+import com.tripwise.tripmedia.service.client.JournalClient;
+import com.tripwise.tripmedia.service.variant.SubsamplingImageDecoder;
+import com.tripwise.tripmedia.service.variant.VariantPipeline;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 23:15
+ * Description : Binds the in-process stats of the media components to Micrometer (served on
+ * {@code /actuator/prometheus}).
+ * - Caches use the Micrometer cache meter names ({@code cache.gets}, {@code cache.evictions}, {@code cache.size})
+ * tagged {@code cache=media} / {@code cache=journal-ownership}.
+ * - Variant pipeline, image decode budget, write batcher and virtual-thread pinning get {@code media.*} /
+ * {@code jvm.threads.virtual.*} meters.
+ * - All meters read the components' stats accessors at scrape time; nothing is recorded on the request path.
+ * ================================================================
+ */
+@Configuration
+public class MediaMetricsConfig {
+
+    @Bean
+    MeterBinder mediaCacheMetrics(MediaCache cache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", cache, c -> c.stats().hitCount())
+                    .tags("cache", "media", "result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", cache, c -> c.stats().missCount())
+                    .tags("cache", "media", "result", "miss").register(registry);
+            FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictionCount())
+                    .tag("cache", "media").register(registry);
+            Gauge.builder("cache.size", cache, MediaCache::size)
+                    .tag("cache", "media").register(registry);
+            Gauge.builder("media.cache.estimated.bytes", cache, MediaCache::estimatedBytes)
+                    .description("Estimated memory held by cached media responses")
+                    .baseUnit("bytes").register(registry);
+            Gauge.builder("media.cache.max.bytes", cache, MediaCache::maxBytes)
+                    .baseUnit("bytes").register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder journalOwnershipCacheMetrics(JournalClient journals) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", journals, j -> j.ownershipCacheStats().hitCount())
+                    .tags("cache", "journal-ownership", "result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", journals, j -> j.ownershipCacheStats().missCount())
+                    .tags("cache", "journal-ownership", "result", "miss").register(registry);
+            FunctionCounter.builder("cache.evictions", journals, j -> j.ownershipCacheStats().evictionCount())
+                    .tag("cache", "journal-ownership").register(registry);
+            FunctionCounter.builder("cache.load.failures", journals, j -> j.ownershipCacheStats().loadFailureCount())
+                    .description("Ownership checks that failed (timeouts, 5xx); not cached")
+                    .tag("cache", "journal-ownership").register(registry);
+            Gauge.builder("cache.size", journals, JournalClient::ownershipCacheSize)
+                    .tag("cache", "journal-ownership").register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder variantPipelineMetrics(VariantPipeline variants, SubsamplingImageDecoder decoder) {
+        return registry -> {
+            Gauge.builder("media.variants.queue", variants, v -> v.stats().queueDepth())
+                    .description("Media waiting for a worker to produce their renditions").register(registry);
+            Gauge.builder("media.variants.active", variants, v -> v.stats().active())
+                    .description("Media whose renditions are being produced").register(registry);
+            FunctionCounter.builder("media.variants", variants, v -> v.stats().submitted())
+                    .tag("result", "submitted").register(registry);
+            FunctionCounter.builder("media.variants", variants, v -> v.stats().completed())
+                    .tag("result", "completed").register(registry);
+            FunctionCounter.builder("media.variants", variants, v -> v.stats().failed())
+                    .tag("result", "failed").register(registry);
+            FunctionCounter.builder("media.variants", variants, v -> v.stats().rejected())
+                    .tag("result", "rejected").register(registry);
+            variants.stats().meanStageMillis().keySet().forEach(stage ->
+                    Gauge.builder("media.variants.stage.mean", variants,
+                                    v -> v.stats().meanStageMillis().getOrDefault(stage, 0.0))
+                            .description("Mean rendition stage latency since startup")
+                            .baseUnit("milliseconds")
+                            .tag("stage", stage).register(registry));
+
+            Gauge.builder("media.variants.decode.budget.available", decoder, d -> d.availableKib() * 1024.0)
+                    .description("Raster memory still available to concurrent image decodes")
+                    .baseUnit("bytes").register(registry);
+            Gauge.builder("media.variants.decode.budget.max", decoder, d -> d.budgetKib() * 1024.0)
+                    .baseUnit("bytes").register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder writeBatcherMetrics(MediaWriteBatcher batcher) {
+        return registry -> {
+            Gauge.builder("media.write.batch.queue", batcher, b -> b.stats().queueDepth())
+                    .description("Inserts waiting for the next bulk write").register(registry);
+            FunctionCounter.builder("media.write.batches", batcher, b -> b.stats().batches())
+                    .description("Bulk writes sent").register(registry);
+            FunctionCounter.builder("media.write.batch.documents", batcher, b -> b.stats().documents())
+                    .tag("result", "written").register(registry);
+            FunctionCounter.builder("media.write.batch.documents", batcher, b -> b.stats().failed())
+                    .tag("result", "failed").register(registry);
+            Gauge.builder("media.write.batch.size.mean", batcher, b -> b.stats().meanBatchSize())
+                    .register(registry);
+            FunctionCounter.builder("media.write.batch.saved", batcher, b -> b.stats().writesSaved())
+                    .description("Round trips avoided compared with one insert per document").register(registry);
+            FunctionTimer.builder("media.write.batch.wait", batcher,
+                            b -> b.stats().documents(),
+                            b -> b.stats().meanWaitMillis() * b.stats().documents(),
+                            TimeUnit.MILLISECONDS)
+                    .description("Time documents waited in the queue before their batch was sent")
+                    .register(registry);
+            FunctionTimer.builder("media.write.batch.write", batcher,
+                            b -> b.stats().batches(),
+                            b -> b.stats().meanWriteMillis() * b.stats().batches(),
+                            TimeUnit.MILLISECONDS)
+                    .description("Duration of the bulk writes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    MeterBinder virtualThreadPinningMetrics(ObjectProvider<VirtualThreadPinningMonitor> monitor) {
+        return registry -> monitor.ifAvailable(m ->
+                FunctionTimer.builder("jvm.threads.virtual.pinned", m,
+                                VirtualThreadPinningMonitor::pinnedCount,
+                                x -> x.pinnedTime().toNanos(),
+                                TimeUnit.NANOSECONDS)
+                        .description("Virtual threads pinned to their carrier longer than the threshold")
+                        .register(registry));
+    }
+}
@@ -0,0 +1,165 @@
+package com.tripwise.tripmedia.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 23:50
+ * Description : Writes finished spans to a local file in the OTLP/JSON encoding, one {@code ExportTraceServiceRequest}
+ * per line (the format of the OpenTelemetry Collector's {@code otlpjsonfile} receiver and file exporter).
+ * - Lets traces be inspected without a collector ({@code jq}), or replayed into Jaeger/Tempo later.
+ * - Encoding is done by the SDK's public {@link OtlpJsonLoggingSpanExporter}, so links, trace state, flags and
+ * dropped counts are written exactly as the OTLP exporters send them. It logs one {@code ResourceSpans} per record to
+ * its {@code java.util.logging} logger; while this exporter runs, that logger's records go to the file only, each
+ * wrapped as {@code {"resourceSpans":[...]}}.
+ * - When the file exceeds {@code max-bytes} (counted in encoded bytes) it is moved to {@code <path>.1} (replacing the
+ * previous one) and a new file is started, so disk use stays below {@code 2 x max-bytes}.
+ * ================================================================
+ */
+@Slf4j
+class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private static final byte[] PREFIX = "{\"resourceSpans\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "]}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path path;
+    private final long maxBytes;
+    private final SpanExporter encoder = OtlpJsonLoggingSpanExporter.create();
+    /** Held, so the configured logger is not collected and recreated without the handler. */
+    private final Logger encoderLog = Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName());
+    private final Handler toFile = new ToFile();
+
+    private OutputStream out;
+    private long written;
+
+    OtlpJsonFileSpanExporter(Path path, long maxBytes) throws IOException {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        open();
+        encoderLog.setLevel(Level.INFO);
+        encoderLog.setUseParentHandlers(false); // not into the application log
+        encoderLog.addHandler(toFile);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        lock.lock();
+        try {
+            if (out == null) {
+                return CompletableResultCode.ofFailure();
+            }
+            // The encoder logs synchronously, so the lines are in the file when it returns
+            CompletableResultCode result = encoder.export(spans);
+            if (written >= maxBytes) {
+                rotate();
+            }
+            return result;
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not write {} spans to {}: {}", spans.size(), path, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        lock.lock();
+        try {
+            if (out != null) {
+                out.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        lock.lock();
+        try {
+            encoderLog.removeHandler(toFile);
+            encoderLog.setUseParentHandlers(true);
+            encoder.shutdown();
+            if (out != null) {
+                out.close();
+                out = null;
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        written = Files.size(path);
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        out = null;
+        Files.move(path, path.resolveSibling(path.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    /** Receives the encoder's records (on the exporting thread, under {@link #lock}) and appends them as lines. */
+    private final class ToFile extends Handler {
+
+        @Override
+        public void publish(LogRecord record) {
+            if (out == null) {
+                return;
+            }
+            byte[] resourceSpans = record.getMessage().getBytes(StandardCharsets.UTF_8);
+            try {
+                out.write(PREFIX);
+                out.write(resourceSpans);
+                out.write(SUFFIX);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            written += PREFIX.length + resourceSpans.length + SUFFIX.length;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
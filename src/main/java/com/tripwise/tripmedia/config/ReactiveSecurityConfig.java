@@ -0,0 +1,71 @@
+package com.tripwise.tripmedia.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 21:25
+ * Description : WebFlux counterpart of {@link SecurityConfig}: the same rules for the reactive web stack.
+ * ================================================================
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    /** Port of the actuator endpoints when they are served apart from the API; {@code -1} when they are not. */
+    private final int managementPort;
+
+    public ReactiveSecurityConfig(@Value("${server.port:8080}") int serverPort,
+                                  @Value("${management.server.port:-1}") int managementPort) {
+        this.managementPort = managementPort > 0 && managementPort != serverPort ? managementPort : -1;
+    }
+
+    /**
+     *  Same chain as {@link SecurityConfig#filterChain}:
+     *  - Permits unauthenticated access to API documentation endpoints and health.
+     *  - Permits {@code /actuator/prometheus} only on {@code management.server.port}.
+     *  - Permits {@code /media-files/**} (local storage: public reads, signed-URL uploads).
+     *  - Requires authentication for all other requests.
+     *  - Stateless OAuth2 Resource Server using JWT-based authentication.
+     * */
+    @Bean
+    public SecurityWebFilterChain webFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(cors -> {})
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance()) // stateless
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(
+                                "/swagger-ui/**",
+                                "/v3/api-docs/**",
+                                "/actuator/health/**").permitAll()
+                        .matchers(this::prometheusOnManagementPort).permitAll() // only through the management port
+                        .pathMatchers("/media-files/**").permitAll() // local storage; uploads carry a URL signature
+                        .anyExchange()
+                        .authenticated()
+                )
+                .oauth2ResourceServer(o -> o.jwt(jwt -> {
+                    // Default reactive JWT decoder is based on spring.security.oauth2.resourceserver.jwt.issuer-uri
+                }))
+                .build();
+    }
+
+    private Mono<ServerWebExchangeMatcher.MatchResult> prometheusOnManagementPort(ServerWebExchange exchange) {
+        var local = exchange.getRequest().getLocalAddress();
+        boolean match = managementPort > 0 && local != null && local.getPort() == managementPort
+                && "/actuator/prometheus".equals(exchange.getRequest().getPath().value());
+        return match ? ServerWebExchangeMatcher.MatchResult.match() : ServerWebExchangeMatcher.MatchResult.notMatch();
+    }
+}
@@ -1,12 +1,19 @@
 package com.tripwise.tripmedia.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
@@ -20,9 +27,11 @@ import java.net.URI;
  * Description : Configuration class for creating and configuring a {@link S3Client} and {@link S3Presigner} bean.
  * - {@link S3Client} - a low-level client for interacting with S3 buckets and object - for upload/download operation
  * - {@link S3Presigner} - a utility for generating pre-signed URLs for secure object access- to create temporary URLs (e.g., for secure file sharing)
+ * - Not created with {@code media.storage=local} ({@code LocalFileStorageClient}).
  * ================================================================
  */
 @Configuration
+@ConditionalOnProperty(name = "media.storage", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
     /**
      * Creates and Configures an {@link S3Client} bean.
@@ -33,6 +42,8 @@ public class S3Config {
      * @param accessKey the access key used for authentication
      * @param secretKey the secret key used for authentication
      * @param partStyle whether path-style access should be enabled (true by default)
+     * @param registry  receives call and connection-pool metrics ({@link S3MetricPublisher})
+     * @param tracer    creates a client span per S3 call ({@link S3TracingInterceptor})
      * @return a configured {@link S3Client} instance.
      *
      */
@@ -41,7 +52,9 @@ public class S3Config {
                              @Value("${media.s3.region}") String region,
                              @Value("${media.s3.access-key}") String accessKey,
                              @Value("${media.s3.secret-key}") String secretKey,
-                             @Value("${media.s3.path-style-access:true}") boolean partStyle) {
+                             @Value("${media.s3.path-style-access:true}") boolean partStyle,
+                             MeterRegistry registry,
+                             ObjectProvider<Tracer> tracer) {
 
         return S3Client.builder()
                 .region(Region.of(region))
@@ -49,6 +62,43 @@ public class S3Config {
                         .create(AwsBasicCredentials.create(accessKey, secretKey)))
                 .serviceConfiguration(servConf -> servConf.pathStyleAccessEnabled(partStyle))
                 .endpointOverride(URI.create(endpoint))
+                .overrideConfiguration(o -> o
+                        .addMetricPublisher(new S3MetricPublisher(registry, "sync"))
+                        .addExecutionInterceptor(new S3TracingInterceptor(tracer.getIfAvailable(() -> Tracer.NOOP))))
+                .build();
+    }
+
+    /**
+     * Creates and configures an {@link S3AsyncClient} bean (Netty, non-blocking) for the reactive web stack.
+     *
+     * @param endpoint  the S3 service endpoint
+     * @param region    the AWS region
+     * @param accessKey the access key used for authentication
+     * @param secretKey the secret key used for authentication
+     * @param partStyle whether path-style access should be enabled (true by default)
+     * @param registry  receives call and connection-pool metrics ({@link S3MetricPublisher})
+     * @param tracer    creates a client span per S3 call ({@link S3TracingInterceptor})
+     * @return a configured {@link S3AsyncClient} instance.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public S3AsyncClient s3AsyncClient(@Value("${media.s3.endpoint}") String endpoint,
+                                       @Value("${media.s3.region}") String region,
+                                       @Value("${media.s3.access-key}") String accessKey,
+                                       @Value("${media.s3.secret-key}") String secretKey,
+                                       @Value("${media.s3.path-style-access:true}") boolean partStyle,
+                                       MeterRegistry registry,
+                                       ObjectProvider<Tracer> tracer) {
+
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider
+                        .create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .serviceConfiguration(servConf -> servConf.pathStyleAccessEnabled(partStyle))
+                .endpointOverride(URI.create(endpoint))
+                .overrideConfiguration(o -> o
+                        .addMetricPublisher(new S3MetricPublisher(registry, "async"))
+                        .addExecutionInterceptor(new S3TracingInterceptor(tracer.getIfAvailable(() -> Tracer.NOOP))))
                 .build();
     }
 
@@ -61,15 +111,18 @@ public class S3Config {
      * @param region    the AWS region
      * @param accessKey the access key used for authentication
      * @param secretKey the secret key used for authentication
+     * @param partStyle whether presigned URLs use path-style access (same setting as the clients)
      * @return a configured {@link S3Presigner} instance.
      */
     @Bean
     public S3Presigner presigner(@Value("${media.s3.endpoint}") String endpoint,
                           @Value("${media.s3.region}") String region,
                           @Value("${media.s3.access-key}") String accessKey,
-                          @Value("${media.s3.secret-key}") String secretKey) {
+                          @Value("${media.s3.secret-key}") String secretKey,
+                          @Value("${media.s3.path-style-access:true}") boolean partStyle) {
         return S3Presigner.builder()
                 .region(Region.of(region))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(partStyle).build())
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
@@ -0,0 +1,111 @@
+package com.tripwise.tripmedia.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 23:05
+ * Description : Publishes the AWS SDK's per-call metrics to Micrometer.
+ * - {@code s3.client.calls} timer per operation and outcome (whole API call, retries included).
+ * - {@code s3.client.pool.*} gauges of the HTTP connection pool (max / available / leased / pending acquires), as
+ * last reported by a call, and the {@code s3.client.pool.acquire} timer (time spent waiting for a connection).
+ * - Tagged with {@code client} ({@code sync} for {@code S3Client}, {@code async} for {@code S3AsyncClient}).
+ * ================================================================
+ */
+class S3MetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry registry;
+    private final String client;
+
+    private final AtomicInteger max = new AtomicInteger();
+    private final AtomicInteger available = new AtomicInteger();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    S3MetricPublisher(MeterRegistry registry, String client) {
+        this.registry = registry;
+        this.client = client;
+
+        gauge("s3.client.pool.max", max, "Maximum concurrent connections of the S3 HTTP client");
+        gauge("s3.client.pool.available", available, "Idle connections ready to be leased");
+        gauge("s3.client.pool.leased", leased, "Connections in use");
+        gauge("s3.client.pool.pending", pending, "Requests waiting for a connection");
+    }
+
+    @Override
+    public void publish(MetricCollection call) {
+        Duration duration = first(call, CoreMetric.API_CALL_DURATION);
+        if (duration != null) {
+            String operation = first(call, CoreMetric.OPERATION_NAME);
+            boolean successful = Boolean.TRUE.equals(first(call, CoreMetric.API_CALL_SUCCESSFUL));
+            Timer.builder("s3.client.calls")
+                    .description("S3 API calls, retries included")
+                    .tag("client", client)
+                    .tag("operation", operation == null ? "unknown" : operation)
+                    .tag("outcome", successful ? "SUCCESS" : "ERROR")
+                    .register(registry)
+                    .record(duration);
+        }
+
+        httpCollections(call).forEach(http -> {
+            set(max, first(http, HttpMetric.MAX_CONCURRENCY));
+            set(available, first(http, HttpMetric.AVAILABLE_CONCURRENCY));
+            set(leased, first(http, HttpMetric.LEASED_CONCURRENCY));
+            set(pending, first(http, HttpMetric.PENDING_CONCURRENCY_ACQUIRES));
+
+            Duration acquire = first(http, HttpMetric.CONCURRENCY_ACQUIRE_DURATION);
+            if (acquire != null) {
+                Timer.builder("s3.client.pool.acquire")
+                        .description("Time waiting to lease a connection from the S3 HTTP client pool")
+                        .tag("client", client)
+                        .register(registry)
+                        .record(acquire);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void gauge(String name, AtomicInteger value, String description) {
+        Gauge.builder(name, value, AtomicInteger::get)
+                .description(description)
+                .tag("client", client)
+                .register(registry);
+    }
+
+    /** The HTTP client collections of every attempt (ApiCall -> ApiCallAttempt -> HttpClient). */
+    private static Stream<MetricCollection> httpCollections(MetricCollection collection) {
+        return collection.children().stream()
+                .flatMap(child -> Stream.concat(
+                        "HttpClient".equals(child.name()) ? Stream.of(child) : Stream.empty(),
+                        httpCollections(child)));
+    }
+
+    private static <T> T first(MetricCollection collection, SdkMetric<T> metric) {
+        List<T> values = collection.metricValues(metric);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static void set(AtomicInteger gauge, Integer value) {
+        if (value != null) {
+            gauge.set(value);
+        }
+    }
+}
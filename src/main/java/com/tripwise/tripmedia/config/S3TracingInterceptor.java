@@ -0,0 +1,66 @@
+package com.tripwise.tripmedia.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 23:40
+ * Description : One client span per S3 API call ({@code S3 PutObject}, {@code S3 HeadObject}, ...), retries included.
+ * - The parent is the span current on the calling thread (e.g. the {@code confirm complete-multipart} stage).
+ * - The span is never put in scope, so it is safe for the async client, whose callbacks run on SDK threads.
+ * - Tagged with bucket, key and HTTP status; failures are recorded as span errors.
+ * ================================================================
+ */
+class S3TracingInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Span> SPAN = new ExecutionAttribute<>("tripmedia.s3.span");
+
+    private final Tracer tracer;
+
+    S3TracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attributes) {
+        String operation = attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        Span.Builder span = tracer.spanBuilder()
+                .name("S3 " + operation)
+                .kind(Span.Kind.CLIENT)
+                .remoteServiceName("s3")
+                .tag("aws.operation", String.valueOf(operation));
+        TraceContext parent = tracer.currentTraceContext().context();
+        if (parent != null) {
+            span.setParent(parent);
+        }
+        context.request().getValueForField("Bucket", String.class).ifPresent(b -> span.tag("aws.s3.bucket", b));
+        context.request().getValueForField("Key", String.class).ifPresent(k -> span.tag("aws.s3.key", k));
+        attributes.putAttribute(SPAN, span.start());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+        Span span = attributes.getAttribute(SPAN);
+        if (span != null) {
+            span.tag("http.status_code", String.valueOf(context.httpResponse().statusCode())).end();
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attributes) {
+        Span span = attributes.getAttribute(SPAN);
+        if (span != null) {
+            span.error(context.exception()).end();
+        }
+    }
+}
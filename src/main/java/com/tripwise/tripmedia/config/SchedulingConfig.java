@@ -0,0 +1,18 @@
+package com.tripwise.tripmedia.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 10:40
+ * Description : Configuration class that enables {@code @Scheduled} background jobs (e.g., upload sweepers).
+ * ================================================================
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
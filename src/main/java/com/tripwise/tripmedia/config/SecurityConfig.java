@@ -1,5 +1,7 @@
 package com.tripwise.tripmedia.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,11 +20,24 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
+
+    /** Port of the actuator endpoints when they are served apart from the API; {@code -1} when they are not. */
+    private final int managementPort;
+
+    public SecurityConfig(@Value("${server.port:8080}") int serverPort,
+                          @Value("${management.server.port:-1}") int managementPort) {
+        this.managementPort = managementPort > 0 && managementPort != serverPort ? managementPort : -1;
+    }
+
     /**
      *  This configuration sets up a security filter chain that:
      *  - Permits unauthenticated access to API documentation endpoints such as
      *  *      " /swagger-ui/**" and "/v3/api-docs/**".
+     *  - Permits the health actuator endpoint, and {@code /actuator/prometheus} only on {@code management.server.port}
+     *  (scraped without a user token, off the public API port); on the API port it needs authentication.
+     *  - Permits {@code /media-files/**} (local storage: public reads, signed-URL uploads).
      *  - Requires authentication for all other requests.
      *  - Configures the application as an OAuth2 Resource Server using JWT-based authentication.
      * */
@@ -39,7 +54,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
                         .requestMatchers(
                                 "/swagger-ui/**",
-                                "/v3/api-docs/**").permitAll()
+                                "/v3/api-docs/**",
+                                "/actuator/health/**").permitAll()
+                        // Scraped without a user token, but only through the management port
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                        .requestMatchers("/media-files/**").permitAll() // local storage; uploads carry a URL signature
                         .anyRequest()
                         .authenticated()
 
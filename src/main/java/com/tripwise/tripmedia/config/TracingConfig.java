@@ -0,0 +1,66 @@
+package com.tripwise.tripmedia.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 23:55
+ * Description : Tracing wiring on top of Spring Boot's Micrometer Tracing / OpenTelemetry auto-configuration.
+ * - Already traced by Boot: HTTP server requests, Spring Security (JWT authentication), {@code @Observed}
+ * controller handlers, the journals {@link org.springframework.web.reactive.function.client.WebClient} (which also
+ * propagates the W3C {@code traceparent} header to TripJournal) and the {@code media.stage} observations.
+ * - Added here: a span per MongoDB command (sync and reactive drivers) and the local OTLP/JSON span file.
+ * - S3 calls get spans from {@link S3TracingInterceptor}, registered in {@link S3Config}.
+ * - Export: {@code management.otlp.tracing.endpoint} (OTLP/HTTP, e.g. a local collector or Jaeger) and/or
+ * {@code media.tracing.file.enabled}; sampling with {@code management.tracing.sampling.probability}.
+ * <pre>
+ * media:
+ *   tracing:
+ *     file:
+ *       enabled: false
+ *       path: traces/spans.otlp.jsonl
+ *       max-bytes: 100MB
+ * </pre>
+ * ================================================================
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Child span per MongoDB command ({@code find}, {@code insert}, {@code findAndModify}, ...), parented by the
+     * observation current on the calling thread (sync driver) or in the Reactor context (reactive driver).
+     */
+    @Bean
+    MongoClientSettingsBuilderCustomizer mongoTracing(ObservationRegistry registry) {
+        return settings -> settings
+                .addCommandListener(new MongoObservationCommandListener(registry))
+                .contextProvider(ContextProviderFactory.create(registry));
+    }
+
+    /**
+     * Appends sampled spans to a local file in OTLP/JSON; picked up by Boot's batch span processor next to the
+     * OTLP exporter (if configured).
+     */
+    @Bean
+    @ConditionalOnProperty(name = "media.tracing.file.enabled", havingValue = "true")
+    SpanExporter otlpJsonFileSpanExporter(
+            @Value("${media.tracing.file.path:traces/spans.otlp.jsonl}") Path path,
+            @Value("${media.tracing.file.max-bytes:100MB}") DataSize maxBytes) throws IOException {
+        return new OtlpJsonFileSpanExporter(path, maxBytes.toBytes());
+    }
+}
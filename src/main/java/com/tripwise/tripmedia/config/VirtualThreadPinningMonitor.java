@@ -0,0 +1,113 @@
+package com.tripwise.tripmedia.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 22:05
+ * Description : Reports virtual threads that stay pinned to their carrier while blocking.
+ * - On Java 21-23 a virtual thread that blocks inside {@code synchronized} (or a native frame) cannot unmount and
+ * holds a carrier thread; under load this silently brings back the platform-thread limit.
+ * - Streams the JFR {@code jdk.VirtualThreadPinned} event in-process and logs each pin longer than
+ * {@code pinned-threshold} with its top stack frames, so pins in our code and in the AWS SDK / Mongo driver show up
+ * in the normal logs without a JFR dump.
+ * - Active only when virtual threads are ({@code spring.threads.virtual.enabled=true} on Java 21+).
+ * <pre>
+ * media:
+ *   virtual-threads:
+ *     pinning-monitor: true
+ *     pinned-threshold: 20ms
+ *     stack-depth: 8
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "media.virtual-threads.pinning-monitor", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final LongAdder pinned = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${media.virtual-threads.pinned-threshold:20ms}") Duration threshold,
+                                       @Value("${media.virtual-threads.stack-depth:8}") int stackDepth) {
+        this.threshold = threshold;
+        this.stackDepth = Math.max(1, stackDepth);
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Watching for virtual threads pinned longer than {}", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * @return pins longer than the threshold since startup
+     */
+    public long pinnedCount() {
+        return pinned.sum();
+    }
+
+    /**
+     * @return total time carriers spent pinned, over the pins counted by {@link #pinnedCount()}
+     */
+    public Duration pinnedTime() {
+        return Duration.ofNanos(pinnedNanos.sum());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        log.warn("Virtual thread '{}' pinned for {} ms:{}",
+                event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                event.getDuration().toMillis(),
+                frames(event));
+    }
+
+    private String frames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return " (no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(stackDepth)
+                .map(f -> "\n\tat " + f.getMethod().getType().getName() + "." + f.getMethod().getName()
+                        + (f.getLineNumber() > 0 ? ":" + f.getLineNumber() : ""))
+                .collect(Collectors.joining());
+    }
+}
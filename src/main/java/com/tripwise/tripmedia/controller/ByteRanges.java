@@ -0,0 +1,277 @@
+package com.tripwise.tripmedia.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.controller
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 06:10
+ * Description : Conditional and {@code Range} request evaluation (RFC 9110) shared by the content endpoints.
+ * - {@link #plan} decides between 304, 200, 206 and 416 from the request headers and the representation's ETag,
+ * modification time and size; the controllers only write the chosen byte regions with their own I/O.
+ * - {@code If-None-Match} takes precedence over {@code If-Modified-Since}; {@code If-Range} needs a strong ETag
+ * match or the exact modification second, otherwise the whole representation is sent.
+ * - Malformed {@code Range} headers are ignored (200). Requests whose ranges add up to more than the
+ * representation (overlaps, many small ranges) also get a 200 instead of an amplified multipart response.
+ * ================================================================
+ */
+final class ByteRanges {
+
+    enum Outcome {NOT_MODIFIED, FULL, PARTIAL, UNSATISFIABLE}
+
+    /**
+     * Inclusive byte region of the representation.
+     */
+    record Region(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        /** {@code Content-Range} value of this region. */
+        String contentRange(long size) {
+            return "bytes " + start + "-" + end + "/" + size;
+        }
+    }
+
+    /**
+     * What to send: the regions of a {@link Outcome#PARTIAL} response, the whole representation for
+     * {@link Outcome#FULL}, none otherwise.
+     */
+    record Plan(Outcome outcome, List<Region> regions) {
+
+        boolean multipart() {
+            return regions.size() > 1;
+        }
+    }
+
+    /**
+     * Framing of a {@code multipart/byteranges} body: {@code headers.get(i)} precedes region {@code i},
+     * {@code end} closes the body.
+     */
+    record Multipart(String contentType, List<byte[]> headers, byte[] end, long contentLength) {
+    }
+
+    private static final byte[] NONE = new byte[0];
+
+    private ByteRanges() {
+    }
+
+    /**
+     * @param get             {@code true} for {@code GET}; {@code Range} is ignored for other methods
+     * @param range           {@code Range} header or {@code null}
+     * @param ifRange         {@code If-Range} header or {@code null}
+     * @param ifNoneMatch     {@code If-None-Match} header or {@code null}
+     * @param ifModifiedSince {@code If-Modified-Since} header or {@code null}
+     * @param etag            quoted ETag of the representation, or {@code null} if it has none
+     * @param lastModified    modification time in epoch milliseconds, or {@code -1} if unknown
+     * @param size            representation size in bytes
+     */
+    static Plan plan(boolean get, String range, String ifRange, String ifNoneMatch, String ifModifiedSince,
+                     String etag, long lastModified, long size) {
+        if (ifNoneMatch != null) {
+            if (matchesAny(ifNoneMatch, etag)) {
+                return new Plan(Outcome.NOT_MODIFIED, List.of());
+            }
+        } else if (ifModifiedSince != null && lastModified >= 0) {
+            long since = parseDate(ifModifiedSince);
+            if (since >= 0 && lastModified / 1000 <= since / 1000) {
+                return new Plan(Outcome.NOT_MODIFIED, List.of());
+            }
+        }
+
+        Plan full = new Plan(Outcome.FULL, size == 0 ? List.of() : List.of(new Region(0, size - 1)));
+        if (!get || range == null || size == 0 || (ifRange != null && !ifRangeMatches(ifRange, etag, lastModified))) {
+            return full;
+        }
+        List<HttpRange> requested;
+        try {
+            requested = HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return full;
+        }
+        if (requested.isEmpty()) {
+            return full;
+        }
+
+        List<Region> regions = new ArrayList<>(requested.size());
+        long total = 0;
+        for (HttpRange r : requested) {
+            long start = r.getRangeStart(size);
+            long end = r.getRangeEnd(size);
+            if (start < size && start <= end) {
+                regions.add(new Region(start, end));
+                total += end - start + 1;
+            }
+        }
+        if (regions.isEmpty()) {
+            return new Plan(Outcome.UNSATISFIABLE, List.of());
+        }
+        return total > size ? full : new Plan(Outcome.PARTIAL, List.copyOf(regions));
+    }
+
+    /**
+     * Builds the part headers of a multi-range response.
+     *
+     * @param contentType media type of the representation
+     */
+    static Multipart multipart(Plan plan, String contentType, long size) {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> headers = new ArrayList<>(plan.regions().size());
+        long length = 0;
+        for (Region region : plan.regions()) {
+            byte[] header = ("\r\n--" + boundary
+                    + "\r\nContent-Type: " + contentType
+                    + "\r\nContent-Range: " + region.contentRange(size)
+                    + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            headers.add(header);
+            length += header.length + region.length();
+        }
+        byte[] end = plan.regions().isEmpty()
+                ? NONE
+                : ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        return new Multipart("multipart/byteranges; boundary=" + boundary, headers, end, length + end.length);
+    }
+
+    /** Evaluates a servlet request's conditional and {@code Range} headers against the representation. */
+    static Plan plan(HttpServletRequest request, String etag, long lastModified, long size) {
+        return plan("GET".equals(request.getMethod()),
+                request.getHeader(HttpHeaders.RANGE),
+                request.getHeader(HttpHeaders.IF_RANGE),
+                request.getHeader(HttpHeaders.IF_NONE_MATCH),
+                request.getHeader(HttpHeaders.IF_MODIFIED_SINCE),
+                etag, lastModified, size);
+    }
+
+    /**
+     * Sets the status and entity headers of the plan on a servlet response.
+     *
+     * @param multipart framing of a multi-range plan, {@code null} otherwise
+     * @return {@code true} if a body follows
+     */
+    static boolean start(Plan plan, Multipart multipart, String contentType, long size,
+                         HttpServletResponse response) {
+        switch (plan.outcome()) {
+            case NOT_MODIFIED -> {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return false;
+            }
+            case UNSATISFIABLE -> {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setContentLength(0);
+                return false;
+            }
+            case PARTIAL -> {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                if (multipart != null) {
+                    response.setContentType(multipart.contentType());
+                    response.setContentLengthLong(multipart.contentLength());
+                    return true;
+                }
+                response.setHeader(HttpHeaders.CONTENT_RANGE, plan.regions().get(0).contentRange(size));
+            }
+            case FULL -> response.setStatus(HttpServletResponse.SC_OK);
+        }
+        response.setContentType(contentType);
+        response.setContentLengthLong(plan.regions().stream().mapToLong(Region::length).sum());
+        return !plan.regions().isEmpty();
+    }
+
+    /** Evaluates a reactive request's conditional and {@code Range} headers against the representation. */
+    static Plan plan(ServerHttpRequest request, String etag, long lastModified, long size) {
+        HttpHeaders headers = request.getHeaders();
+        return plan(HttpMethod.GET.equals(request.getMethod()),
+                headers.getFirst(HttpHeaders.RANGE),
+                headers.getFirst(HttpHeaders.IF_RANGE),
+                headers.getFirst(HttpHeaders.IF_NONE_MATCH),
+                headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE),
+                etag, lastModified, size);
+    }
+
+    /**
+     * Sets the status and entity headers of the plan on a reactive response.
+     *
+     * @param multipart framing of a multi-range plan, {@code null} otherwise
+     * @return {@code true} if a body follows
+     */
+    static boolean start(Plan plan, Multipart multipart, String contentType, long size, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        switch (plan.outcome()) {
+            case NOT_MODIFIED -> {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return false;
+            }
+            case UNSATISFIABLE -> {
+                response.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                headers.setContentLength(0);
+                return false;
+            }
+            case PARTIAL -> {
+                response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+                if (multipart != null) {
+                    headers.set(HttpHeaders.CONTENT_TYPE, multipart.contentType());
+                    headers.setContentLength(multipart.contentLength());
+                    return true;
+                }
+                headers.set(HttpHeaders.CONTENT_RANGE, plan.regions().get(0).contentRange(size));
+            }
+            case FULL -> response.setStatusCode(HttpStatus.OK);
+        }
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        headers.setContentLength(plan.regions().stream().mapToLong(Region::length).sum());
+        return !plan.regions().isEmpty();
+    }
+
+    /** {@code If-None-Match}: weak comparison; {@code *} matches any existing representation. */
+    private static boolean matchesAny(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (etag != null && opaque(tag).equals(opaque(etag)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** {@code If-Range}: strong ETag comparison, or an exact date match. */
+    private static boolean ifRangeMatches(String header, String etag, long lastModified) {
+        String value = header.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return etag != null && !value.startsWith("W/") && !etag.startsWith("W/") && value.equals(etag);
+        }
+        long date = parseDate(value);
+        return date >= 0 && lastModified >= 0 && date / 1000 == lastModified / 1000;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /** @return epoch milliseconds, or {@code -1} if the value is not an HTTP date */
+    private static long parseDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.tripwise.tripmedia.controller;
+
+import com.tripwise.tripmedia.service.client.LocalFileStorageClient;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.controller
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:50
+ * Description : Serves and receives the objects of {@link LocalFileStorageClient} on {@code /media-files/<key>}.
+ * - {@code GET}/{@code HEAD} are public (the URLs are the media's public URLs). The file is handed to Tomcat's
+ * sendfile ({@code FileChannel.transferTo} on the socket), so its bytes never pass through the heap; without
+ * sendfile support it is transferred from the file channel to the response stream.
+ * - Honours {@code Range} (single and multi-range), {@code If-Range}, {@code If-None-Match} and
+ * {@code If-Modified-Since} ({@link ByteRanges}). A single range is still sent with sendfile; each region of a
+ * {@code multipart/byteranges} response is a positioned {@code transferTo}, so a seek never reads the whole file.
+ * - {@code PUT} needs a signed upload URL ({@link LocalFileStorageClient#presignPut},
+ * {@link LocalFileStorageClient#presignMultipart}) instead of a user token; the body must be the signed size.
+ * - Active with {@code media.storage=local} on the servlet stack; see {@link ReactiveLocalFileController}.
+ * ================================================================
+ */
+@RestController
+@RequestMapping(LocalFileController.PATH)
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "media.storage", havingValue = "local")
+public class LocalFileController {
+
+    static final String PATH = "/media-files";
+
+    /** Tomcat's sendfile request attributes (see {@code org.apache.catalina.Globals}). */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorageClient files;
+
+    /**
+     * Streams an object, or the requested byte ranges of it; {@code HEAD} returns the headers only.
+     *
+     * @throws NoSuchElementException   if the object does not exist
+     * @throws IllegalArgumentException if the key is invalid
+     */
+    @GetMapping("/**")
+    public void get(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = key(request);
+        Path file = files.path(key);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("No object " + key);
+        }
+        if (!attributes.isRegularFile()) {
+            throw new NoSuchElementException("No object " + key);
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = LocalFileStorageClient.etag(size, attributes.lastModifiedTime());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=86400");
+
+        String contentType = LocalFileStorageClient.contentType(key);
+        var plan = ByteRanges.plan(request, etag, lastModified, size);
+        var multipart = plan.multipart() ? ByteRanges.multipart(plan, contentType, size) : null;
+        if (!ByteRanges.start(plan, multipart, contentType, size, response) || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (multipart != null) {
+            ServletOutputStream out = response.getOutputStream();
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                for (int i = 0; i < plan.regions().size(); i++) {
+                    out.write(multipart.headers().get(i));
+                    transfer(in, plan.regions().get(i), out);
+                }
+            }
+            out.write(multipart.end());
+            return;
+        }
+
+        ByteRanges.Region region = plan.regions().get(0);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the region after this handler returns
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, region.start());
+            request.setAttribute(SENDFILE_END, region.end() + 1);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(in, region, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Receives an upload (whole object, or one part with {@code uploadId} and {@code partNumber}).
+     *
+     * @return 200 with the stored object's (or part's) ETag
+     * @throws SecurityException        if the URL signature is invalid or expired, or the {@code Content-Length} is not
+     *                                  the signed size of the object or part (checked before the body is read)
+     * @throws IllegalArgumentException if the body is not the signed size
+     * @throws NoSuchElementException   if the multipart upload no longer exists
+     */
+    @PutMapping("/**")
+    public ResponseEntity<Void> put(HttpServletRequest request,
+                                    @RequestParam(LocalFileStorageClient.EXPIRES) long expires,
+                                    @RequestParam(LocalFileStorageClient.SIGNATURE) String signature,
+                                    @RequestParam(required = false) String uploadId,
+                                    @RequestParam(required = false) Integer partNumber) throws IOException {
+        String key = key(request);
+        long length = request.getContentLengthLong();
+        files.verifyUpload(key, uploadId, partNumber, request.getContentType(), length, expires, signature);
+
+        Path received = files.tempFile();
+        try {
+            long written;
+            try (InputStream in = request.getInputStream()) {
+                written = Files.copy(in, received, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (length >= 0 && written != length) {
+                throw new IllegalArgumentException("Expected " + length + " bytes, received " + written);
+            }
+            return ResponseEntity.ok().eTag(files.commitUpload(received, key, uploadId, partNumber)).build();
+        } finally {
+            Files.deleteIfExists(received);
+        }
+    }
+
+    /** Positioned read of one region into the response (the file channel's position is not used). */
+    private static void transfer(FileChannel in, ByteRanges.Region region, OutputStream out) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(out);
+        for (long done = 0; done < region.length(); ) {
+            done += in.transferTo(region.start() + done, region.length() - done, channel);
+        }
+    }
+
+    /** The object key: the decoded request path after {@code /media-files/}. */
+    private static String key(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(path.substring(Math.min(path.length(), PATH.length() + 1)), StandardCharsets.UTF_8);
+    }
+}
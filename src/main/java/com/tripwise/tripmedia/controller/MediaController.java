@@ -1,17 +1,33 @@
 package com.tripwise.tripmedia.controller;
 
 
+import com.tripwise.tripmedia.dto.BulkDeleteResponse;
 import com.tripwise.tripmedia.dto.ConfirmUploadRequest;
+import com.tripwise.tripmedia.dto.InitUploadBatchResponse;
 import com.tripwise.tripmedia.dto.InitUploadRequest;
 import com.tripwise.tripmedia.dto.InitUploadResponse;
+import com.tripwise.tripmedia.dto.MediaPage;
 import com.tripwise.tripmedia.dto.MediaResponse;
 import com.tripwise.tripmedia.service.MediaService;
 import com.tripwise.tripmedia.service.client.StorageClient;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 
@@ -27,9 +43,12 @@ import java.util.List;
 @RestController
 @RequestMapping("/media")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Observed(name = "media.controller") // handler span, separate from JWT authentication in the filter chain
 public class MediaController {
 
     private final MediaService service;
+    private final ObjectMapper mapper;
 
     /**
      * Initializes a new media upload for the authenticated user.
@@ -58,6 +77,24 @@ public class MediaController {
         return service.initUpload(userId, request);
     }
 
+    /**
+     * Initializes several media uploads for the authenticated user in one call.
+     * This endpoint delegates to {@link MediaService#initUploadBatch(String, List)}, which checks ownership once per
+     * distinct journal, presigns all uploads and persists them with a single bulk insert.
+     *
+     * @param jwt      the authenticated user principal (JWT token)
+     * @param requests the upload initialization requests
+     * @return an {@link InitUploadBatchResponse} with one item per request, in request order
+     * @throws IllegalArgumentException if the batch is empty or too large
+     */
+    @PostMapping("init/batch")
+    public InitUploadBatchResponse initBatch(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody List<InitUploadRequest> requests) {
+        String userId = jwt.getSubject();
+        return service.initUploadBatch(userId, requests);
+    }
+
     /**
      * Confirms completion of a media upload for the authenticated user.
      * <p>
@@ -85,6 +122,29 @@ public class MediaController {
         return service.confirmUpload(userId, request);
     }
 
+    /**
+     * Lists a journal's media, newest first, with keyset (cursor) pagination.
+     * *
+     * This endpoint delegates to {@link MediaService#listJournalMedia(String, String, String, int)}. Pass the
+     * {@code nextCursor} of a page as {@code after} to fetch the following page.
+     *
+     * @param jwt       the authenticated user principal (JWT token)
+     * @param journalId the journal to list
+     * @param after     cursor of the previous page (omit for the first page)
+     * @param limit     page size
+     * @return a {@link MediaPage} with grid fields and the next cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     * @throws SecurityException        if the journal does not belong to the authenticated user
+     */
+    @GetMapping(params = "journalId")
+    public MediaPage list(@AuthenticationPrincipal Jwt jwt,
+                          @RequestParam String journalId,
+                          @RequestParam(required = false) String after,
+                          @RequestParam(defaultValue = "50") int limit) {
+        String userId = jwt.getSubject();
+        return service.listJournalMedia(journalId, userId, after, limit);
+    }
+
     /**
      * Retrieves a media resource by its unique identifier.
      * *
@@ -100,11 +160,59 @@ public class MediaController {
         return service.getMedia(id);
     }
 
+    /**
+     * Streams the bytes of a {@code READY} media from storage, for clients that cannot use its public URL.
+     * *
+     * Supports single and multi-range {@code Range} requests ({@code 206}, {@code multipart/byteranges}),
+     * {@code If-Range}, and {@code If-None-Match} / {@code If-Modified-Since} ({@code 304}); the ETag is the stored
+     * checksum (see {@link ByteRanges}). Each range is a ranged read from storage
+     * ({@link MediaService#openContent}), so seeking does not download the whole object.
+     *
+     * @param id the unique identifier of the media (path variable)
+     * @throws java.util.NoSuchElementException if no media with the given ID exists or it is not {@code READY}
+     */
+    @GetMapping("/{id}/content")
+    public void content(@PathVariable String id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        var content = service.getContent(id);
+        String contentType = content.mimeType() != null ? content.mimeType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        long lastModified = content.lastModified() != null ? content.lastModified().toEpochMilli() : -1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (content.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, content.etag());
+        }
+        if (lastModified >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+
+        var plan = ByteRanges.plan(request, content.etag(), lastModified, content.bytes());
+        var multipart = plan.multipart() ? ByteRanges.multipart(plan, contentType, content.bytes()) : null;
+        if (!ByteRanges.start(plan, multipart, contentType, content.bytes(), response)
+                || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+        ServletOutputStream out = response.getOutputStream();
+        for (int i = 0; i < plan.regions().size(); i++) {
+            ByteRanges.Region region = plan.regions().get(i);
+            if (multipart != null) {
+                out.write(multipart.headers().get(i));
+            }
+            try (InputStream in = service.openContent(content, region.start(), region.end())) {
+                in.transferTo(out);
+            }
+        }
+        if (multipart != null) {
+            out.write(multipart.end());
+        }
+    }
+
     /**
      * Retrieves multiple media resources by their unique identifiers.
      * *
      * This endpoint delegates to {@link MediaService#getMediaList(List)} to fetch and return the media records
-     * corresponding to the given IDs. Media that do not exist are simply ignored.
+     * corresponding to the given IDs, in request order. Duplicates are returned once; media that do not exist are
+     * simply ignored.
      *
      * @param ids a list of media identifiers to retrieve
      * @return a list of {@link MediaResponse} objects for the found media
@@ -114,13 +222,43 @@ public class MediaController {
         return service.getMediaList(ids);
     }
 
+    /**
+     * Streaming variant of {@link #byIds(List)}, selected with {@code Accept: application/x-ndjson}.
+     * *
+     * Writes one JSON {@link MediaResponse} per line, in request order, as soon as each chunk has been loaded
+     * (see {@link MediaService#streamMediaList(List, java.util.function.Consumer)}), so large requests do not
+     * build the whole response in memory.
+     *
+     * @param ids a list of media identifiers to retrieve
+     * @return the NDJSON response body
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody byIdsStream(@RequestBody List<String> ids) {
+        var writer = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return out -> {
+            try {
+                service.streamMediaList(ids, media -> {
+                    try {
+                        writer.writeValue(out, media);
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
     /**
      * Deletes a media resource owned by the authenticated user.
      * *
      * This endpoint delegates to {@link MediaService#deleteMedia(String, String)} to:
      * - Ensure the user owns the media.
-     * - Remove the object from storage (if it exists).
      * - Mark the media status as {@code DELETED}.
+     * - Queue its storage objects for background removal.
      * *
      * The user ID is extracted from the {@link Jwt} principal using {@link Jwt#getSubject()}. Adjust this if the user
      * identifier resides in a different claim.
@@ -136,4 +274,36 @@ public class MediaController {
         service.deleteMedia(id, userId);
     }
 
+    /**
+     * Deletes several media resources owned by the authenticated user.
+     * *
+     * This endpoint delegates to {@link MediaService#deleteMediaBatch(List, String)}: media are marked
+     * {@code DELETED} in one bulk update and their storage objects are purged in the background.
+     *
+     * @param jwt the authenticated user principal (JWT token)
+     * @param ids the media identifiers to delete
+     * @return a {@link BulkDeleteResponse} with the number of media marked deleted
+     */
+    @PostMapping("/delete/batch")
+    public BulkDeleteResponse deleteBatch(@AuthenticationPrincipal Jwt jwt, @RequestBody List<String> ids) {
+        String userId = jwt.getSubject();
+        return service.deleteMediaBatch(ids, userId);
+    }
+
+    /**
+     * Deletes all media of a journal owned by the authenticated user.
+     * *
+     * This endpoint delegates to {@link MediaService#deleteJournalMedia(String, String)}.
+     *
+     * @param jwt       the authenticated user principal (JWT token)
+     * @param journalId the journal whose media are deleted
+     * @return a {@link BulkDeleteResponse} with the number of media marked deleted
+     * @throws SecurityException if the user does not own the journal
+     */
+    @DeleteMapping("/journal/{journalId}")
+    public BulkDeleteResponse deleteJournal(@AuthenticationPrincipal Jwt jwt, @PathVariable String journalId) {
+        String userId = jwt.getSubject();
+        return service.deleteJournalMedia(journalId, userId);
+    }
+
 }
@@ -0,0 +1,170 @@
+package com.tripwise.tripmedia.controller;
+
+import com.tripwise.tripmedia.service.client.LocalFileStorageClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.controller
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:55
+ * Description : WebFlux counterpart of {@link LocalFileController}; same routes, headers and error mapping.
+ * - {@code GET} uses {@link ZeroCopyHttpOutputMessage} (Netty {@code FileRegion}, i.e. sendfile) when the response
+ * supports it, for the whole file or a single range; multi-range responses and the fallback use positioned reads
+ * of an {@link AsynchronousFileChannel} in 64 KiB buffers.
+ * - Filesystem calls run on {@link Schedulers#boundedElastic()}.
+ * ================================================================
+ */
+@RestController
+@RequestMapping(LocalFileController.PATH)
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "media.storage", havingValue = "local")
+public class ReactiveLocalFileController {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final LocalFileStorageClient files;
+
+    /**
+     * Streams an object, or the requested byte ranges of it; {@code HEAD} returns the headers only.
+     *
+     * @see LocalFileController#get
+     */
+    @GetMapping("/**")
+    public Mono<Void> get(ServerHttpRequest request, ServerHttpResponse response) {
+        String key = key(request);
+        return Mono.fromCallable(() -> {
+                    Path file = files.path(key);
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                        if (attributes.isRegularFile()) {
+                            return new Stat(file, attributes);
+                        }
+                    } catch (NoSuchFileException e) {
+                        // below
+                    }
+                    throw new NoSuchElementException("No object " + key);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stat -> {
+                    long size = stat.attributes().size();
+                    long lastModified = stat.attributes().lastModifiedTime().toMillis();
+                    String etag = LocalFileStorageClient.etag(size, stat.attributes().lastModifiedTime());
+                    String contentType = LocalFileStorageClient.contentType(key);
+                    var headers = response.getHeaders();
+                    headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+                    headers.setETag(etag);
+                    headers.setLastModified(lastModified);
+                    headers.setCacheControl("public, max-age=86400");
+
+                    var plan = ByteRanges.plan(request, etag, lastModified, size);
+                    var multipart = plan.multipart() ? ByteRanges.multipart(plan, contentType, size) : null;
+                    if (!ByteRanges.start(plan, multipart, contentType, size, response)
+                            || HttpMethod.HEAD.equals(request.getMethod())) {
+                        return response.setComplete();
+                    }
+                    if (multipart != null) {
+                        return response.writeWith(Flux.range(0, plan.regions().size())
+                                .concatMap(i -> Flux.concat(
+                                        Mono.fromSupplier(() -> wrap(multipart.headers().get(i))),
+                                        read(stat.file(), plan.regions().get(i))))
+                                .concatWith(Mono.fromSupplier(() -> wrap(multipart.end()))));
+                    }
+                    ByteRanges.Region region = plan.regions().get(0);
+                    if (response instanceof ZeroCopyHttpOutputMessage zeroCopy) {
+                        return zeroCopy.writeWith(stat.file(), region.start(), region.length());
+                    }
+                    return response.writeWith(read(stat.file(), region));
+                });
+    }
+
+    /**
+     * Receives an upload (whole object, or one part with {@code uploadId} and {@code partNumber}). The
+     * {@code Content-Length} must be the signed size of the object or part; it is checked before the body is read.
+     *
+     * @see LocalFileController#put
+     */
+    @PutMapping("/**")
+    public Mono<ResponseEntity<Void>> put(ServerHttpRequest request,
+                                          @RequestParam(LocalFileStorageClient.EXPIRES) long expires,
+                                          @RequestParam(LocalFileStorageClient.SIGNATURE) String signature,
+                                          @RequestParam(required = false) String uploadId,
+                                          @RequestParam(required = false) Integer partNumber) {
+        String key = key(request);
+        long length = request.getHeaders().getContentLength();
+        MediaType contentType = request.getHeaders().getContentType();
+        files.verifyUpload(key, uploadId, partNumber, contentType == null ? null : contentType.toString(),
+                length, expires, signature);
+
+        return Mono.fromCallable(files::tempFile)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(received -> DataBufferUtils.write(request.getBody(), received)
+                        .then(Mono.fromCallable(() -> {
+                            long written = Files.size(received);
+                            if (length >= 0 && written != length) {
+                                throw new IllegalArgumentException(
+                                        "Expected " + length + " bytes, received " + written);
+                            }
+                            return ResponseEntity.ok()
+                                    .eTag(files.commitUpload(received, key, uploadId, partNumber))
+                                    .<Void>build();
+                        }).subscribeOn(Schedulers.boundedElastic()))
+                        .doFinally(signal -> {
+                            try {
+                                Files.deleteIfExists(received);
+                            } catch (Exception e) {
+                                // a leftover in tmp/ is harmless
+                            }
+                        }));
+    }
+
+    /** Positioned reads of one region. */
+    private static Flux<DataBuffer> read(Path file, ByteRanges.Region region) {
+        return DataBufferUtils.takeUntilByteCount(DataBufferUtils.readAsynchronousFileChannel(
+                        () -> AsynchronousFileChannel.open(file, StandardOpenOption.READ),
+                        region.start(), DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE),
+                region.length());
+    }
+
+    private static DataBuffer wrap(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    /** The object key: the decoded request path after {@code /media-files/}. */
+    private static String key(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        return UriUtils.decode(path.substring(Math.min(path.length(), LocalFileController.PATH.length() + 1)),
+                StandardCharsets.UTF_8);
+    }
+
+    private record Stat(Path file, BasicFileAttributes attributes) {
+    }
+}
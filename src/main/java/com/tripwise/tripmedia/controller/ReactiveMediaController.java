@@ -0,0 +1,195 @@
+package com.tripwise.tripmedia.controller;
+
+
+import com.tripwise.tripmedia.dto.BulkDeleteResponse;
+import com.tripwise.tripmedia.dto.ConfirmUploadRequest;
+import com.tripwise.tripmedia.dto.InitUploadBatchResponse;
+import com.tripwise.tripmedia.dto.InitUploadRequest;
+import com.tripwise.tripmedia.dto.InitUploadResponse;
+import com.tripwise.tripmedia.dto.MediaPage;
+import com.tripwise.tripmedia.dto.MediaResponse;
+import com.tripwise.tripmedia.service.ReactiveMediaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.controller
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 21:20
+ * Description : WebFlux counterpart of {@link MediaController}; same routes, payloads and error mapping.
+ * - Active with the {@code reactive} profile ({@code spring.main.web-application-type=reactive}).
+ * ================================================================
+ */
+@RestController
+@RequestMapping("/media")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMediaController {
+
+    private final ReactiveMediaService service;
+
+    /**
+     * Initializes a new media upload for the authenticated user.
+     *
+     * @see MediaController#init(Jwt, InitUploadRequest)
+     */
+    @PostMapping("init")
+    public Mono<InitUploadResponse> init(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody InitUploadRequest request) {
+        return service.initUpload(jwt.getSubject(), request);
+    }
+
+    /**
+     * Initializes several media uploads for the authenticated user in one call.
+     *
+     * @see MediaController#initBatch(Jwt, List)
+     */
+    @PostMapping("init/batch")
+    public Mono<InitUploadBatchResponse> initBatch(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody List<InitUploadRequest> requests) {
+        return service.initUploadBatch(jwt.getSubject(), requests);
+    }
+
+    /**
+     * Confirms completion of a media upload for the authenticated user.
+     *
+     * @see MediaController#confirmUpload(Jwt, ConfirmUploadRequest)
+     */
+    @PostMapping("/confirm")
+    public Mono<MediaResponse> confirmUpload(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody ConfirmUploadRequest request) {
+        return service.confirmUpload(jwt.getSubject(), request);
+    }
+
+    /**
+     * Lists a journal's media, newest first, with keyset (cursor) pagination.
+     *
+     * @see MediaController#list(Jwt, String, String, int)
+     */
+    @GetMapping(params = "journalId")
+    public Mono<MediaPage> list(@AuthenticationPrincipal Jwt jwt,
+                                @RequestParam String journalId,
+                                @RequestParam(required = false) String after,
+                                @RequestParam(defaultValue = "50") int limit) {
+        return service.listJournalMedia(journalId, jwt.getSubject(), after, limit);
+    }
+
+    /**
+     * Retrieves a media resource by its unique identifier.
+     *
+     * @see MediaController#get(String)
+     */
+    @GetMapping("/{id}")
+    public Mono<MediaResponse> get(@PathVariable String id) {
+        return service.getMedia(id);
+    }
+
+    /**
+     * Streams the bytes of a {@code READY} media from storage, with {@code Range} and conditional request support.
+     *
+     * @see MediaController#content(String, jakarta.servlet.http.HttpServletRequest,
+     * jakarta.servlet.http.HttpServletResponse)
+     */
+    @GetMapping("/{id}/content")
+    public Mono<Void> content(@PathVariable String id, ServerHttpRequest request, ServerHttpResponse response) {
+        return service.getContent(id).flatMap(content -> {
+            String contentType = content.mimeType() != null
+                    ? content.mimeType()
+                    : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            long lastModified = content.lastModified() != null ? content.lastModified().toEpochMilli() : -1;
+            var headers = response.getHeaders();
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+            if (content.etag() != null) {
+                headers.setETag(content.etag());
+            }
+            if (lastModified >= 0) {
+                headers.setLastModified(lastModified);
+            }
+            headers.setCacheControl("private, max-age=86400");
+
+            var plan = ByteRanges.plan(request, content.etag(), lastModified, content.bytes());
+            var multipart = plan.multipart() ? ByteRanges.multipart(plan, contentType, content.bytes()) : null;
+            if (!ByteRanges.start(plan, multipart, contentType, content.bytes(), response)
+                    || HttpMethod.HEAD.equals(request.getMethod())) {
+                return response.setComplete();
+            }
+            Flux<DataBuffer> body = Flux.range(0, plan.regions().size()).concatMap(i -> {
+                ByteRanges.Region region = plan.regions().get(i);
+                var bytes = service.openContent(content, region.start(), region.end());
+                return multipart == null
+                        ? bytes
+                        : Flux.concat(Mono.fromSupplier(() -> wrap(multipart.headers().get(i))), bytes);
+            });
+            return response.writeWith(multipart == null
+                    ? body
+                    : body.concatWith(Mono.fromSupplier(() -> wrap(multipart.end()))));
+        });
+    }
+
+    private static DataBuffer wrap(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    /**
+     * Retrieves multiple media resources by their unique identifiers, in request order.
+     * *
+     * Rendered as a JSON array, or streamed one object per line with {@code Accept: application/x-ndjson}.
+     *
+     * @see MediaController#byIds(List)
+     */
+    @PostMapping("/batch")
+    public Flux<MediaResponse> byIds(@RequestBody List<String> ids) {
+        return service.getMediaList(ids);
+    }
+
+    /**
+     * Deletes a media resource owned by the authenticated user.
+     *
+     * @see MediaController#delete(Jwt, String)
+     */
+    @DeleteMapping("/{id}")
+    public Mono<Void> delete(@AuthenticationPrincipal Jwt jwt, @PathVariable String id) {
+        return service.deleteMedia(id, jwt.getSubject());
+    }
+
+    /**
+     * Deletes several media resources owned by the authenticated user.
+     *
+     * @see MediaController#deleteBatch(Jwt, List)
+     */
+    @PostMapping("/delete/batch")
+    public Mono<BulkDeleteResponse> deleteBatch(@AuthenticationPrincipal Jwt jwt, @RequestBody List<String> ids) {
+        return service.deleteMediaBatch(ids, jwt.getSubject());
+    }
+
+    /**
+     * Deletes all media of a journal owned by the authenticated user.
+     *
+     * @see MediaController#deleteJournal(Jwt, String)
+     */
+    @DeleteMapping("/journal/{journalId}")
+    public Mono<BulkDeleteResponse> deleteJournal(@AuthenticationPrincipal Jwt jwt, @PathVariable String journalId) {
+        return service.deleteJournalMedia(journalId, jwt.getSubject());
+    }
+
+}
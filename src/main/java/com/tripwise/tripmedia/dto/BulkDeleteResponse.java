@@ -0,0 +1,29 @@
+package com.tripwise.tripmedia.dto;
+
+import lombok.*;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.dto
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 15:30
+ * Description : Response DTO of the bulk delete endpoints.
+ * - Storage objects are removed asynchronously after the response.
+ * ================================================================
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDeleteResponse {
+    /**
+     * Number of media IDs in the request ({@code 0} for journal deletes).
+     */
+    private int requested;
+
+    /**
+     * Number of media marked {@code DELETED}; missing, foreign or already deleted media are not counted.
+     */
+    private long deleted;
+}
@@ -0,0 +1,34 @@
+package com.tripwise.tripmedia.dto;
+
+import lombok.*;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.dto
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 09:10
+ * Description : One entry of a batch upload initialization result.
+ * - Exactly one of {@code upload} or {@code error} is set.
+ * ================================================================
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InitUploadBatchItem {
+    /**
+     * Position of the corresponding {@link InitUploadRequest} in the request list.
+     */
+    private int index;
+
+    /**
+     * Upload instructions, when the item was initialized successfully.
+     */
+    private InitUploadResponse upload;
+
+    /**
+     * Reason the item was rejected (e.g., "Not Owner"), otherwise {@code null}.
+     */
+    private String error;
+}
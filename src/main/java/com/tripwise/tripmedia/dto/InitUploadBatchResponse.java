@@ -0,0 +1,38 @@
+package com.tripwise.tripmedia.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.dto
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 09:12
+ * Description : Response DTO of {@code POST /media/init/batch}.
+ * - {@code items} are returned in request order, one per {@link InitUploadRequest}.
+ * ================================================================
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InitUploadBatchResponse {
+    /**
+     * Per-request results, in request order.
+     */
+    @Builder.Default
+    private List<InitUploadBatchItem> items = new ArrayList<>();
+
+    /**
+     * Number of items that were initialized successfully.
+     */
+    private int succeeded;
+
+    /**
+     * Number of items that were rejected.
+     */
+    private int failed;
+}
@@ -50,4 +50,11 @@ public class InitUploadRequest {
      /** The journal this media belongs to. Must belong to the caller (userId). */
      @NotBlank
      private String journalId;
+
+     /**
+      * Optional hex checksum of the file, computed like the one sent to {@code confirm} (SHA-256 by default).
+      * - If one of the caller's {@code READY} media has it, the new media references that media's storage object and
+      * variants: it is {@code READY} at once and nothing is uploaded ({@link InitUploadResponse#isDeduplicated()}).
+      */
+     private String checksum;
 }
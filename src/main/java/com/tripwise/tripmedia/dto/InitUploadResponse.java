@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -50,12 +51,26 @@ public class InitUploadResponse {
     private String storageKey;
 
 
-    /** Presigned PUT URL (expires). */
-    @NotBlank
+    /** Presigned PUT URL (expires). {@code null} for multipart uploads, which use {@code parts} instead. */
     private String uploadUrl;
 
     /** Any headers the client must include when uploading to the presigned URL. */
     @Builder.Default
     private Map<String, String> headers = Map.of();
+
+    /** Multipart upload ID; {@code null} for single PUT uploads. */
+    private String uploadId;
+
+    /** Size of every part except the last (multipart only). */
+    private Long partSize;
+
+    /** One presigned URL per part; parts may be uploaded in parallel (multipart only). */
+    private List<UploadPart> parts;
+
+    /**
+     * {@code true} if the file was already stored (same checksum): the media is {@code READY}, there is no upload URL
+     * and no confirm is needed.
+     */
+    private boolean deduplicated;
 }
 
@@ -0,0 +1,98 @@
+package com.tripwise.tripmedia.dto;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.model.MediaVariant;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.dto
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 16:58
+ * Description : One item of a journal page ({@link MediaPage}): only the fields a grid renders.
+ * - Built from the projected list query, so owner, size, checksum, storage key and tags are not loaded and not part
+ * of this shape; use {@code GET /media/{id}} ({@link MediaResponse}) for the full record.
+ * ================================================================
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaGridItem {
+    /**
+     * Media document ID.
+     */
+    private String id;
+
+    /**
+     * Journal the media belongs to.
+     */
+    private String journalId;
+
+    /**
+     * Original filename.
+     */
+    private String filename;
+
+    /**
+     * MIME type (e.g., image/jpeg).
+     */
+    private String mimeType;
+
+    /**
+     * Public CDN URL.
+     */
+    private String cdnUrl;
+
+    /**
+     * Pixel width (if applicable).
+     */
+    private Integer width;
+
+    /**
+     * Pixel height (if applicable).
+     */
+    private Integer height;
+
+    /**
+     * Generated/transcoded variants.
+     */
+    private List<MediaVariant> variants;
+
+    /**
+     * Processing/publication status.
+     */
+    private MediaStatus status;
+
+    /**
+     * Creation timestamp (UTC).
+     */
+    private Instant createdAt;
+
+    /**
+     * Build a {@code MediaGridItem} from a (projected) {@code Media} entity.
+     */
+    public static MediaGridItem from(Media m) {
+
+        if (m == null) return null;
+
+        return MediaGridItem.builder()
+                .id(m.getId())
+                .journalId(m.getJournalId())
+                .filename(m.getFileName())
+                .mimeType(m.getMimeType())
+                .cdnUrl(m.getCdnUrl())
+                .width(m.getWidth())
+                .height(m.getHeight())
+                .variants(m.getVariants() != null ? m.getVariants() : new ArrayList<>())
+                .status(m.getStatus())
+                .createdAt(m.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.tripwise.tripmedia.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.dto
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 16:55
+ * Description : One page of a journal's media (keyset pagination).
+ * - Items carry only the grid fields ({@link MediaGridItem}); use {@code GET /media/{id}} for the full record.
+ * ================================================================
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaPage {
+    /**
+     * Media of this page, newest first.
+     */
+    @Builder.Default
+    private List<MediaGridItem> items = new ArrayList<>();
+
+    /**
+     * Cursor to pass as {@code after} for the next page; {@code null} on the last page.
+     */
+    private String nextCursor;
+}
@@ -119,7 +119,12 @@ public class MediaResponse {
                 .journalId(m.getJournalId())
                 .filename(m.getFileName())
                 .mimeType(m.getMimeType())
+                .checksum(m.getChecksum())
+                .storageKey(m.getStorageKey())
+                .cdnUrl(m.getCdnUrl())
                 .bytes(m.getBytes())
+                .width(m.getWidth())
+                .height(m.getHeight())
                 .tags(m.getTags() != null ? m.getTags() : new ArrayList<>())
                 .variants(m.getVariants() != null ? m.getVariants() : new ArrayList<>())
                 .status(m.getStatus())
@@ -0,0 +1,26 @@
+package com.tripwise.tripmedia.dto;
+
+import lombok.*;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.dto
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 10:08
+ * Description : Presigned PUT URL for one part of a multipart upload.
+ * ================================================================
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadPart {
+    /**
+     * 1-based part number; bytes {@code [(n-1)*partSize, n*partSize)} of the file.
+     */
+    private int partNumber;
+
+    /** Presigned PUT URL for this part (expires). */
+    private String uploadUrl;
+}
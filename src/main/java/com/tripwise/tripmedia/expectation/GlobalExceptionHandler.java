@@ -1,5 +1,6 @@
 package com.tripwise.tripmedia.expectation;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -34,6 +35,22 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> br(IllegalArgumentException e){
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error",e.getMessage())
+                );
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> cf(OptimisticLockingFailureException e){
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(Map.of("error",e.getMessage())
+                );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> gx(Exception e){
         return ResponseEntity
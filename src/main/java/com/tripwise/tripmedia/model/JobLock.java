@@ -0,0 +1,44 @@
+package com.tripwise.tripmedia.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.model
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 07:00
+ * Description : Lease of a background job that must run on one replica at a time.
+ * - One document per job; the replica named in {@code owner} holds it until {@code lockedUntil}.
+ * ================================================================
+ */
+@Document(collection = "job_locks")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class JobLock {
+
+    /**
+     * Job name (e.g. {@code upload-reaper}).
+     */
+    @Id
+    private String name;
+
+    /**
+     * Instance ID of the replica holding the lease.
+     */
+    private String owner;
+
+    /**
+     * End of the lease; afterwards any replica may take it over.
+     */
+    private Instant lockedUntil;
+}
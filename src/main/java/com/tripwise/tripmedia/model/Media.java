@@ -5,7 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -21,7 +27,18 @@ import java.util.List;
  * Description : Represents a media in a document in MongoDB
  * ================================================================
  */
-@Document(collation = "media")
+@Document(collection = "media")
+@CompoundIndexes({
+        // journal grid (keyset pagination) and journal-wide deletes
+        @CompoundIndex(name = "journal_created_id", def = "{'journalId': 1, 'createdAt': -1, '_id': -1}"),
+        // lifecycle jobs: tombstones
+        @CompoundIndex(name = "status_updated", def = "{'status': 1, 'updatedAt': 1}"),
+        // stale-upload reaper: UPLOADING media oldest first
+        @CompoundIndex(name = "status_created", def = "{'status': 1, 'createdAt': 1}"),
+        // purge backlog; only pending documents are indexed
+        @CompoundIndex(name = "purge_backlog", def = "{'purgePending': 1, 'purgeAttempts': 1, 'updatedAt': 1}",
+                partialFilter = "{'purgePending': true}")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -36,6 +53,7 @@ public class Media {
     /**
      * Owner user ID.
      */
+    @Indexed(name = "user")
     private String userId;
 
     /**
@@ -59,6 +77,7 @@ public class Media {
     private Long bytes;
 
     /** Size and optional integrity/dimensions. */
+    @Indexed(name = "checksum", sparse = true)
     private String checksum;
     private Integer width;
     private Integer height;
@@ -67,6 +86,23 @@ public class Media {
     private String storageKey;
     private String cdnUrl;
 
+    /**
+     * Media whose storage object this media references instead of its own upload (checksum deduplication); the
+     * object and its variants are shared and reference-counted in {@link MediaObject}.
+     */
+    @Indexed(name = "source", sparse = true)
+    private String sourceId;
+
+    /**
+     * {@code true} once other media reference this media's storage object.
+     */
+    private Boolean shared;
+
+    /**
+     * Pending multipart upload ID; set while a multipart upload is in progress, cleared once it is completed.
+     */
+    private String uploadId;
+
 
     /**
      * Tags for categorizing or searching the media.
@@ -87,14 +123,46 @@ public class Media {
     @Builder.Default
     private MediaStatus status = MediaStatus.UPLOADING;
 
+    /**
+     * When the upload was last handed to the {@code UploadVerifier}; the reaper leaves it alone until this is stale.
+     */
+    private Instant verifyingSince;
+
+    /**
+     * {@code true} while a deleted media still has objects in storage; cleared by the purger once they are removed.
+     */
+    private Boolean purgePending;
+
+    /**
+     * Number of failed storage purge attempts.
+     */
+    private Integer purgeAttempts;
+
+    /**
+     * Whether the storage object may be referenced by other media, so deleting it needs the {@link MediaObject}
+     * reference count.
+     */
+    public boolean sharesObject() {
+        return sourceId != null || Boolean.TRUE.equals(shared);
+    }
+
     /**
      * Timestamp when the media was created.
      */
+    @CreatedDate
     private Instant createdAt;
 
     /**
      * Timestamp when the media was last updated.
      */
+    @LastModifiedDate
     private Instant updatedAt;
 
+    /**
+     * Optimistic-locking version; incremented by every write, so a stale full-document {@code save} fails instead of
+     * overwriting a concurrent status transition.
+     */
+    @Version
+    private Long version;
+
 }
@@ -0,0 +1,58 @@
+package com.tripwise.tripmedia.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.model
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 06:30
+ * Description : Reference count of a storage object shared by several media (checksum deduplication).
+ * - Only shared objects have a document; an object used by a single media is owned by it alone.
+ * - {@code holders} are the IDs of the media that still use the object, so adding and removing a reference is
+ * idempotent ({@code $addToSet}/{@code $pull}) and a retried purge cannot release it twice.
+ * - Once released, the document stays as a tombstone until {@code expireAt} so a concurrent deduplication cannot
+ * re-share an object that is being deleted.
+ * ================================================================
+ */
+@Document(collection = "media_objects")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MediaObject {
+
+    /**
+     * Storage key of the shared original.
+     */
+    @Id
+    private String storageKey;
+
+    /**
+     * IDs of the media referencing the object.
+     */
+    @Builder.Default
+    private List<String> holders = new ArrayList<>();
+
+    /**
+     * {@code true} once the last holder is gone and the objects may be deleted.
+     */
+    private Boolean released;
+
+    /**
+     * When a released tombstone is removed (TTL index).
+     */
+    @Indexed(name = "released_expiry", expireAfter = "0s")
+    private Instant expireAt;
+}
@@ -1,8 +1,13 @@
 package com.tripwise.tripmedia.repository;
 
 import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
+import java.time.Instant;
 import java.util.*;
 
 /**
@@ -14,7 +19,7 @@ import java.util.*;
  * Description : Repository interface for accessing and managing {@link Media} documents in MongoDB.
  * ================================================================
  */
-public interface MediaRepository extends MongoRepository<Media, String> {
+public interface MediaRepository extends MongoRepository<Media, String>, MediaRepositoryCustom {
 
     /**
      * Provides built-in CRUD operations such as:
@@ -22,6 +27,7 @@ public interface MediaRepository extends MongoRepository<Media, String> {
      * - {@code findById(String id)}
      * - {@code findAll()}
      * - {@code deleteById(String id)}
+     * Journal listing (keyset pagination) lives in {@link MediaRepositoryCustom}.
      * */
 
     /** -------------------------------------------------------------------------------------------
@@ -36,6 +42,81 @@ public interface MediaRepository extends MongoRepository<Media, String> {
      */
     List<Media> findByIdIn(Collection<String> ids);
 
+    /**
+     * Finds one of a user's media with the given checksum and status (deduplication source), via the
+     * {@code checksum} index.
+     *
+     * @param userId   owner
+     * @param checksum hex checksum of the content
+     * @param status   required status (normally {@code READY})
+     * @return a matching media, if any
+     */
+    Optional<Media> findFirstByUserIdAndChecksumAndStatus(String userId, String checksum, MediaStatus status);
+
+    /** -------------------------------------------------------------------------------------------
+     * Bulk lifecycle updates (single multi-document update each)
+     -------------------------------------------------------------------------------------------*/
 
-    Optional<Media> findByJournalId(String id);
+    /**
+     * Marks the given media of a user as {@code DELETED} and queues their objects for purging.
+     * Media owned by other users or already deleted are left untouched.
+     *
+     * @param ids    media IDs
+     * @param userId owner; only this user's media are affected
+     * @param now    update timestamp
+     * @return the number of media marked deleted
+     */
+    @Query("{ '_id': { '$in': ?0 }, 'userId': ?1, 'status': { '$ne': 'DELETED' } }")
+    @Update("{ '$set': { 'status': 'DELETED', 'purgePending': true, 'updatedAt': ?2 }, '$inc': { 'version': 1 } }")
+    long markDeleted(Collection<String> ids, String userId, Instant now);
+
+    /**
+     * Marks all media of a user in a journal as {@code DELETED} and queues their objects for purging.
+     *
+     * @param journalId journal whose media are deleted
+     * @param userId    owner; only this user's media are affected
+     * @param now       update timestamp
+     * @return the number of media marked deleted
+     */
+    @Query("{ 'journalId': ?0, 'userId': ?1, 'status': { '$ne': 'DELETED' } }")
+    @Update("{ '$set': { 'status': 'DELETED', 'purgePending': true, 'updatedAt': ?2 }, '$inc': { 'version': 1 } }")
+    long markDeletedByJournal(String journalId, String userId, Instant now);
+
+    /**
+     * Media in a status created within a time window, for lifecycle jobs such as the stale-upload reaper
+     * (served by the {@code status_created} index).
+     *
+     * @param status media status
+     * @param from   exclusive lower bound of {@code createdAt}
+     * @param to     exclusive upper bound of {@code createdAt}
+     * @param page   page size and order
+     * @return up to {@code page.getPageSize()} media
+     */
+    List<Media> findByStatusAndCreatedAtBetween(MediaStatus status, Instant from, Instant to, Pageable page);
+
+    /**
+     * Deleted media whose storage objects still have to be removed (the durable purge backlog).
+     *
+     * @param page batch size and ordering
+     * @return up to {@code page.getPageSize()} media pending purge
+     */
+    List<Media> findByPurgePendingTrue(Pageable page);
+
+    /**
+     * Removes media from the purge backlog once their objects are gone.
+     *
+     * @param ids media IDs
+     */
+    @Query("{ '_id': { '$in': ?0 } }")
+    @Update("{ '$unset': { 'purgePending': '', 'purgeAttempts': '' } }")
+    void clearPurgePending(Collection<String> ids);
+
+    /**
+     * Records a failed purge attempt; the media stays in the backlog and is retried later.
+     *
+     * @param ids media IDs
+     */
+    @Query("{ '_id': { '$in': ?0 } }")
+    @Update("{ '$inc': { 'purgeAttempts': 1 } }")
+    void incrementPurgeAttempts(Collection<String> ids);
 }
@@ -0,0 +1,50 @@
+package com.tripwise.tripmedia.repository;
+
+import com.tripwise.tripmedia.model.Media;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.repository
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 16:40
+ * Description : Custom {@link MediaRepository} queries that cannot be expressed as derived queries.
+ * - Implemented by {@link MediaRepositoryImpl} with {@code MongoTemplate}.
+ * ================================================================
+ */
+public interface MediaRepositoryCustom {
+
+    /**
+     * Keyset (cursor) page of a journal's non-deleted media, newest first, ordered by {@code (createdAt, _id)}
+     * descending. Only the fields a grid needs are loaded.
+     * <p>
+     * Served from the {@code journal_created_id} index, so the cost depends on {@code limit} only, not on the
+     * position in the journal.
+     *
+     * @param journalId      the journal to list
+     * @param afterCreatedAt {@code createdAt} of the last item of the previous page, or {@code null} if that item has
+     *                       none (media without {@code createdAt} come last and are paged by {@code _id} alone)
+     * @param afterId        {@code id} of the last item of the previous page, or {@code null} for the first page
+     * @param limit          maximum number of items
+     * @return up to {@code limit} media, in page order
+     */
+    List<Media> findJournalPage(String journalId, Instant afterCreatedAt, String afterId, int limit);
+
+    /**
+     * Atomic conditional update ({@code findAndModify}): applies {@code update} only if the media belongs to the user
+     * and matches {@code expected}, increments {@code version} and returns the updated document, in one round trip.
+     *
+     * @param id       media ID
+     * @param userId   owner; media of other users are never modified
+     * @param expected precondition on the current document (e.g. {@code status = UPLOADING})
+     * @param update   changes to apply
+     * @return the media after the update, or {@code null} if it does not exist, is not owned by the user or does not
+     * match {@code expected}
+     */
+    Media findAndTransition(String id, String userId, Criteria expected, Update update);
+}
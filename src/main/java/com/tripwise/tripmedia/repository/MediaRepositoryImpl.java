@@ -0,0 +1,72 @@
+package com.tripwise.tripmedia.repository;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.repository
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 16:45
+ * Description : {@link MongoTemplate}-based implementation of {@link MediaRepositoryCustom}.
+ * ================================================================
+ */
+@RequiredArgsConstructor
+public class MediaRepositoryImpl implements MediaRepositoryCustom {
+
+    private final MongoTemplate mongo;
+
+    /** Fields rendered by the journal grid ({@code MediaGridItem}); the rest of the document is not loaded. */
+    private static final String[] GRID_FIELDS = {
+            "journalId", "fileName", "mimeType", "width", "height", "cdnUrl", "variants", "status", "createdAt"
+    };
+
+    @Override
+    public List<Media> findJournalPage(String journalId, Instant afterCreatedAt, String afterId, int limit) {
+        return mongo.find(journalPageQuery(journalId, afterCreatedAt, afterId, limit), Media.class);
+    }
+
+    @Override
+    public Media findAndTransition(String id, String userId, Criteria expected, Update update) {
+        Query query = Query.query(new Criteria()
+                .andOperator(Criteria.where("_id").is(id).and("userId").is(userId), expected));
+        return mongo.findAndModify(query, update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), Media.class);
+    }
+
+    /**
+     * Query behind {@link #findJournalPage}; exposed to the query-plan tests.
+     */
+    static Query journalPageQuery(String journalId, Instant afterCreatedAt, String afterId, int limit) {
+        Criteria criteria = Criteria.where("journalId").is(journalId);
+
+        // Seek past the previous page: (createdAt, _id) < (afterCreatedAt, afterId). Media without createdAt sort
+        // last in descending order and $lt never matches them, so they are reached explicitly and then paged by _id
+        if (afterId != null && afterCreatedAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(afterCreatedAt),
+                    Criteria.where("createdAt").is(afterCreatedAt).and("_id").lt(afterId),
+                    Criteria.where("createdAt").is(null));
+        } else if (afterId != null) {
+            criteria = criteria.and("createdAt").is(null).and("_id").lt(afterId);
+        }
+        criteria = criteria.and("status").ne(MediaStatus.DELETED);
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+        query.fields().include(GRID_FIELDS);
+        return query;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tripwise.tripmedia.repository;
+
+import com.tripwise.tripmedia.model.Media;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.repository
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:55
+ * Description : Non-blocking counterpart of {@link MediaRepository} for the reactive web stack.
+ * - Same queries and updates as {@link MediaRepository}; only request-path operations are mirrored.
+ * - Only created in the {@code reactive} profile (reactive Mongo auto-configuration is excluded otherwise).
+ * ================================================================
+ */
+public interface ReactiveMediaRepository extends ReactiveMongoRepository<Media, String>, ReactiveMediaRepositoryCustom {
+
+    /**
+     * Finds all {@link Media} documents whose IDs are contained in the given collection.
+     *
+     * @param ids a collection of media IDs
+     * @return the matching {@link Media} documents, in no particular order
+     */
+    Flux<Media> findByIdIn(Collection<String> ids);
+
+    /**
+     * Marks the given media of a user as {@code DELETED} and queues their objects for purging.
+     *
+     * @see MediaRepository#markDeleted(Collection, String, Instant)
+     */
+    @Query("{ '_id': { '$in': ?0 }, 'userId': ?1, 'status': { '$ne': 'DELETED' } }")
+    @Update("{ '$set': { 'status': 'DELETED', 'purgePending': true, 'updatedAt': ?2 }, '$inc': { 'version': 1 } }")
+    Mono<Long> markDeleted(Collection<String> ids, String userId, Instant now);
+
+    /**
+     * Marks all media of a user in a journal as {@code DELETED} and queues their objects for purging.
+     *
+     * @see MediaRepository#markDeletedByJournal(String, String, Instant)
+     */
+    @Query("{ 'journalId': ?0, 'userId': ?1, 'status': { '$ne': 'DELETED' } }")
+    @Update("{ '$set': { 'status': 'DELETED', 'purgePending': true, 'updatedAt': ?2 }, '$inc': { 'version': 1 } }")
+    Mono<Long> markDeletedByJournal(String journalId, String userId, Instant now);
+}
@@ -0,0 +1,38 @@
+package com.tripwise.tripmedia.repository;
+
+import com.tripwise.tripmedia.model.Media;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.repository
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:55
+ * Description : Non-blocking counterpart of {@link MediaRepositoryCustom}.
+ * - Implemented by {@link ReactiveMediaRepositoryImpl} with {@code ReactiveMongoTemplate}.
+ * ================================================================
+ */
+public interface ReactiveMediaRepositoryCustom {
+
+    /**
+     * Keyset page of a journal's non-deleted media, newest first.
+     *
+     * @see MediaRepositoryCustom#findJournalPage(String, Instant, String, int)
+     */
+    Flux<Media> findJournalPage(String journalId, Instant afterCreatedAt, String afterId, int limit);
+
+    /**
+     * Atomic conditional update ({@code findAndModify}) returning the updated document.
+     *
+     * @return the media after the update, or empty if it does not exist, is not owned by the user or does not match
+     * {@code expected}
+     * @see MediaRepositoryCustom#findAndTransition(String, String, Criteria, Update)
+     */
+    Mono<Media> findAndTransition(String id, String userId, Criteria expected, Update update);
+}
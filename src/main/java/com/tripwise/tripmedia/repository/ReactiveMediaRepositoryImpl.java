@@ -0,0 +1,42 @@
+package com.tripwise.tripmedia.repository;
+
+import com.tripwise.tripmedia.model.Media;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.repository
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 21:00
+ * Description : {@link ReactiveMongoTemplate}-based implementation of {@link ReactiveMediaRepositoryCustom}.
+ * - Builds the same queries as {@link MediaRepositoryImpl}.
+ * ================================================================
+ */
+@RequiredArgsConstructor
+public class ReactiveMediaRepositoryImpl implements ReactiveMediaRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongo;
+
+    @Override
+    public Flux<Media> findJournalPage(String journalId, Instant afterCreatedAt, String afterId, int limit) {
+        return mongo.find(MediaRepositoryImpl.journalPageQuery(journalId, afterCreatedAt, afterId, limit), Media.class);
+    }
+
+    @Override
+    public Mono<Media> findAndTransition(String id, String userId, Criteria expected, Update update) {
+        Query query = Query.query(new Criteria()
+                .andOperator(Criteria.where("_id").is(id).and("userId").is(userId), expected));
+        return mongo.findAndModify(query, update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(true), Media.class);
+    }
+}
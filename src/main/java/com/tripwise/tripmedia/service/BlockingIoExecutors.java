@@ -0,0 +1,50 @@
+package com.tripwise.tripmedia.service;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 21:55
+ * Description : Executors for tasks that block on I/O (MongoDB queries, ranged S3 GETs).
+ * - Platform threads: a fixed pool of daemon threads, as before.
+ * - With {@code spring.threads.virtual.enabled=true} on Java 21+ (the same switch Spring Boot uses for Tomcat and
+ * {@code @Scheduled}): one virtual thread per task. Callers already bound how many tasks they have in flight,
+ * so the pool size no longer caps concurrency across requests.
+ * ================================================================
+ */
+final class BlockingIoExecutors {
+
+    private BlockingIoExecutors() {
+    }
+
+    /**
+     * @param environment     decides platform vs virtual threads, like Spring Boot's own executors
+     * @param prefix          thread name prefix
+     * @param platformThreads pool size when running on platform threads
+     */
+    static ExecutorService create(Environment environment, String prefix, int platformThreads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            ThreadFactory factory = new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+            // No core threads and no keep-alive: every task starts a fresh virtual thread
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), factory);
+        }
+        return Executors.newFixedThreadPool(platformThreads, daemon(prefix));
+    }
+
+    static ThreadFactory daemon(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
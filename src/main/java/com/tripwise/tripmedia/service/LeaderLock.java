@@ -0,0 +1,71 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.JobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 07:05
+ * Description : Time-bounded leases in MongoDB ({@link JobLock}) so a scheduled job runs on a single replica.
+ * - Acquiring is one conditional upsert: it matches when the lease has expired or is already ours; otherwise the
+ * upsert collides with the existing {@code _id} and the lease is held elsewhere.
+ * - A replica that dies keeps the lease only until it expires, so the lease must outlast one run of the job.
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class LeaderLock {
+
+    private final MongoTemplate mongo;
+    private final String owner = UUID.randomUUID().toString();
+
+    public LeaderLock(MongoTemplate mongo) {
+        this.mongo = mongo;
+    }
+
+    /**
+     * Takes (or renews) the lease of a job.
+     *
+     * @param name  job name
+     * @param lease how long the lease is held without renewal
+     * @return {@code true} if this replica now holds the lease
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        Instant now = Instant.now();
+        try {
+            mongo.upsert(
+                    query(where("_id").is(name).orOperator(
+                            where("lockedUntil").lte(now), where("owner").is(owner))),
+                    new Update().set("owner", owner).set("lockedUntil", now.plus(lease)),
+                    JobLock.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("Lease {} is held by another replica", name);
+            return false;
+        }
+    }
+
+    /**
+     * Gives the lease up early so another replica does not have to wait for it to expire.
+     */
+    public void release(String name) {
+        mongo.updateFirst(
+                query(where("_id").is(name).and("owner").is(owner)),
+                new Update().set("lockedUntil", Instant.now()),
+                JobLock.class);
+    }
+}
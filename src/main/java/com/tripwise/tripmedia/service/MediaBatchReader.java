@@ -0,0 +1,121 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.repository.MediaRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 16:05
+ * Description : Order-preserving batch lookup of {@link Media} by ID.
+ * - IDs are de-duplicated (first occurrence wins) and split into chunks of {@code chunk-size}.
+ * - Chunks are queried with {@code $in} concurrently, at most {@code concurrency} at a time, and emitted in
+ * request order; only the chunks in flight are held in memory.
+ * - All requests share one pool of {@code pool-size} query threads (one virtual thread per chunk instead when
+ * virtual threads are enabled, see {@link BlockingIoExecutors}).
+ * ================================================================
+ */
+@Component
+public class MediaBatchReader {
+
+    private final MediaRepository repository;
+    private final int chunkSize;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    public MediaBatchReader(MediaRepository repository,
+                            @Value("${media.batch.chunk-size:200}") int chunkSize,
+                            @Value("${media.batch.concurrency:4}") int concurrency,
+                            @Value("${media.batch.pool-size:16}") int poolSize,
+                            Environment environment) {
+        this.repository = repository;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.executor = BlockingIoExecutors.create(environment, "media-batch-", Math.max(this.concurrency, poolSize));
+    }
+
+    /**
+     * Loads the media for the given IDs, in request order, skipping unknown and duplicate IDs.
+     *
+     * @param ids media IDs
+     * @return the found media, ordered like the first occurrence of their ID in {@code ids}
+     */
+    public List<Media> findAllInOrder(List<String> ids) {
+        List<Media> result = new ArrayList<>();
+        forEachInOrder(ids, result::add);
+        return result;
+    }
+
+    /**
+     * Streams the media for the given IDs to {@code sink}, in request order, as soon as each chunk (and all chunks
+     * before it) have been loaded.
+     *
+     * @param ids  media IDs
+     * @param sink receives each found media; called on the caller's thread
+     */
+    public void forEachInOrder(List<String> ids, Consumer<Media> sink) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Deque<Map.Entry<List<String>, Future<Map<String, Media>>>> window = new ArrayDeque<>();
+        int next = 0;
+
+        try {
+            while (next < distinct.size() || !window.isEmpty()) {
+                while (next < distinct.size() && window.size() < concurrency) {
+                    List<String> chunk = distinct.subList(next, Math.min(distinct.size(), next + chunkSize));
+                    window.add(Map.entry(chunk, executor.submit(() -> load(chunk))));
+                    next += chunk.size();
+                }
+
+                var head = window.poll();
+                Map<String, Media> found = await(head.getValue());
+                for (String id : head.getKey()) {
+                    Media m = found.get(id);
+                    if (m != null) {
+                        sink.accept(m);
+                    }
+                }
+            }
+        } finally {
+            window.forEach(e -> e.getValue().cancel(true));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Map<String, Media> load(List<String> chunk) {
+        return repository.findByIdIn(chunk).stream()
+                .collect(Collectors.toMap(Media::getId, Function.identity(), (a, b) -> a));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading media", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re
+                    ? re
+                    : new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.tripwise.tripmedia.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tripwise.tripmedia.dto.MediaResponse;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.model.MediaVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 18:20
+ * Description : In-process near-cache of {@link MediaResponse} by media ID.
+ * - Bounded by an estimated memory footprint ({@code max-bytes}), not by entry count.
+ * - Lifecycle-aware TTLs: {@code UPLOADING} entries expire quickly, settled entries (READY/FAILED/DELETED) live
+ * longer.
+ * - Every code path that changes a media document must call {@link #invalidate}; writes made by other replicas
+ * arrive through {@link MediaChangeStreamListener} when it is enabled.
+ * - Reads fill the cache only through {@link #put(Media, long)}: the reader takes a {@link #stamp()} before querying
+ * MongoDB, and a result read before a later invalidation of the same ID (or a {@link #flush} /
+ * {@link #invalidateJournal}) is dropped instead of being served for {@code settled-ttl}. Of two racing reads, the
+ * one with the higher {@code version} stays.
+ * <pre>
+ * media:
+ *   cache:
+ *     max-bytes: 67108864
+ *     uploading-ttl: 5s
+ *     settled-ttl: 10m
+ * </pre>
+ * ================================================================
+ */
+@Component
+public class MediaCache {
+
+    /**
+     * How long an invalidation is remembered per ID; reads in flight for longer are rejected by {@link #barrier}.
+     */
+    private static final Duration INVALIDATION_MEMORY = Duration.ofMinutes(1);
+
+    /**
+     * Cached response with the document {@code version} it was built from.
+     */
+    private record Entry(MediaResponse response, long version) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final long maxBytes;
+
+    /** Logical clock: stamps handed to readers and recorded by invalidations. */
+    private final AtomicLong clock = new AtomicLong();
+    /** Stamp of the last invalidation per ID. */
+    private final Cache<String, Long> invalidations;
+    /** Reads stamped before this are never cached (flushes, journal-wide invalidations, forgotten invalidations). */
+    private final AtomicLong barrier = new AtomicLong();
+
+    public MediaCache(@Value("${media.cache.max-bytes:67108864}") long maxBytes,
+                      @Value("${media.cache.uploading-ttl:5s}") Duration uploadingTtl,
+                      @Value("${media.cache.settled-ttl:10m}") Duration settledTtl) {
+        this.maxBytes = maxBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String id, Entry e) -> estimateBytes(e.response()))
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String id, Entry e, long currentTime) {
+                        return (e.response().getStatus() == MediaStatus.UPLOADING ? uploadingTtl : settledTtl)
+                                .toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Entry e, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, e, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Entry e, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        // A forgotten invalidation still protects reads that started before it
+        this.invalidations = Caffeine.newBuilder()
+                .expireAfterWrite(INVALIDATION_MEMORY)
+                .maximumSize(100_000)
+                .evictionListener((String id, Long stamp, RemovalCause cause) -> raiseBarrier(stamp))
+                .build();
+    }
+
+    /**
+     * Cached response for the ID, or {@code null}.
+     */
+    public MediaResponse get(String id) {
+        Entry e = cache.getIfPresent(id);
+        return e == null ? null : e.response();
+    }
+
+    /**
+     * Cached responses for the IDs that are present.
+     */
+    public Map<String, MediaResponse> getAll(Collection<String> ids) {
+        Map<String, MediaResponse> found = new HashMap<>();
+        cache.getAllPresent(ids).forEach((id, e) -> found.put(id, e.response()));
+        return found;
+    }
+
+    /**
+     * Position of the logical clock; take it before reading a media from MongoDB and pass it to
+     * {@link #put(Media, long)}.
+     */
+    public long stamp() {
+        return clock.get();
+    }
+
+    /**
+     * Caches a media read from MongoDB, unless it was invalidated after {@code readStamp} or a newer version is
+     * already cached.
+     *
+     * @param media     the media as read
+     * @param readStamp {@link #stamp()} taken before the read
+     * @return the response built from {@code media}
+     */
+    public MediaResponse put(Media media, long readStamp) {
+        MediaResponse response = MediaResponse.from(media);
+        if (response == null || response.getId() == null) {
+            return response;
+        }
+        long version = media.getVersion() == null ? 0 : media.getVersion();
+        cache.asMap().compute(response.getId(), (id, current) -> {
+            Long invalidated = invalidations.getIfPresent(id);
+            if (readStamp < barrier.get() || (invalidated != null && readStamp < invalidated)) {
+                return current; // read before a later write; whatever is cached now is newer
+            }
+            return current != null && current.version() > version ? current : new Entry(response, version);
+        });
+        return response;
+    }
+
+    public void invalidate(String id) {
+        // Record first, then remove: a concurrent put either sees the record or is removed afterwards
+        invalidations.asMap().merge(id, clock.incrementAndGet(), Math::max);
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<String> ids) {
+        long stamp = clock.incrementAndGet();
+        ids.forEach(id -> invalidations.asMap().merge(id, stamp, Math::max));
+        cache.invalidateAll(ids);
+    }
+
+    /**
+     * Drops every cached entry (used when invalidations may have been missed, e.g. a lost change stream position).
+     */
+    public void flush() {
+        raiseBarrier(clock.incrementAndGet());
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops every cached media of a journal (used by journal-wide bulk updates, which do not know the IDs).
+     */
+    public void invalidateJournal(String journalId) {
+        raiseBarrier(clock.incrementAndGet());
+        cache.asMap().values().removeIf(e -> Objects.equals(e.response().getJournalId(), journalId));
+    }
+
+    private void raiseBarrier(long stamp) {
+        barrier.accumulateAndGet(stamp, Math::max);
+    }
+
+    /**
+     * Hit/miss/eviction counters.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Estimated memory held by cached entries, in bytes.
+     */
+    public long estimatedBytes() {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * Configured memory bound, in bytes.
+     */
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Rough retained size of a response: object headers/boxed fields plus UTF-16 strings and variants.
+     */
+    static int estimateBytes(MediaResponse m) {
+        int bytes = 256;
+        bytes += chars(m.getId()) + chars(m.getUserId()) + chars(m.getJournalId()) + chars(m.getFilename())
+                + chars(m.getMimeType()) + chars(m.getChecksum()) + chars(m.getStorageKey()) + chars(m.getCdnUrl());
+        if (m.getTags() != null) {
+            for (String tag : m.getTags()) bytes += 24 + chars(tag);
+        }
+        if (m.getVariants() != null) {
+            for (MediaVariant v : m.getVariants()) bytes += 96 + chars(v.getStorageKey()) + chars(v.getCdnUrl());
+        }
+        return bytes;
+    }
+
+    private static int chars(String s) {
+        return s == null ? 0 : 40 + 2 * s.length();
+    }
+}
@@ -0,0 +1,214 @@
+package com.tripwise.tripmedia.service;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.tripwise.tripmedia.model.Media;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 19:05
+ * Description : Keeps the local {@link MediaCache} coherent across replicas using a MongoDB change stream.
+ * - Every update/replace/delete on the media collection (from any node) invalidates the cached entry.
+ * - The resume token is persisted per node in {@code media_cache_resume}, so a restarted or reconnected listener
+ * continues where it stopped. The node is {@code node-id}: set it to a name that survives restarts (e.g. the
+ * StatefulSet pod name); the default, {@code HOSTNAME}, changes on every rollout of a Deployment.
+ * - Tokens not saved for {@code token-ttl} (nodes that are gone) are removed by a TTL index on {@code updatedAt}; a
+ * running node re-saves its token every {@code token-save-interval}, so its own document never expires.
+ * - If the token can no longer be resumed (oplog rolled over), the whole cache is flushed and the stream restarts
+ * from "now".
+ * - Requires a replica set or sharded cluster; enable with {@code media.cache.change-stream.enabled=true}.
+ * ================================================================
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "media.cache.change-stream.enabled", havingValue = "true")
+public class MediaChangeStreamListener {
+
+    /** Server error codes meaning the stored resume token is unusable. */
+    private static final Set<Integer> RESUME_LOST = Set.of(
+            260,    // InvalidResumeToken
+            286);   // ChangeStreamHistoryLost
+    private static final String TOKEN_COLLECTION = "media_cache_resume";
+
+    private final MongoTemplate mongo;
+    private final MediaCache mediaCache;
+    private final String nodeId;
+    private final Duration tokenSaveInterval;
+    private final Duration tokenTtl;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public MediaChangeStreamListener(MongoTemplate mongo,
+                                     MediaCache mediaCache,
+                                     @Value("${media.cache.change-stream.node-id:${HOSTNAME:media-service}}") String nodeId,
+                                     @Value("${media.cache.change-stream.token-save-interval:5s}") Duration tokenSaveInterval,
+                                     @Value("${media.cache.change-stream.token-ttl:7d}") Duration tokenTtl) {
+        this.mongo = mongo;
+        this.mediaCache = mediaCache;
+        this.nodeId = nodeId;
+        this.tokenSaveInterval = tokenSaveInterval;
+        this.tokenTtl = tokenTtl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        expireStaleTokens();
+        running = true;
+        worker = new Thread(this::run, "media-change-stream");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Watch loop; reconnects with a back-off after errors.
+     */
+    private void run() {
+        BsonDocument token = loadToken();
+        long backoffMs = 500;
+
+        while (running) {
+            try {
+                token = watch(token);
+                backoffMs = 500;
+            } catch (MongoCommandException e) {
+                if (RESUME_LOST.contains(e.getErrorCode())) {
+                    log.warn("Change stream resume token lost ({}); flushing media cache", e.getErrorCodeName());
+                    mediaCache.flush();
+                    token = null;
+                    saveToken(null);
+                    continue;
+                }
+                backoffMs = sleep(backoffMs, e);
+            } catch (RuntimeException e) {
+                backoffMs = sleep(backoffMs, e);
+            }
+        }
+    }
+
+    /**
+     * Consumes the stream until stopped or failed; returns the last seen token.
+     */
+    private BsonDocument watch(BsonDocument resumeAfter) {
+        var stream = mongo.getCollection(mongo.getCollectionName(Media.class))
+                .watch(List.of(Aggregates.match(Filters.in("operationType",
+                        "update", "replace", "delete", "invalidate", "drop", "rename", "dropDatabase"))))
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeAfter != null) {
+            stream = stream.resumeAfter(resumeAfter);
+        }
+
+        BsonDocument token = resumeAfter;
+        Instant lastSave = Instant.now();
+        try (var cursor = stream.cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> event = cursor.tryNext();
+                if (event != null) {
+                    apply(event);
+                }
+                // The cursor advances its resume token even on empty batches (post-batch resume token)
+                if (cursor.getResumeToken() != null) {
+                    token = cursor.getResumeToken();
+                }
+                if (Duration.between(lastSave, Instant.now()).compareTo(tokenSaveInterval) >= 0) {
+                    saveToken(token);
+                    lastSave = Instant.now();
+                }
+            }
+        }
+        saveToken(token);
+        return token;
+    }
+
+    private void apply(ChangeStreamDocument<Document> event) {
+        switch (event.getOperationType()) {
+            case UPDATE, REPLACE, DELETE -> {
+                var key = event.getDocumentKey();
+                if (key != null && key.get("_id") != null && key.get("_id").isString()) {
+                    mediaCache.invalidate(key.getString("_id").getValue());
+                }
+            }
+            // Collection-level events: anything cached may be wrong now
+            default -> mediaCache.flush();
+        }
+    }
+
+    /**
+     * TTL index on {@code media_cache_resume.updatedAt}, so tokens of nodes that no longer run are removed.
+     */
+    private void expireStaleTokens() {
+        try {
+            mongo.indexOps(TOKEN_COLLECTION)
+                    .createIndex(new Index().on("updatedAt", Sort.Direction.ASC).expire(tokenTtl).named("updated_ttl"));
+        } catch (RuntimeException e) {
+            log.warn("Could not create the TTL index of {}: {}", TOKEN_COLLECTION, e.getMessage());
+        }
+    }
+
+    private BsonDocument loadToken() {
+        try {
+            var stored = mongo.getCollection(TOKEN_COLLECTION).find(Filters.eq("_id", nodeId)).first();
+            if (stored != null && stored.get("token") instanceof Document token) {
+                return BsonDocument.parse(token.toJson());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not load change stream resume token: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void saveToken(BsonDocument token) {
+        try {
+            var doc = new Document("_id", nodeId)
+                    .append("token", token == null ? null : Document.parse(token.toJson()))
+                    .append("updatedAt", Instant.now());
+            mongo.getCollection(TOKEN_COLLECTION)
+                    .replaceOne(Filters.eq("_id", nodeId), doc, new ReplaceOptions().upsert(true));
+        } catch (RuntimeException e) {
+            log.warn("Could not save change stream resume token: {}", e.getMessage());
+        }
+    }
+
+    private long sleep(long backoffMs, Exception cause) {
+        log.warn("Media change stream failed, retrying in {} ms: {}", backoffMs, cause.getMessage());
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return Math.min(backoffMs * 2, 30_000);
+    }
+}
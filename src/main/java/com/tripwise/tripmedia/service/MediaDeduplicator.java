@@ -0,0 +1,170 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.dto.InitUploadRequest;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaObject;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.model.MediaVariant;
+import com.tripwise.tripmedia.repository.MediaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 06:35
+ * Description : Content-addressed deduplication of uploads by checksum, with reference-counted storage objects.
+ * - {@link #reference}: if the user already has a {@code READY} media with the checksum (and size) of a new upload,
+ * a {@code READY} media pointing at the same storage key and variants is created instead of a new upload.
+ * - {@link #release}: called by the {@link MediaPurger} for media whose object may be shared; the objects are only
+ * deleted once no live media references them.
+ * - Race-free without locks: the source is marked {@code shared} only while it is still {@code READY}, the
+ * reference is inserted before it is registered as a holder, and a release only succeeds if every remaining
+ * holder is deleted and the holder list did not change meanwhile.
+ * <pre>
+ * media:
+ *   dedup:
+ *     enabled: true
+ *     tombstone-ttl: 1h   # how long a released object stays unshareable
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class MediaDeduplicator {
+
+    private final MediaRepository repository;
+    private final MongoTemplate mongo;
+    private final boolean enabled;
+    private final Duration tombstoneTtl;
+
+    public MediaDeduplicator(MediaRepository repository,
+                             MongoTemplate mongo,
+                             @Value("${media.dedup.enabled:true}") boolean enabled,
+                             @Value("${media.dedup.tombstone-ttl:1h}") Duration tombstoneTtl) {
+        this.repository = repository;
+        this.mongo = mongo;
+        this.enabled = enabled;
+        this.tombstoneTtl = tombstoneTtl;
+    }
+
+    /**
+     * Creates a {@code READY} media that references an existing upload with the request's checksum.
+     *
+     * @param userId  the uploading user; only this user's media are candidates
+     * @param id      ID of the new media
+     * @param request the upload request; without a checksum nothing is deduplicated
+     * @return the inserted reference, or {@code null} if the file has to be uploaded
+     */
+    public Media reference(String userId, String id, InitUploadRequest request) {
+        if (!enabled || request.getChecksum() == null || request.getChecksum().isBlank()) {
+            return null;
+        }
+        var source = repository
+                .findFirstByUserIdAndChecksumAndStatus(userId, request.getChecksum(), MediaStatus.READY)
+                .orElse(null);
+        if (source == null || source.getStorageKey() == null || source.getUploadId() != null
+                || source.getBytes() == null || source.getBytes() != request.getBytes()) {
+            return null;
+        }
+
+        // 1. The source's purge must consult the reference count from now on; fails if it is no longer READY
+        var marked = mongo.updateFirst(
+                query(where("_id").is(source.getId()).and("status").is(MediaStatus.READY)),
+                new Update().set("shared", true).inc("version", 1),
+                Media.class);
+        if (marked.getMatchedCount() == 0) {
+            return null;
+        }
+
+        // 2. Insert the reference first, so a concurrent release sees it as a live media once it is a holder
+        var reference = newReference(id, userId, request, source);
+        repository.insert(reference);
+
+        // 3. Register both holders unless the object has been released meanwhile (the upsert then hits the tombstone)
+        try {
+            mongo.upsert(
+                    query(where("_id").is(source.getStorageKey()).and("released").ne(true)),
+                    new Update().addToSet("holders").each(source.getId(), id),
+                    MediaObject.class);
+        } catch (DuplicateKeyException e) {
+            repository.deleteById(id);
+            log.debug("Object {} is being deleted; media {} is uploaded again", source.getStorageKey(), id);
+            return null;
+        }
+        return reference;
+    }
+
+    /**
+     * Drops a media's reference to its storage object.
+     *
+     * @param media a deleted media whose object may be shared ({@link Media#sharesObject()})
+     * @return {@code true} if the object and its variants have no live reference left and may be deleted
+     */
+    public boolean release(Media media) {
+        String key = media.getStorageKey();
+        var after = mongo.findAndModify(
+                query(where("_id").is(key)),
+                new Update().pull("holders", media.getId())
+                        .setOnInsert("released", true)
+                        .setOnInsert("expireAt", Instant.now().plus(tombstoneTtl)),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                MediaObject.class);
+        if (after == null || Boolean.TRUE.equals(after.getReleased())) {
+            return true;
+        }
+
+        // Holders that are deleted themselves (but not purged yet) do not keep the object
+        List<String> holders = after.getHolders() == null ? List.of() : after.getHolders();
+        if (!holders.isEmpty() && mongo.exists(
+                query(where("_id").in(holders).and("status").ne(MediaStatus.DELETED)), Media.class)) {
+            return false;
+        }
+        // Only if nobody registered meanwhile
+        return mongo.updateFirst(
+                query(where("_id").is(key).and("holders").is(holders)),
+                new Update().set("released", true).set("expireAt", Instant.now().plus(tombstoneTtl)),
+                MediaObject.class).getModifiedCount() > 0;
+    }
+
+    private static Media newReference(String id, String userId, InitUploadRequest request, Media source) {
+        Instant now = Instant.now();
+        List<MediaVariant> variants = source.getVariants() == null
+                ? new ArrayList<>()
+                : new ArrayList<>(source.getVariants());
+        return Media.builder()
+                .id(id)
+                .userId(userId)
+                .journalId(request.getJournalId())
+                .fileName(request.getFileName())
+                .mimeType(source.getMimeType())
+                .bytes(source.getBytes())
+                .checksum(source.getChecksum())
+                .width(source.getWidth())
+                .height(source.getHeight())
+                .storageKey(source.getStorageKey())
+                .cdnUrl(source.getCdnUrl())
+                .variants(variants)
+                // Variants rendered later for the original are pushed to every reference of it
+                .sourceId(source.getSourceId() != null ? source.getSourceId() : source.getId())
+                .status(MediaStatus.READY)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.tripwise.tripmedia.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 22:45
+ * Description : Times the stages of the upload lifecycle (ownership check, presign, Mongo write, ...).
+ * - Each stage is a Micrometer {@link Observation} named {@code media.stage}, tagged with {@code operation},
+ * {@code stage} and {@code outcome}; it is published as the {@code media_stage_seconds} histogram on
+ * {@code /actuator/prometheus}.
+ * - With tracing, each stage is also a span ({@code "init ownership"}, {@code "confirm transition"}, ...) and the
+ * parent of the Mongo, S3 and journal spans it causes.
+ * - {@code outcome} follows the HTTP mapping of {@code GlobalExceptionHandler}: {@code SUCCESS}, {@code NOT_FOUND},
+ * {@code FORBIDDEN}, {@code INVALID}, {@code CONFLICT} or {@code ERROR} ({@code CANCELLED} for reactive stages).
+ * ================================================================
+ */
+@Component
+public class MediaObservations {
+
+    static final String NAME = "media.stage";
+
+    private final ObservationRegistry registry;
+
+    public MediaObservations(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Runs one stage of an operation and records its duration and outcome.
+     *
+     * @param operation the API operation (e.g. {@code init}, {@code confirm})
+     * @param stage     the step within the operation (e.g. {@code ownership}, {@code presign})
+     * @param body      the stage itself
+     * @return the result of {@code body}
+     */
+    public <T> T stage(String operation, String stage, Supplier<T> body) {
+        var observation = start(operation, stage);
+        try (var scope = observation.openScope()) {
+            T result = body.get();
+            observation.lowCardinalityKeyValue("outcome", "SUCCESS");
+            return result;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("outcome", outcome(e));
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * {@link #stage(String, String, Supplier)} for stages without a result.
+     */
+    public void stage(String operation, String stage, Runnable body) {
+        stage(operation, stage, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Reactive {@link #stage(String, String, Supplier)}: timed from subscription to completion, error or cancel.
+     */
+    public <T> Mono<T> stage(String operation, String stage, Mono<T> body) {
+        return Mono.defer(() -> {
+            var observation = start(operation, stage);
+            return body
+                    .doOnSuccess(v -> observation.lowCardinalityKeyValue("outcome", "SUCCESS"))
+                    .doOnError(e -> observation.lowCardinalityKeyValue("outcome", outcome(e)).error(e))
+                    .doOnCancel(() -> observation.lowCardinalityKeyValue("outcome", "CANCELLED"))
+                    .doFinally(signal -> observation.stop())
+                    // parent of the observations (and spans) created downstream, e.g. Mongo commands, WebClient
+                    .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private Observation start(String operation, String stage) {
+        return Observation.createNotStarted(NAME, registry)
+                .contextualName(operation + " " + stage)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("stage", stage)
+                .start();
+    }
+
+    static String outcome(Throwable e) {
+        if (e instanceof NoSuchElementException) return "NOT_FOUND";
+        if (e instanceof SecurityException) return "FORBIDDEN";
+        if (e instanceof IllegalArgumentException) return "INVALID";
+        if (e instanceof OptimisticLockingFailureException) return "CONFLICT";
+        return "ERROR";
+    }
+}
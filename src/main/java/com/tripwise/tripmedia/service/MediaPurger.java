@@ -0,0 +1,155 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaVariant;
+import com.tripwise.tripmedia.repository.MediaRepository;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 15:20
+ * Description : Background purger that removes the storage objects of deleted media.
+ * - The backlog is durable: it is the set of media with {@code purgePending = true}, so nothing is lost on restart.
+ * - Original and variant keys of a batch are deleted with {@link StorageClient#deleteObjects} (1,000 keys per
+ * request on S3); pending multipart uploads are aborted.
+ * - Objects shared through checksum deduplication are only deleted with their last reference
+ * ({@link MediaDeduplicator#release}); other holders just leave the backlog.
+ * - Media whose keys fail stay in the backlog with an incremented {@code purgeAttempts} and are retried on later
+ * runs, after fresher entries.
+ * - Runs on one replica at a time ({@link LeaderLock}), so two replicas never release the same reference twice or
+ * delete the same keys concurrently.
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class MediaPurger {
+
+    static final String LOCK = "media-purger";
+
+    private final MediaRepository repository;
+    private final StorageClient storageClient;
+    private final MediaDeduplicator deduplicator;
+    private final LeaderLock leaderLock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lockLease;
+
+    public MediaPurger(MediaRepository repository,
+                       StorageClient storageClient,
+                       MediaDeduplicator deduplicator,
+                       LeaderLock leaderLock,
+                       @Value("${media.purge.batch-size:500}") int batchSize,
+                       @Value("${media.purge.max-batches-per-run:20}") int maxBatchesPerRun,
+                       @Value("${media.purge.lock-lease:5m}") Duration lockLease) {
+        this.repository = repository;
+        this.storageClient = storageClient;
+        this.deduplicator = deduplicator;
+        this.leaderLock = leaderLock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lockLease = lockLease;
+    }
+
+    /**
+     * Drains up to {@code max-batches-per-run} batches of the purge backlog, if this replica holds the lease; stops
+     * early when the lease is about to run out.
+     */
+    @Scheduled(
+            initialDelayString = "${media.purge.interval:30s}",
+            fixedDelayString = "${media.purge.interval:30s}")
+    public void purge() {
+        try {
+            if (!leaderLock.tryAcquire(LOCK, lockLease)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Media purge could not take its lease: {}", e.getMessage());
+            return;
+        }
+        Instant deadline = Instant.now().plus(lockLease.dividedBy(2));
+        try {
+            for (int i = 0; i < maxBatchesPerRun && Instant.now().isBefore(deadline); i++) {
+                if (purgeBatch() == 0) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Media purge failed: {}", e.getMessage());
+        } finally {
+            leaderLock.release(LOCK);
+        }
+    }
+
+    /**
+     * Purges one batch of the backlog.
+     *
+     * @return the number of media whose objects were fully removed
+     */
+    int purgeBatch() {
+        var batch = repository.findByPurgePendingTrue(
+                PageRequest.of(0, batchSize, Sort.by("purgeAttempts", "updatedAt")));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<String>> keysByMedia = new LinkedHashMap<>();
+        for (Media m : batch) {
+            if (m.getUploadId() != null && m.getStorageKey() != null) {
+                storageClient.abortMultipart(m.getStorageKey(), m.getUploadId());
+            }
+            // A shared object that is still referenced elsewhere stays; this media just leaves the backlog
+            boolean delete = !m.sharesObject() || m.getStorageKey() == null || deduplicator.release(m);
+            keysByMedia.put(m.getId(), delete ? storageKeys(m) : List.of());
+        }
+
+        Set<String> failedKeys;
+        try {
+            // Distinct: media sharing an object list the same keys
+            failedKeys = new HashSet<>(storageClient.deleteObjects(
+                    keysByMedia.values().stream().flatMap(List::stream).distinct().toList()));
+        } catch (RuntimeException e) {
+            repository.incrementPurgeAttempts(keysByMedia.keySet());
+            throw e;
+        }
+
+        List<String> purged = new ArrayList<>();
+        List<String> retry = new ArrayList<>();
+        keysByMedia.forEach((id, keys) ->
+                (keys.stream().anyMatch(failedKeys::contains) ? retry : purged).add(id));
+
+        if (!purged.isEmpty()) repository.clearPurgePending(purged);
+        if (!retry.isEmpty()) {
+            repository.incrementPurgeAttempts(retry);
+            log.warn("{} media could not be purged and will be retried", retry.size());
+        }
+        return purged.size();
+    }
+
+    /**
+     * Original plus every variant key of the media.
+     */
+    static List<String> storageKeys(Media m) {
+        List<String> keys = new ArrayList<>();
+        if (m.getStorageKey() != null) keys.add(m.getStorageKey());
+        if (m.getVariants() != null) {
+            m.getVariants().stream()
+                    .map(MediaVariant::getStorageKey)
+                    .filter(Objects::nonNull)
+                    .forEach(keys::add);
+        }
+        return keys;
+    }
+}
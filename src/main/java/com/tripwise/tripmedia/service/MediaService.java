@@ -1,19 +1,39 @@
 package com.tripwise.tripmedia.service;
 
 
+import com.tripwise.tripmedia.dto.BulkDeleteResponse;
 import com.tripwise.tripmedia.dto.ConfirmUploadRequest;
+import com.tripwise.tripmedia.dto.InitUploadBatchItem;
+import com.tripwise.tripmedia.dto.InitUploadBatchResponse;
 import com.tripwise.tripmedia.dto.InitUploadRequest;
 import com.tripwise.tripmedia.dto.InitUploadResponse;
+import com.tripwise.tripmedia.dto.MediaGridItem;
+import com.tripwise.tripmedia.dto.MediaPage;
 import com.tripwise.tripmedia.dto.MediaResponse;
+import com.tripwise.tripmedia.dto.UploadPart;
 import com.tripwise.tripmedia.model.Media;
 import com.tripwise.tripmedia.model.MediaStatus;
 import com.tripwise.tripmedia.repository.MediaRepository;
 import com.tripwise.tripmedia.service.client.JournalClient;
 import com.tripwise.tripmedia.service.client.StorageClient;
-import lombok.RequiredArgsConstructor;
+import com.tripwise.tripmedia.service.variant.VariantPipeline;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 
 /**
@@ -27,7 +47,6 @@ import java.util.*;
  * ================================================================
  */
 @Service
-@RequiredArgsConstructor
 public class MediaService {
     /**
      * Responsibilities:
@@ -35,6 +54,7 @@ public class MediaService {
      * - Generates presigned upload URLs via {@link StorageClient}.
      * - Persists media metadata with {@link MediaRepository}.
      * - Returns upload instructions to clients (upload URL, headers, etc.).
+     * - Times each stage (ownership, presign, save, ...) via {@link MediaObservations}.
      * Lifecycle:
      * - Validate user’s right to upload into a journal.
      * - Create unique media ID + storage key.
@@ -46,12 +66,67 @@ public class MediaService {
     private final MediaRepository repository;
     private final StorageClient storageClient;
     private final JournalClient journals;
+    private final VariantPipeline variants;
+    private final UploadVerifier verifier;
+    private final MediaBatchReader batchReader;
+    private final MediaCache mediaCache;
+    private final MediaWriteBatcher writeBatcher;
+    private final MediaObservations observations;
+    private final MediaDeduplicator deduplicator;
+    private final int initBatchMaxSize;
+    private final long multipartThreshold;      // bytes at which uploads switch to multipart
+    private final long multipartPartSize;       // preferred part size in bytes
+    private final boolean verifyUploads;        // check size/checksum against storage before READY
+    private final int listMaxPageSize;
+    private final ExecutorService initExecutor;   // ownership checks, presigning and multipart initiation of batches
+
+    public MediaService(MediaRepository repository,
+                        StorageClient storageClient,
+                        JournalClient journals,
+                        VariantPipeline variants,
+                        UploadVerifier verifier,
+                        MediaBatchReader batchReader,
+                        MediaCache mediaCache,
+                        MediaWriteBatcher writeBatcher,
+                        MediaObservations observations,
+                        MediaDeduplicator deduplicator,
+                        @Value("${media.init-batch-max-size:100}") int initBatchMaxSize,
+                        @Value("${media.multipart.threshold-bytes:104857600}") long multipartThreshold,
+                        @Value("${media.multipart.part-size-bytes:16777216}") long multipartPartSize,
+                        @Value("${media.verification.enabled:false}") boolean verifyUploads,
+                        @Value("${media.list-max-page-size:200}") int listMaxPageSize,
+                        @Value("${media.init-batch-pool-size:16}") int initBatchPoolSize,
+                        Environment environment) {
+        this.repository = repository;
+        this.storageClient = storageClient;
+        this.journals = journals;
+        this.variants = variants;
+        this.verifier = verifier;
+        this.batchReader = batchReader;
+        this.mediaCache = mediaCache;
+        this.writeBatcher = writeBatcher;
+        this.observations = observations;
+        this.deduplicator = deduplicator;
+        this.initBatchMaxSize = initBatchMaxSize;
+        this.multipartThreshold = multipartThreshold;
+        this.multipartPartSize = multipartPartSize;
+        this.verifyUploads = verifyUploads;
+        this.listMaxPageSize = listMaxPageSize;
+        this.initExecutor = BlockingIoExecutors.create(environment, "media-init-", Math.max(1, initBatchPoolSize));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        initExecutor.shutdownNow();
+    }
 
     /**
      * Initializes a new media upload for a given user and journal.
      * This method:
      * - Checks that the user owns the specified journal.
      * - Generates a new media ID and canonical storage key.
+     * - If the request carries the checksum of one of the user's {@code READY} uploads, references that object
+     * instead ({@link MediaDeduplicator}): the media is {@code READY} at once and nothing is uploaded.
      * - Creates a presigned upload URL via {@link StorageClient}.
      * - Stores the media metadata in {@link MediaRepository}.
      * - Returns an {@link InitUploadResponse} with upload instructions.
@@ -69,17 +144,177 @@ public class MediaService {
     public InitUploadResponse initUpload(String userId, InitUploadRequest request) {
 
         // Ensure the user is allowed to upload into this journal
-        journals.assertOwnership(request.getJournalId(), userId);
+        observations.stage("init", "ownership", () -> journals.assertOwnership(request.getJournalId(), userId));
 
         // Generate unique media identifier + storage key
         String id = UUID.randomUUID().toString();
-        String key = userId + "/" + id + "/" + request.getFileName();
+        String key = storageKey(userId, id, request.getFileName());
+
+        // Same bytes already stored for this user: reference them instead of uploading again
+        var deduplicated = observations.stage("init", "dedupe", () -> deduplicate(userId, id, request));
+        if (deduplicated != null) {
+            return deduplicated;
+        }
+
+        // Request presigned PUT URL(s) from storage backend (multipart above the threshold)
+        var media = newMedia(userId, id, key, request);
+        var response = observations.stage("init", "presign", () -> prepareUpload(media));
+
+        // Persist media metadata in repository with UPLOADING status (coalesced with concurrent inits if enabled)
+        observations.stage("init", "save", () -> {
+            if (writeBatcher.isEnabled()) {
+                writeBatcher.insert(media);
+            } else {
+                repository.save(media);
+            }
+        });
+
+        // Return presigned upload instructions to client
+        return response;
+    }
+
+    /**
+     * Initializes several media uploads for one user in a single call.
+     * This method:
+     * - Checks ownership once per distinct journal (not once per file), concurrently.
+     * - Generates IDs/keys and presigns all PUT URLs in parallel on the blocking-I/O pool (multipart initiation
+     * and deduplication lookups block).
+     * - Persists every accepted {@link Media} document with one bulk insert; deduplicated items are inserted as
+     * they are found (see {@link #initUpload}).
+     * - Returns one {@link InitUploadBatchItem} per request, in request order; rejected items carry an error
+     * instead of upload instructions and are not persisted.
+     *
+     * @param userId   the ID of the authenticated user performing the uploads
+     * @param requests the upload requests (journalId, file name, MIME type, file size each)
+     * @return an {@link InitUploadBatchResponse} with per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or larger than {@code media.init-batch-max-size}
+     */
+    public InitUploadBatchResponse initUploadBatch(String userId, List<InitUploadRequest> requests) {
+        checkInitBatch(requests);
+
+        // One ownership check per distinct journal, concurrently; remember the rejection reason per journal
+        Map<String, String> journalErrors = new ConcurrentHashMap<>();
+        observations.stage("init.batch", "ownership", () -> CompletableFuture.allOf(
+                requests.stream()
+                        .map(InitUploadRequest::getJournalId)
+                        .distinct()
+                        .map(journalId -> CompletableFuture.runAsync(() -> {
+                            try {
+                                journals.assertOwnership(journalId, userId);
+                            } catch (RuntimeException e) {
+                                journalErrors.put(journalId, String.valueOf(e.getMessage()));
+                            }
+                        }, initExecutor))
+                        .toArray(CompletableFuture[]::new)).join());
+
+        var batch = observations.stage("init.batch", "presign", () -> prepareBatch(userId, requests, journalErrors));
+
+        // Single bulk insert for every accepted item
+        if (!batch.accepted().isEmpty()) {
+            observations.stage("init.batch", "save", () -> repository.insert(batch.accepted()));
+        }
+        return batch.response();
+    }
+
+    /**
+     * Presigned batch items and the media to insert for them.
+     *
+     * @param items    one item per request, in request order
+     * @param accepted the media still to insert (deduplicated items are already stored)
+     */
+    record PreparedBatch(List<InitUploadBatchItem> items, List<Media> accepted) {
+
+        InitUploadBatchResponse response() {
+            int failed = (int) items.stream().filter(item -> item.getError() != null).count();
+            return InitUploadBatchResponse.builder()
+                    .items(items)
+                    .succeeded(items.size() - failed)
+                    .failed(failed)
+                    .build();
+        }
+    }
 
-        // Request presigned PUT URL from storage backend
-        var pre = storageClient.presignPut(key, request.getMimeType(), request.getBytes());
+    /**
+     * Rejects empty and oversized init batches.
+     */
+    void checkInitBatch(List<InitUploadRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("requests must not be empty");
+        }
+        if (requests.size() > initBatchMaxSize) {
+            throw new IllegalArgumentException("At most " + initBatchMaxSize + " uploads per batch");
+        }
+    }
 
-        // Persist media metadata in repository with UPLOADING status
-        var media = Media.builder()
+    /**
+     * Builds the media and upload instructions of an init batch; items of a rejected journal carry its error.
+     */
+    PreparedBatch prepareBatch(String userId, List<InitUploadRequest> requests, Map<String, String> journalErrors) {
+        // Multipart initiation and deduplication block on S3/MongoDB, so items run on the blocking-I/O pool rather
+        // than the common fork-join pool
+        InitUploadBatchItem[] items = new InitUploadBatchItem[requests.size()];
+        Media[] accepted = new Media[requests.size()];
+
+        CompletableFuture.allOf(IntStream.range(0, requests.size()).mapToObj(i -> CompletableFuture.runAsync(() -> {
+            var request = requests.get(i);
+            String journalError = journalErrors.get(request.getJournalId());
+            if (journalError != null) {
+                items[i] = InitUploadBatchItem.builder().index(i).error(journalError).build();
+                return;
+            }
+            try {
+                String id = UUID.randomUUID().toString();
+                var deduplicated = deduplicate(userId, id, request);
+                if (deduplicated != null) {
+                    items[i] = InitUploadBatchItem.builder().index(i).upload(deduplicated).build();
+                    return;
+                }
+                var media = newMedia(userId, id, storageKey(userId, id, request.getFileName()), request);
+                var response = prepareUpload(media);
+
+                accepted[i] = media;
+                items[i] = InitUploadBatchItem.builder().index(i).upload(response).build();
+            } catch (RuntimeException e) {
+                items[i] = InitUploadBatchItem.builder().index(i).error(e.getMessage()).build();
+            }
+        }, initExecutor)).toArray(CompletableFuture[]::new)).join();
+
+        return new PreparedBatch(
+                Arrays.asList(items),
+                Arrays.stream(accepted).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Inserts a {@code READY} reference to an identical upload of the user, if there is one.
+     *
+     * @return the response of the deduplicated upload, or {@code null} if the file has to be uploaded
+     */
+    InitUploadResponse deduplicate(String userId, String id, InitUploadRequest request) {
+        var reference = deduplicator.reference(userId, id, request);
+        if (reference == null) {
+            return null;
+        }
+        return InitUploadResponse.builder()
+                .mediaId(id)
+                .storageKey(reference.getStorageKey())
+                .deduplicated(true)
+                .build();
+    }
+
+    /**
+     * Canonical storage key of an original upload: {@code userId/mediaId/fileName}.
+     * Public for the hot-path benchmarks.
+     */
+    public static String storageKey(String userId, String mediaId, String fileName) {
+        return userId + "/" + mediaId + "/" + fileName;
+    }
+
+    /**
+     * New {@link Media} document in {@code UPLOADING} status for the given request.
+     */
+    Media newMedia(String userId, String id, String key, InitUploadRequest request) {
+        Instant now = Instant.now();
+        return Media.builder()
                 .id(id)
                 .userId(userId)
                 .journalId(request.getJournalId())
@@ -89,16 +324,47 @@ public class MediaService {
                 .storageKey(key)
                 .cdnUrl(storageClient.publicUrl(key))
                 .status(MediaStatus.UPLOADING)
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
+    }
 
-        repository.save(media);
+    /**
+     * Whether a file of this size is uploaded in parts (initiating it is a storage round trip, not just signing).
+     */
+    boolean usesMultipart(long bytes) {
+        return bytes >= multipartThreshold;
+    }
+
+    /**
+     * Presigns the upload of a new media and returns the client instructions.
+     * Files of at least {@code media.multipart.threshold-bytes} get a multipart upload (its ID is recorded on the
+     * media so {@link #confirmUpload} can complete it); smaller files get a single presigned PUT.
+     */
+    InitUploadResponse prepareUpload(Media media) {
+        if (!usesMultipart(media.getBytes())) {
+            var pre = storageClient.presignPut(media.getStorageKey(), media.getMimeType(), media.getBytes());
+            return InitUploadResponse.builder()
+                    .mediaId(media.getId())
+                    .storageKey(pre.storageKey())
+                    .uploadUrl(pre.url().toString())
+                    .headers(pre.headers())
+                    .build();
+        }
+
+        var pre = storageClient.presignMultipart(
+                media.getStorageKey(), media.getMimeType(), media.getBytes(), multipartPartSize);
+        media.setUploadId(pre.uploadId());
 
-        // Return presigned upload instructions to client
         return InitUploadResponse.builder()
-                .mediaId(id)
+                .mediaId(media.getId())
                 .storageKey(pre.storageKey())
-                .uploadUrl(pre.url().toString())
                 .headers(pre.headers())
+                .uploadId(pre.uploadId())
+                .partSize(pre.partSize())
+                .parts(pre.parts().stream()
+                        .map(p -> new UploadPart(p.partNumber(), p.url().toString()))
+                        .toList())
                 .build();
     }
 
@@ -107,82 +373,368 @@ public class MediaService {
      * Confirms completion of an upload and finalizes the associated media record.
      * *
      * This method performs the following steps:
-     * - Retrieves the {@code Media} entity by its ID.
-     * - Validates that the given user is the owner of the media.
-     * - Updates metadata such as checksum, file size, width, height, and status.
-     * - Persists the updated entity back into {@link MediaRepository}.
+     * - Applies the confirmed checksum, file size, width, height and status with one conditional
+     * {@code findAndModify} that only matches an {@code UPLOADING} media owned by the user.
+     * - If that does not match, loads the media to tell why: a pending multipart upload is completed and the
+     * transition retried; a repeated confirm of a {@code READY} media, or of one already being verified, returns it
+     * unchanged.
+     * - Queues variant generation on the {@link VariantPipeline}.
      * - Returns a {@link MediaResponse} representation of the updated media.
      * *
-     * After this call, the media status transitions from {@code UPLOADING} to {@code READY}.
+     * After this call, the media status transitions from {@code UPLOADING} to {@code READY}. With
+     * {@code media.verification.enabled}, the media instead stays {@code UPLOADING} until {@link UploadVerifier} has
+     * checked the stored object, and then becomes {@code READY} or {@code FAILED}.
      *
      * @param userId  the ID of the user confirming the upload; must match the media's owner
      * @param request the confirmation payload containing media ID, checksum, file size, width, and height
      * @return a {@link MediaResponse} containing the finalized media details
-     * @throws NoSuchElementException if no media with the given ID exists
-     * @throws SecurityException      if the user does not own the media
+     * @throws NoSuchElementException            if no media with the given ID exists
+     * @throws SecurityException                 if the user does not own the media
+     * @throws OptimisticLockingFailureException if the media is no longer {@code UPLOADING} (e.g. deleted meanwhile)
+     * @throws IllegalArgumentException          if parts of a multipart upload are missing (the upload stays open)
      */
     public MediaResponse confirmUpload(String userId, ConfirmUploadRequest request) {
-        var m = repository
-                .findById(request.getMediaId())
-                .orElseThrow();
+        String id = request.getMediaId();
 
-        if (!Objects.equals(m.getUserId(), userId)) {
-            throw new SecurityException("Not Owner");
+        // Fast path (single PUT): one round trip, no read
+        var m = observations.stage("confirm", "transition", () -> repository.findAndTransition(id, userId,
+                confirmable(), confirmUpdate(request)));
+
+        if (m == null) {
+            var current = observations.stage("confirm", "lookup", () -> findOwned(id, userId));
+
+            if (current.getStatus() == MediaStatus.UPLOADING && current.getUploadId() != null) {
+                // Multipart uploads are assembled server-side from the parts the client uploaded
+                observations.stage("confirm", "complete-multipart",
+                        () -> storageClient.completeMultipart(
+                                current.getStorageKey(), current.getUploadId(), current.getBytes()));
+                m = observations.stage("confirm", "transition", () -> repository.findAndTransition(id, userId,
+                        Criteria.where("status").is(MediaStatus.UPLOADING).and("uploadId").is(current.getUploadId()),
+                        confirmUpdate(request).unset("uploadId")));
+            } else if (current.getStatus() == MediaStatus.READY || isVerifying(current)) {
+                return MediaResponse.from(current); // retried confirm
+            }
+
+            if (m == null) {
+                throw new OptimisticLockingFailureException(
+                        "Media " + id + " is " + current.getStatus() + ", not UPLOADING");
+            }
         }
-        m.setChecksum(request.getChecksum());
-        m.setBytes(request.getBytes());
-        m.setWidth(request.getWidth());
-        m.setHeight(request.getHeight());
-        m.setStatus(MediaStatus.READY);
 
-        repository.save(m);
+        mediaCache.invalidate(id);
+
+        var confirmed = m;
+        observations.stage("confirm", "dispatch", () -> {
+            if (verifyUploads) {
+                // Stays UPLOADING until the stored object matches the confirmed size/checksum
+                verifier.verifyAsync(confirmed);
+            } else {
+                // Renditions (thumbnail first) are produced in the background; may wait for queue room
+                variants.submit(confirmed);
+            }
+        });
 
         return MediaResponse.from(m);
     }
 
+    /**
+     * Media a single-PUT confirm may transition: {@code UPLOADING}, no multipart upload pending and, when uploads are
+     * verified, not already handed to the {@link UploadVerifier} by an earlier confirm.
+     */
+    Criteria confirmable() {
+        var criteria = Criteria.where("status").is(MediaStatus.UPLOADING).and("uploadId").is(null);
+        return verifyUploads ? criteria.and("verifyingSince").exists(false) : criteria;
+    }
+
+    /**
+     * Whether an earlier confirm already queued this media for verification.
+     */
+    boolean isVerifying(Media media) {
+        return verifyUploads && media.getStatus() == MediaStatus.UPLOADING && media.getVerifyingSince() != null;
+    }
+
+    /**
+     * Fields set by a confirm; the status only moves to {@code READY} here when uploads are not verified.
+     */
+    Update confirmUpdate(ConfirmUploadRequest request) {
+        var update = new Update()
+                .set("checksum", request.getChecksum())
+                .set("bytes", request.getBytes())
+                .set("width", request.getWidth())
+                .set("height", request.getHeight())
+                .set("updatedAt", Instant.now());
+        if (verifyUploads) {
+            update.set("verifyingSince", Instant.now());
+        } else {
+            update.set("status", MediaStatus.READY);
+        }
+        return update;
+    }
+
+    /**
+     * Whether confirmed uploads stay {@code UPLOADING} until {@link UploadVerifier} has checked them.
+     */
+    boolean verifiesUploads() {
+        return verifyUploads;
+    }
+
+    /**
+     * Loads a media and checks its owner; used to explain a conditional update that did not match.
+     */
+    private Media findOwned(String id, String userId) {
+        var m = repository.findById(id).orElseThrow();
+        if (!Objects.equals(m.getUserId(), userId)) {
+            throw new SecurityException("Not Owner");
+        }
+        return m;
+    }
+
 
     /**
      * Retrieves a media record by its unique identifier.
      * *
-     * The method queries the {@link MediaRepository} for the given media ID, converts the entity into a
-     * {@link MediaResponse}, and returns it. If the media does not exist, an exception is thrown.
+     * The method serves the media from the {@link MediaCache} when possible; otherwise it queries the
+     * {@link MediaRepository}, converts the entity into a {@link MediaResponse}, caches and returns it. If the
+     * media does not exist, an exception is thrown.
      *
      * @param id the unique identifier of the media
      * @return a {@link MediaResponse} representing the media entity
      * @throws NoSuchElementException if no media with the given ID exists
      */
     public MediaResponse getMedia(String id) {
-        return repository.findById(id)
-                .map(MediaResponse::from)
-                .orElseThrow();
+        var cached = mediaCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = mediaCache.stamp();
+        return mediaCache.put(repository.findById(id).orElseThrow(), stamp);
+    }
+
+    /**
+     * Bytes of a {@code READY} media as the proxied content endpoint serves them.
+     *
+     * @param storageKey   object key in storage
+     * @param mimeType     content type of the object
+     * @param bytes        object size
+     * @param checksum     checksum confirmed by the client (hex), or {@code null}
+     * @param lastModified when the media record last changed
+     */
+    public record Content(String storageKey, String mimeType, long bytes, String checksum, Instant lastModified) {
+
+        /**
+         * @return the stored checksum as a strong ETag, or {@code null} if the media has none
+         */
+        public String etag() {
+            return checksum == null ? null : "\"" + checksum + "\"";
+        }
+    }
+
+    /**
+     * Looks up what the content endpoint needs to serve a media; the size comes from the confirmed record, or from
+     * storage if the record has none.
+     *
+     * @param id the unique identifier of the media
+     * @return the media's {@link Content}
+     * @throws NoSuchElementException if no media with the given ID exists or it is not {@code READY}
+     */
+    public Content getContent(String id) {
+        var m = repository.findById(id)
+                .filter(found -> found.getStatus() == MediaStatus.READY)
+                .orElseThrow(() -> new NoSuchElementException("No content for media " + id));
+        long bytes = m.getBytes() != null ? m.getBytes() : storageClient.headObject(m.getStorageKey()).size();
+        return new Content(m.getStorageKey(), m.getMimeType(), bytes, m.getChecksum(), m.getUpdatedAt());
+    }
+
+    /**
+     * Opens a byte range of a media's object with a ranged read from storage. The caller must close the stream.
+     *
+     * @param content the media's {@link Content}
+     * @param start   first byte (inclusive)
+     * @param end     last byte (inclusive)
+     * @return the requested bytes
+     */
+    public InputStream openContent(Content content, long start, long end) {
+        return storageClient.getObjectRange(content.storageKey(), start, end);
     }
 
     /**
      * Retrieves a list of media records for the given set of IDs.
      * *
-     * This method performs a batch lookup in the {@link MediaRepository} converts each found entity into a
-     * {@link MediaResponse}, and return them as a list. If some IDs are not found, only the existing media
-     * entries are returned.
+     * Cached media are served from the {@link MediaCache}; the rest are loaded with a chunked, concurrent batch
+     * lookup via {@link MediaBatchReader}, converted into {@link MediaResponse}s and cached. Results are
+     * returned in request order. Duplicate IDs are returned once; if
+     * some IDs are not found, only the existing media entries are returned.
      *
      * @param ids a list of media identifiers to fetch
-     * @return a list of {@link MediaResponse} objects corresponding to the found media
+     * @return a list of {@link MediaResponse} objects corresponding to the found media, in request order
      */
     public List<MediaResponse> getMediaList(List<String> ids) {
-        return repository.findByIdIn(ids)
-                .stream()
-                .map(MediaResponse::from)
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        // Cached entries first; only the misses go to MongoDB
+        Map<String, MediaResponse> found = observations.stage("batch", "cache",
+                () -> new HashMap<>(mediaCache.getAll(distinct)));
+        var misses = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            long stamp = mediaCache.stamp();
+            observations.stage("batch", "find", () -> batchReader.forEachInOrder(misses, m -> {
+                var response = mediaCache.put(m, stamp);
+                found.put(response.getId(), response);
+            }));
+        }
+
+        return distinct.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
+    /**
+     * Streaming variant of {@link #getMediaList(List)}: each {@link MediaResponse} is handed to {@code sink} as soon
+     * as its chunk has been loaded, in request order, so only the chunks in flight are held in memory. Cached media
+     * are not loaded again; they are emitted in their place between the loaded ones.
+     *
+     * @param ids  a list of media identifiers to fetch
+     * @param sink receives each found media
+     */
+    public void streamMediaList(List<String> ids, Consumer<MediaResponse> sink) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<String, MediaResponse> cached = observations.stage("batch", "cache", () -> mediaCache.getAll(distinct));
+        var misses = distinct.stream().filter(id -> !cached.containsKey(id)).toList();
+
+        // Walks the request order; a loaded media first releases the cached ones before it
+        Iterator<String> order = distinct.iterator();
+        Consumer<String> emitCachedUpTo = until -> {
+            while (order.hasNext()) {
+                String id = order.next();
+                if (id.equals(until)) {
+                    return;
+                }
+                var hit = cached.get(id);
+                if (hit != null) {
+                    sink.accept(hit);
+                }
+            }
+        };
+
+        if (!misses.isEmpty()) {
+            long stamp = mediaCache.stamp();
+            observations.stage("batch", "stream", () -> batchReader.forEachInOrder(misses, m -> {
+                var response = mediaCache.put(m, stamp);
+                emitCachedUpTo.accept(response.getId());
+                sink.accept(response);
+            }));
+        }
+        emitCachedUpTo.accept(null);
+    }
+
+
+    /**
+     * Lists a journal's media, newest first, one keyset page at a time.
+     * *
+     * The cursor encodes the {@code (createdAt, id)} of the last item returned, so each page is an index seek
+     * rather than a skip; latency does not grow with the journal size. Only the fields a grid needs are loaded.
+     * The journal's ownership is checked first (served from the {@link JournalClient} verdict cache on later pages).
+     *
+     * @param journalId the journal to list
+     * @param userId    the ID of the user listing the journal; must own it
+     * @param after     the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param limit     page size (capped at {@code media.list-max-page-size})
+     * @return a {@link MediaPage} with the items and the cursor of the next page ({@code null} on the last page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     * @throws SecurityException        if the user does not own the journal
+     */
+    public MediaPage listJournalMedia(String journalId, String userId, String after, int limit) {
+        journals.assertOwnership(journalId, userId);
+        int size = pageSize(limit);
+        var cursor = JournalCursor.parse(after);
+
+        // Fetch one extra item to know whether another page exists
+        var found = cursor == null
+                ? repository.findJournalPage(journalId, null, null, size + 1)
+                : repository.findJournalPage(journalId, cursor.createdAt(), cursor.id(), size + 1);
+        return page(found, size);
+    }
+
+    /**
+     * Requested page size capped at {@code media.list-max-page-size}.
+     */
+    int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, listMaxPageSize));
+    }
+
+    /**
+     * Page of the first {@code size} items; a further item means there is a next page.
+     */
+    static MediaPage page(List<Media> found, int size) {
+        var items = found.stream().limit(size).map(MediaGridItem::from).toList();
+
+        String next = null;
+        if (found.size() > size) {
+            var last = found.get(size - 1);
+            next = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return MediaPage.builder().items(items).nextCursor(next).build();
+    }
+
+    /**
+     * Decoded page cursor: position of the last item of the previous page.
+     */
+    record JournalCursor(Instant createdAt, String id) {
+
+        /**
+         * @return the cursor, or {@code null} for the first page
+         * @throws IllegalArgumentException if the cursor is malformed
+         */
+        static JournalCursor parse(String after) {
+            if (after == null || after.isBlank()) {
+                return null;
+            }
+            String[] cursor = decodeCursor(after);
+            Instant createdAt = cursor[0].isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(cursor[0]));
+            return new JournalCursor(createdAt, cursor[1]);
+        }
+    }
+
+    /**
+     * Opaque page cursor: URL-safe Base64 of {@code createdAtMillis|id}. A media without {@code createdAt} (sorted
+     * after all dated ones) leaves the millis empty, and the next page seeks on {@code _id} alone.
+     */
+    static String encodeCursor(Instant createdAt, String id) {
+        String raw = (createdAt == null ? "" : Long.toString(createdAt.toEpochMilli())) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            if (!parts[0].isEmpty()) {
+                Long.parseLong(parts[0]);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
 
     /**
      * Deletes a media object owned by the given user.
      * *
      * This method:
-     * - Fetches the media entity by its ID.
-     * - Validates that the requesting user is the owner of the media.
-     * - If a storage key is present, removes the object from the storage backend via {@link StorageClient}.
-     * - Updates the media status to {@code DELETED} and persists the change.
+     * - Marks the media {@code DELETED} with one conditional {@code findAndModify} that only matches a media owned
+     * by the requesting user, and queues its original and variant objects for the {@link MediaPurger},
+     * which removes them from the storage backend in the background.
      * <p>
      * If no media with the given ID exists, a {@link NoSuchElementException} is thrown. If the user does not
      * own the media, a {@link SecurityException} is thrown.
@@ -193,17 +745,58 @@ public class MediaService {
      * @throws SecurityException      if the user does not own the media
      */
     public void deleteMedia(String id, String userId) {
-        var m = repository.findById(id).orElseThrow();
+        var m = observations.stage("delete", "transition", () -> repository.findAndTransition(id, userId,
+                Criteria.where("status").ne(MediaStatus.DELETED),
+                new Update()
+                        .set("status", MediaStatus.DELETED)
+                        .set("purgePending", true)
+                        .set("updatedAt", Instant.now())));
 
-        if (!Objects.equals(m.getUserId(), userId)) {
-            throw new SecurityException("Not Owner");
+        if (m == null) {
+            // unknown or foreign media; deleting a deleted media is a no-op
+            observations.stage("delete", "lookup", () -> findOwned(id, userId));
         }
+        mediaCache.invalidate(id);
+    }
 
-        if (m.getStorageKey() != null) {
-            storageClient.deleteObject(m.getStorageKey());
-            m.setStatus(MediaStatus.DELETED);
-            repository.save(m);
-        }
+    /**
+     * Deletes several media of the given user with one bulk update.
+     * *
+     * Media that do not exist, belong to another user or are already deleted are skipped. Storage objects are
+     * purged asynchronously by the {@link MediaPurger}.
+     *
+     * @param ids    the media identifiers to delete
+     * @param userId the ID of the user performing the deletion
+     * @return a {@link BulkDeleteResponse} with the number of media marked deleted
+     */
+    public BulkDeleteResponse deleteMediaBatch(List<String> ids, String userId) {
+        var distinct = ids == null ? List.<String>of() : ids.stream().distinct().toList();
+        long deleted = distinct.isEmpty() ? 0 : repository.markDeleted(distinct, userId, Instant.now());
+        mediaCache.invalidateAll(distinct);
+
+        return BulkDeleteResponse.builder()
+                .requested(distinct.size())
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * Deletes all media of the given user in a journal with one bulk update.
+     *
+     * @param journalId the journal whose media are deleted
+     * @param userId    the ID of the user performing the deletion; must own the journal
+     * @return a {@link BulkDeleteResponse} with the number of media marked deleted
+     * @throws SecurityException if the user does not own the journal
+     */
+    public BulkDeleteResponse deleteJournalMedia(String journalId, String userId) {
+        journals.assertOwnership(journalId, userId);
+
+        long deleted = repository.markDeletedByJournal(journalId, userId, Instant.now());
+        mediaCache.invalidateJournal(journalId);
+
+        return BulkDeleteResponse.builder()
+                .deleted(deleted)
+                .build();
     }
 
 }
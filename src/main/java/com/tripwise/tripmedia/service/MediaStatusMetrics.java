@@ -0,0 +1,104 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 22:55
+ * Description : Gauges of the media collection: counts by {@link MediaStatus}, the {@code UPLOADING} backlog and the
+ * purge backlog.
+ * - Counted every {@code media.metrics.status-refresh} rather than per scrape; each count is an index scan on
+ * {@code status_updated} / {@code purge_backlog}.
+ * - Until the first refresh succeeds the gauges report {@code NaN}.
+ * <pre>
+ * media:
+ *   metrics:
+ *     status-refresh: 30s
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class MediaStatusMetrics implements MeterBinder {
+
+    private static final long UNKNOWN = -1;
+
+    private final MongoTemplate mongo;
+    private final Map<MediaStatus, AtomicLong> counts = new EnumMap<>(MediaStatus.class);
+    private final AtomicLong oldestUploadingMillis = new AtomicLong(UNKNOWN);
+    private final AtomicLong purgeBacklog = new AtomicLong(UNKNOWN);
+
+    public MediaStatusMetrics(MongoTemplate mongo) {
+        this.mongo = mongo;
+        for (MediaStatus status : MediaStatus.values()) {
+            counts.put(status, new AtomicLong(UNKNOWN));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counts.forEach((status, count) -> Gauge.builder("media.status.count", count, MediaStatusMetrics::known)
+                .description("Media documents per status")
+                .tag("status", status.name())
+                .register(registry));
+
+        Gauge.builder("media.uploading.oldest.age", oldestUploadingMillis, v -> known(v) / 1000)
+                .description("Seconds since the oldest UPLOADING media last changed (0 when there is none)")
+                .baseUnit("seconds")
+                .register(registry);
+
+        Gauge.builder("media.purge.backlog", purgeBacklog, MediaStatusMetrics::known)
+                .description("Deleted media whose storage objects are not purged yet")
+                .register(registry);
+    }
+
+    /**
+     * Recounts the collection.
+     */
+    @Scheduled(
+            initialDelayString = "${media.metrics.status-refresh:30s}",
+            fixedDelayString = "${media.metrics.status-refresh:30s}")
+    public void refresh() {
+        try {
+            counts.forEach((status, count) ->
+                    count.set(mongo.count(Query.query(where("status").is(status)), Media.class)));
+
+            var query = Query.query(where("status").is(MediaStatus.UPLOADING)).with(Sort.by("updatedAt")).limit(1);
+            query.fields().include("updatedAt");
+            var oldest = mongo.findOne(query, Media.class);
+            oldestUploadingMillis.set(oldest == null || oldest.getUpdatedAt() == null
+                    ? 0
+                    : Math.max(0, Duration.between(oldest.getUpdatedAt(), Instant.now()).toMillis()));
+
+            purgeBacklog.set(mongo.count(Query.query(where("purgePending").is(true)), Media.class));
+        } catch (RuntimeException e) {
+            log.debug("Media status metrics not refreshed: {}", e.getMessage());
+        }
+    }
+
+    private static double known(AtomicLong value) {
+        long v = value.get();
+        return v == UNKNOWN ? Double.NaN : v;
+    }
+}
@@ -0,0 +1,232 @@
+package com.tripwise.tripmedia.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.tripwise.tripmedia.model.Media;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:15
+ * Description : Optional write coalescing for {@code initUpload} inserts under burst load.
+ * - Concurrent callers enqueue their {@link Media}; one flusher thread groups them for at most {@code max-wait}
+ * after the first arrival, or until {@code max-batch-size} documents, and writes them with one unordered bulk insert.
+ * - Each caller blocks until its own document is acknowledged; a failed document (e.g. duplicate key) fails only
+ * its caller.
+ * - While a batch is being written the next one accumulates, so batches grow with load and stay at one document
+ * (no added latency beyond the window) when idle.
+ * - Falls back to a direct insert when the queue is full.
+ * <pre>
+ * media:
+ *   write-batching:
+ *     enabled: false
+ *     max-batch-size: 100
+ *     max-wait: 5ms
+ *     queue-capacity: 10000
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class MediaWriteBatcher {
+
+    /** Upper bound a caller waits for its batch to be acknowledged, on top of the window. */
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongo;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final BlockingQueue<Pending> queue;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final AtomicInteger maxBatch = new AtomicInteger();
+
+    /**
+     * A queued insert and the future its caller waits on.
+     */
+    private record Pending(Media media, CompletableFuture<Void> done, long enqueuedNanos) {
+    }
+
+    public MediaWriteBatcher(MongoTemplate mongo,
+                             @Value("${media.write-batching.enabled:false}") boolean enabled,
+                             @Value("${media.write-batching.max-batch-size:100}") int maxBatchSize,
+                             @Value("${media.write-batching.max-wait:5ms}") Duration maxWait,
+                             @Value("${media.write-batching.queue-capacity:10000}") int queueCapacity) {
+        this.mongo = mongo;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWait = maxWait;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+
+        this.flusher = new Thread(this::run, "media-write-batcher");
+        this.flusher.setDaemon(true);
+        if (enabled) {
+            this.flusher.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Inserts the media with the next batch and waits until that batch has been acknowledged.
+     *
+     * @param media a new media document (ID already assigned)
+     * @throws RuntimeException      the insert failure of this document, e.g. {@code DuplicateKeyException}
+     * @throws IllegalStateException if the batch was not acknowledged in time
+     */
+    public void insert(Media media) {
+        if (media.getVersion() == null) {
+            media.setVersion(0L); // bulk inserts do not initialize @Version
+        }
+
+        var pending = new Pending(media, new CompletableFuture<>(), System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            mongo.insert(media);
+            return;
+        }
+
+        try {
+            pending.done().get(maxWait.plus(WRITE_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batched insert", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timeout waiting for batched insert", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Batch counters and the write amplification saved so far.
+     */
+    public MediaWriteBatcherStats stats() {
+        long b = batches.sum();
+        long d = documents.sum();
+        return new MediaWriteBatcherStats(
+                enabled,
+                queue.size(),
+                b,
+                d,
+                failed.sum(),
+                b == 0 ? 0 : (double) d / b,
+                maxBatch.get(),
+                d == 0 ? 0 : waitNanos.sum() / 1e6 / d,
+                b == 0 ? 0 : writeNanos.sum() / 1e6 / b,
+                d - b);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(WRITE_TIMEOUT.toMillis()); // the flusher drains what is queued before exiting
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                flush(collect(first));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Media write batcher failed", e);
+            }
+        }
+    }
+
+    /**
+     * Gathers up to {@code max-batch-size} documents, waiting at most {@code max-wait} after the first one arrived.
+     */
+    private List<Pending> collect(Pending first) throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = first.enqueuedNanos() + maxWait.toNanos();
+
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, maxBatchSize - batch.size()); // whatever is already waiting
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        long start = System.nanoTime();
+        batch.forEach(p -> waitNanos.add(start - p.enqueuedNanos()));
+
+        try {
+            mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Media.class)
+                    .insert(batch.stream().map(Pending::media).toList())
+                    .execute();
+            batch.forEach(p -> p.done().complete(null));
+        } catch (BulkOperationException e) {
+            // Unordered: every document without an error was written
+            Map<Integer, BulkWriteError> errors = e.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, Function.identity(), (a, b) -> a));
+            for (int i = 0; i < batch.size(); i++) {
+                var error = errors.get(i);
+                if (error == null) {
+                    batch.get(i).done().complete(null);
+                } else {
+                    // Same exception type as a direct insert, so callers handle both paths alike
+                    failed.increment();
+                    String message = "Insert of media " + batch.get(i).media().getId() + " failed: "
+                            + error.getMessage();
+                    batch.get(i).done().completeExceptionally(error.getCode() == DUPLICATE_KEY
+                            ? new DuplicateKeyException(message)
+                            : new IllegalStateException(message));
+                }
+            }
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            batch.forEach(p -> p.done().completeExceptionally(e));
+        } finally {
+            writeNanos.add(System.nanoTime() - start);
+            batches.increment();
+            documents.add(batch.size());
+            maxBatch.accumulateAndGet(batch.size(), Math::max);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.tripwise.tripmedia.service;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:10
+ * Description : Point-in-time snapshot of the {@link MediaWriteBatcher} counters.
+ * ================================================================
+ */
+/**
+ * @param enabled         whether initUpload inserts are batched at all
+ * @param queueDepth      documents waiting for the next batch
+ * @param batches         bulk writes sent since startup
+ * @param documents       documents written through batches since startup
+ * @param failed          documents whose insert failed
+ * @param meanBatchSize   mean documents per bulk write
+ * @param maxBatchSize    largest bulk write so far
+ * @param meanWaitMillis  mean time a document waited in the queue before its batch was sent
+ * @param meanWriteMillis mean duration of one bulk write
+ * @param writesSaved     round trips avoided compared with one insert per document ({@code documents - batches})
+ */
+public record MediaWriteBatcherStats(
+        boolean enabled,
+        int queueDepth,
+        long batches,
+        long documents,
+        long failed,
+        double meanBatchSize,
+        int maxBatchSize,
+        double meanWaitMillis,
+        double meanWriteMillis,
+        long writesSaved
+) {
+}
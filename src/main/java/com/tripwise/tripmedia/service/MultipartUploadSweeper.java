@@ -0,0 +1,173 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 10:42
+ * Description : Periodically aborts multipart uploads that were never confirmed.
+ * - Abandoned parts are invisible in the bucket listing but are still billed; aborting frees them.
+ * - Only uploads recorded on media still {@code UPLOADING} ({@code Media.uploadId}) are aborted, never whatever else
+ * is in progress in the bucket: it may be shared with other tools, and keys ({@code userId/mediaId/fileName}) have
+ * no prefix of their own to list by. Uploads no media recorded (an init that failed after initiating) are left to
+ * the bucket's {@code AbortIncompleteMultipartUpload} lifecycle rule.
+ * - Candidates are read oldest first from the {@code status_created} index, {@code sweep-batch-size} at a time.
+ * - Media of an aborted upload become {@code FAILED} and lose their {@code uploadId}, since a later confirm has
+ * nothing left to assemble; an upload whose abort fails is logged and retried on the next run.
+ * - Runs on one replica at a time ({@link LeaderLock}) and stops at half its lease; the rest is left for the next run.
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class MultipartUploadSweeper {
+
+    static final String LOCK = "multipart-sweeper";
+
+    private final StorageClient storageClient;
+    private final MongoTemplate mongo;
+    private final MediaCache mediaCache;
+    private final LeaderLock leaderLock;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Duration lockLease;
+
+    public MultipartUploadSweeper(StorageClient storageClient,
+                                  MongoTemplate mongo,
+                                  MediaCache mediaCache,
+                                  LeaderLock leaderLock,
+                                  @Value("${media.multipart.stale-after:24h}") Duration staleAfter,
+                                  @Value("${media.multipart.sweep-batch-size:500}") int batchSize,
+                                  @Value("${media.multipart.sweep-lock-lease:30m}") Duration lockLease) {
+        this.storageClient = storageClient;
+        this.mongo = mongo;
+        this.mediaCache = mediaCache;
+        this.leaderLock = leaderLock;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.lockLease = lockLease;
+    }
+
+    /**
+     * Aborts the multipart uploads of media created more than {@code media.multipart.stale-after} ago and still
+     * {@code UPLOADING}, if this replica holds the lease. Failures are logged and retried on the next run.
+     */
+    @Scheduled(
+            initialDelayString = "${media.multipart.sweep-interval:1h}",
+            fixedDelayString = "${media.multipart.sweep-interval:1h}")
+    public void sweep() {
+        try {
+            if (!leaderLock.tryAcquire(LOCK, lockLease)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Multipart sweep could not take its lease: {}", e.getMessage());
+            return;
+        }
+        Instant deadline = Instant.now().plus(lockLease.dividedBy(2));
+        try {
+            Instant cutoff = Instant.now().minus(staleAfter);
+            Instant after = null;
+            int aborted = 0;
+            do {
+                List<Media> batch = staleUploads(after, cutoff);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                aborted += abort(batch, deadline);
+                after = batch.size() < batchSize ? null : batch.get(batch.size() - 1).getCreatedAt();
+            } while (after != null && Instant.now().isBefore(deadline));
+            if (aborted > 0) {
+                log.info("Aborted {} stale multipart upload(s)", aborted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Multipart sweep failed: {}", e.getMessage());
+        } finally {
+            leaderLock.release(LOCK);
+        }
+    }
+
+    /**
+     * One batch of media still {@code UPLOADING} with a multipart upload, created after {@code after} (keyset; all
+     * when {@code null}) and before {@code cutoff}, oldest first.
+     */
+    List<Media> staleUploads(Instant after, Instant cutoff) {
+        Criteria stale = where("status").is(MediaStatus.UPLOADING).and("uploadId").ne(null);
+        Criteria created = stale.and("createdAt").lt(cutoff);
+        if (after != null) {
+            created.gt(after);
+        }
+        Query batch = query(stale).with(Sort.by("createdAt")).limit(batchSize);
+        batch.fields().include("_id", "storageKey", "uploadId", "createdAt");
+        return mongo.find(batch, Media.class);
+    }
+
+    /**
+     * Aborts the uploads of a batch until {@code deadline}, then detaches the aborted ones from their media.
+     *
+     * @return the number of uploads aborted
+     */
+    int abort(List<Media> batch, Instant deadline) {
+        List<String> aborted = new ArrayList<>();
+        for (Media m : batch) {
+            if (!aborted.isEmpty() && !Instant.now().isBefore(deadline)) {
+                break;
+            }
+            try {
+                storageClient.abortMultipart(m.getStorageKey(), m.getUploadId());
+                aborted.add(m.getUploadId());
+            } catch (RuntimeException e) {
+                log.warn("Could not abort multipart upload of media {}: {}", m.getId(), e.getMessage());
+            }
+        }
+        if (!aborted.isEmpty()) {
+            detach(aborted);
+        }
+        return aborted.size();
+    }
+
+    /**
+     * Clears the aborted upload IDs from their media.
+     */
+    void detach(List<String> uploadIds) {
+        Query owners = query(where("uploadId").in(uploadIds));
+        owners.fields().include("_id");
+        List<String> ids = mongo.find(owners, Media.class).stream().map(Media::getId).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        mongo.updateMulti(
+                query(where("uploadId").in(uploadIds).and("status").is(MediaStatus.UPLOADING)),
+                new Update().set("status", MediaStatus.FAILED).unset("uploadId").set("updatedAt", now)
+                        .inc("version", 1),
+                Media.class);
+        mongo.updateMulti(
+                query(where("uploadId").in(uploadIds)),
+                new Update().unset("uploadId").set("updatedAt", now).inc("version", 1),
+                Media.class);
+        mediaCache.invalidateAll(ids);
+    }
+}
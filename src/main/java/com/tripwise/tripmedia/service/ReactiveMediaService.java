@@ -0,0 +1,341 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.dto.BulkDeleteResponse;
+import com.tripwise.tripmedia.dto.ConfirmUploadRequest;
+import com.tripwise.tripmedia.dto.InitUploadBatchResponse;
+import com.tripwise.tripmedia.dto.InitUploadRequest;
+import com.tripwise.tripmedia.dto.InitUploadResponse;
+import com.tripwise.tripmedia.dto.MediaPage;
+import com.tripwise.tripmedia.dto.MediaResponse;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.repository.ReactiveMediaRepository;
+import com.tripwise.tripmedia.service.client.JournalClient;
+import com.tripwise.tripmedia.service.client.ObjectInfo;
+import com.tripwise.tripmedia.service.client.ReactiveStorageClient;
+import com.tripwise.tripmedia.service.variant.VariantPipeline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 21:05
+ * Description : Non-blocking counterpart of {@link MediaService} for the reactive web stack ({@code reactive} profile).
+ * - Same behaviour and error types as {@link MediaService}; ID/key generation, presigning and cursors are shared with it.
+ * - Mongo via {@link ReactiveMediaRepository}, multipart completion via {@link ReactiveStorageClient}, ownership via
+ * {@link JournalClient#checkOwnership}.
+ * - The few remaining blocking steps (multipart initiation, variant queueing with backpressure) run on
+ * {@code boundedElastic}, never on an event-loop thread.
+ * ================================================================
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMediaService {
+
+    private final ReactiveMediaRepository repository;
+    private final ReactiveStorageClient storageClient;
+    private final JournalClient journals;
+    private final MediaService media;
+    private final VariantPipeline variants;
+    private final UploadVerifier verifier;
+    private final MediaCache mediaCache;
+    private final MediaObservations observations;
+    private final int batchChunkSize;
+    private final int batchConcurrency;
+
+    public ReactiveMediaService(ReactiveMediaRepository repository,
+                                ReactiveStorageClient storageClient,
+                                JournalClient journals,
+                                MediaService media,
+                                VariantPipeline variants,
+                                UploadVerifier verifier,
+                                MediaCache mediaCache,
+                                MediaObservations observations,
+                                @Value("${media.batch.chunk-size:200}") int batchChunkSize,
+                                @Value("${media.batch.concurrency:4}") int batchConcurrency) {
+        this.repository = repository;
+        this.storageClient = storageClient;
+        this.journals = journals;
+        this.media = media;
+        this.variants = variants;
+        this.verifier = verifier;
+        this.mediaCache = mediaCache;
+        this.observations = observations;
+        this.batchChunkSize = Math.max(1, batchChunkSize);
+        this.batchConcurrency = Math.max(1, batchConcurrency);
+    }
+
+    /**
+     * Initializes a new media upload for a given user and journal.
+     *
+     * @see MediaService#initUpload(String, InitUploadRequest)
+     */
+    public Mono<InitUploadResponse> initUpload(String userId, InitUploadRequest request) {
+        String id = UUID.randomUUID().toString();
+        return observations.stage("init", "ownership", journals.checkOwnership(request.getJournalId(), userId))
+                .then(observations.stage("init", "dedupe", deduplicate(userId, id, request)))
+                .switchIfEmpty(Mono.defer(() -> observations.stage("init", "presign", prepare(userId, id, request))
+                        .flatMap(prepared -> observations.stage("init", "save", repository.insert(prepared.getT1()))
+                                .thenReturn(prepared.getT2()))));
+    }
+
+    /**
+     * Reference to an identical upload of the user ({@link MediaDeduplicator} uses the blocking template), or empty
+     * if the file has to be uploaded; requests without a checksum never leave the event loop.
+     */
+    private Mono<InitUploadResponse> deduplicate(String userId, String id, InitUploadRequest request) {
+        if (request.getChecksum() == null || request.getChecksum().isBlank()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> media.deduplicate(userId, id, request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * New media and its upload instructions; multipart initiation is a blocking S3 call, so it is moved off the
+     * event loop.
+     */
+    private Mono<Tuple2<Media, InitUploadResponse>> prepare(String userId, String id, InitUploadRequest request) {
+        var prepared = Mono.fromCallable(() -> {
+            var m = media.newMedia(userId, id, MediaService.storageKey(userId, id, request.getFileName()), request);
+            return Tuples.of(m, media.prepareUpload(m));
+        });
+        return media.usesMultipart(request.getBytes())
+                ? prepared.subscribeOn(Schedulers.boundedElastic())
+                : prepared;
+    }
+
+    /**
+     * Initializes several media uploads for one user in a single call.
+     *
+     * @see MediaService#initUploadBatch(String, List)
+     */
+    public Mono<InitUploadBatchResponse> initUploadBatch(String userId, List<InitUploadRequest> requests) {
+        return Mono.fromRunnable(() -> media.checkInitBatch(requests))
+                // One ownership check per distinct journal, concurrently; keep the rejection reason per journal
+                .thenMany(Flux.fromIterable(requests)
+                        .map(InitUploadRequest::getJournalId)
+                        .distinct())
+                .flatMap(journalId -> journals.checkOwnership(journalId, userId)
+                        .then(Mono.<Map.Entry<String, String>>empty())
+                        .onErrorResume(e -> Mono.just(Map.entry(journalId, String.valueOf(e.getMessage())))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                // Parallel presigning (and possibly multipart initiation) blocks, so it runs on boundedElastic
+                .publishOn(Schedulers.boundedElastic())
+                .map(journalErrors -> media.prepareBatch(userId, requests, journalErrors))
+                .flatMap(batch -> batch.accepted().isEmpty()
+                        ? Mono.just(batch.response())
+                        : repository.insert(batch.accepted()).then(Mono.fromSupplier(batch::response)));
+    }
+
+    /**
+     * Confirms completion of an upload with one conditional {@code findAndModify}; see
+     * {@link MediaService#confirmUpload} for the fallback rules.
+     */
+    public Mono<MediaResponse> confirmUpload(String userId, ConfirmUploadRequest request) {
+        String id = request.getMediaId();
+
+        return observations.stage("confirm", "transition", repository.findAndTransition(id, userId,
+                        media.confirmable(), media.confirmUpdate(request)))
+                .flatMap(this::confirmed)
+                .switchIfEmpty(Mono.defer(() -> observations.stage("confirm", "lookup", findOwned(id, userId))
+                        .flatMap(current -> {
+                            if (current.getStatus() == MediaStatus.UPLOADING && current.getUploadId() != null) {
+                                var complete = storageClient.completeMultipart(
+                                        current.getStorageKey(), current.getUploadId(), current.getBytes());
+                                var transition = repository.findAndTransition(id, userId,
+                                        Criteria.where("status").is(MediaStatus.UPLOADING)
+                                                .and("uploadId").is(current.getUploadId()),
+                                        media.confirmUpdate(request).unset("uploadId"));
+                                return observations.stage("confirm", "complete-multipart", complete)
+                                        .then(observations.stage("confirm", "transition", transition))
+                                        .flatMap(this::confirmed)
+                                        .switchIfEmpty(Mono.error(() -> notUploading(current)));
+                            }
+                            if (current.getStatus() == MediaStatus.READY || media.isVerifying(current)) {
+                                return Mono.just(MediaResponse.from(current)); // retried confirm
+                            }
+                            return Mono.error(notUploading(current));
+                        })));
+    }
+
+    /**
+     * After a successful confirm: drop the cached copy and start verification or variant generation.
+     */
+    private Mono<MediaResponse> confirmed(Media m) {
+        mediaCache.invalidate(m.getId());
+        if (media.verifiesUploads()) {
+            verifier.verifyAsync(m); // hands off to its own executor
+            return Mono.just(MediaResponse.from(m));
+        }
+        // submit() may wait for queue room (backpressure)
+        return Mono.fromRunnable(() -> variants.submit(m))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(MediaResponse.from(m));
+    }
+
+    private static OptimisticLockingFailureException notUploading(Media current) {
+        return new OptimisticLockingFailureException(
+                "Media " + current.getId() + " is " + current.getStatus() + ", not UPLOADING");
+    }
+
+    /**
+     * Retrieves a media record by its unique identifier, from the {@link MediaCache} when possible.
+     *
+     * @see MediaService#getMedia(String)
+     */
+    public Mono<MediaResponse> getMedia(String id) {
+        var cached = mediaCache.get(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.defer(() -> {
+                    long stamp = mediaCache.stamp();
+                    return repository.findById(id).map(m -> mediaCache.put(m, stamp));
+                })
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("No value present")));
+    }
+
+    /**
+     * Looks up what the content endpoint needs to serve a media.
+     *
+     * @see MediaService#getContent(String)
+     */
+    public Mono<MediaService.Content> getContent(String id) {
+        return repository.findById(id)
+                .filter(m -> m.getStatus() == MediaStatus.READY)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("No content for media " + id)))
+                .flatMap(m -> (m.getBytes() != null
+                        ? Mono.just(m.getBytes())
+                        : storageClient.headObject(m.getStorageKey()).map(ObjectInfo::size))
+                        .map(bytes -> new MediaService.Content(
+                                m.getStorageKey(), m.getMimeType(), bytes, m.getChecksum(), m.getUpdatedAt())));
+    }
+
+    /**
+     * Streams a byte range of a media's object with a ranged read from storage.
+     *
+     * @see MediaService#openContent
+     */
+    public Flux<DataBuffer> openContent(MediaService.Content content, long start, long end) {
+        return storageClient.getObjectRange(content.storageKey(), start, end);
+    }
+
+    /**
+     * Streams the media for the given IDs in request order, skipping unknown and duplicate IDs.
+     * Cache misses are loaded chunk by chunk ({@code media.batch.chunk-size}), at most {@code media.batch.concurrency}
+     * chunks at a time; each chunk is emitted as soon as it and all chunks before it are loaded.
+     *
+     * @see MediaService#getMediaList(List)
+     */
+    public Flux<MediaResponse> getMediaList(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(new LinkedHashSet<>(ids))
+                .buffer(batchChunkSize)
+                .flatMapSequential(this::loadChunk, batchConcurrency);
+    }
+
+    private Flux<MediaResponse> loadChunk(List<String> chunk) {
+        Map<String, MediaResponse> found = new HashMap<>(mediaCache.getAll(chunk));
+        var misses = chunk.stream().filter(id -> !found.containsKey(id)).toList();
+
+        long stamp = mediaCache.stamp();
+        Mono<Map<String, MediaResponse>> loaded = misses.isEmpty()
+                ? Mono.just(found)
+                : repository.findByIdIn(misses)
+                .map(m -> mediaCache.put(m, stamp))
+                .collectMap(MediaResponse::getId, Function.identity(), () -> found);
+
+        return loaded.flatMapIterable(byId -> chunk.stream().map(byId::get).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Lists a journal's media, newest first, one keyset page at a time.
+     *
+     * @see MediaService#listJournalMedia(String, String, String, int)
+     */
+    public Mono<MediaPage> listJournalMedia(String journalId, String userId, String after, int limit) {
+        return journals.checkOwnership(journalId, userId).then(Mono.defer(() -> {
+            int size = media.pageSize(limit);
+            var cursor = MediaService.JournalCursor.parse(after);
+            var found = cursor == null
+                    ? repository.findJournalPage(journalId, null, null, size + 1)
+                    : repository.findJournalPage(journalId, cursor.createdAt(), cursor.id(), size + 1);
+            return found.collectList().map(items -> MediaService.page(items, size));
+        }));
+    }
+
+    /**
+     * Deletes a media owned by the given user with one conditional {@code findAndModify}.
+     *
+     * @see MediaService#deleteMedia(String, String)
+     */
+    public Mono<Void> deleteMedia(String id, String userId) {
+        return observations.stage("delete", "transition", repository.findAndTransition(id, userId,
+                        Criteria.where("status").ne(MediaStatus.DELETED),
+                        new Update()
+                                .set("status", MediaStatus.DELETED)
+                                .set("purgePending", true)
+                                .set("updatedAt", Instant.now())))
+                // unknown or foreign media
+                .switchIfEmpty(Mono.defer(() -> observations.stage("delete", "lookup", findOwned(id, userId))))
+                .doOnSuccess(m -> mediaCache.invalidate(id))
+                .then();
+    }
+
+    /**
+     * Deletes several media of the given user with one bulk update.
+     *
+     * @see MediaService#deleteMediaBatch(List, String)
+     */
+    public Mono<BulkDeleteResponse> deleteMediaBatch(List<String> ids, String userId) {
+        var distinct = ids == null ? List.<String>of() : ids.stream().distinct().toList();
+        var deleted = distinct.isEmpty() ? Mono.just(0L) : repository.markDeleted(distinct, userId, Instant.now());
+
+        return deleted
+                .doOnSuccess(n -> mediaCache.invalidateAll(distinct))
+                .map(n -> BulkDeleteResponse.builder().requested(distinct.size()).deleted(n).build());
+    }
+
+    /**
+     * Deletes all media of the given user in a journal with one bulk update.
+     *
+     * @see MediaService#deleteJournalMedia(String, String)
+     */
+    public Mono<BulkDeleteResponse> deleteJournalMedia(String journalId, String userId) {
+        return journals.checkOwnership(journalId, userId)
+                .then(Mono.defer(() -> repository.markDeletedByJournal(journalId, userId, Instant.now())))
+                .doOnSuccess(n -> mediaCache.invalidateJournal(journalId))
+                .map(n -> BulkDeleteResponse.builder().deleted(n).build());
+    }
+
+    /**
+     * Loads a media and checks its owner; used to explain a conditional update that did not match.
+     */
+    private Mono<Media> findOwned(String id, String userId) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("No value present")))
+                .flatMap(m -> Objects.equals(m.getUserId(), userId)
+                        ? Mono.just(m)
+                        : Mono.error(new SecurityException("Not Owner")));
+    }
+}
@@ -0,0 +1,232 @@
+package com.tripwise.tripmedia.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 07:20
+ * Description : Moves old {@code DELETED} media out of the hot {@code media} collection into {@code media_archive}.
+ * - Candidates were deleted more than {@code tombstones.retention} ago and are already purged from storage
+ * ({@code purgePending} unset); they are read oldest first from the {@code status_updated} index.
+ * - Each batch is copied as raw documents (with an {@code archivedAt} field) by one unordered {@code insertMany},
+ * then removed from {@code media} by ID. A batch interrupted in between is copied again on the next run; documents
+ * already in the archive are skipped as duplicate keys.
+ * - Reports documents per second and the change of the collection's {@code totalIndexSize} ({@code collStats})
+ * per run, as a log line and as gauges. Deleted index entries are reused by MongoDB but only returned to the
+ * filesystem by {@code compact}, which can be run after each run with {@code tombstones.compact}.
+ * - Runs on one replica at a time ({@link LeaderLock}).
+ * <pre>
+ * media:
+ *   tombstones:
+ *     interval: 1h
+ *     retention: 30d
+ *     batch-size: 1000
+ *     max-batches-per-run: 50
+ *     lock-lease: 30m
+ *     compact: false
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class TombstoneCompactor implements MeterBinder {
+
+    static final String LOCK = "tombstone-compactor";
+    static final String ARCHIVE = "media_archive";
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final long UNKNOWN = -1;
+
+    private final MongoTemplate mongo;
+    private final LeaderLock leaderLock;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lockLease;
+    private final boolean compactAfterRun;
+
+    private final LongAdder archived = new LongAdder();
+    private final AtomicLong lastRunPerSecond = new AtomicLong(UNKNOWN);
+    private final AtomicLong lastIndexBytesReclaimed = new AtomicLong(UNKNOWN);
+
+    public TombstoneCompactor(MongoTemplate mongo,
+                              LeaderLock leaderLock,
+                              @Value("${media.tombstones.retention:30d}") Duration retention,
+                              @Value("${media.tombstones.batch-size:1000}") int batchSize,
+                              @Value("${media.tombstones.max-batches-per-run:50}") int maxBatchesPerRun,
+                              @Value("${media.tombstones.lock-lease:30m}") Duration lockLease,
+                              @Value("${media.tombstones.compact:false}") boolean compactAfterRun) {
+        this.mongo = mongo;
+        this.leaderLock = leaderLock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lockLease = lockLease;
+        this.compactAfterRun = compactAfterRun;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("media.tombstones.archived", archived, LongAdder::sum)
+                .description("Deleted media moved to the archive collection")
+                .register(registry);
+
+        Gauge.builder("media.tombstones.last.rate", lastRunPerSecond, TombstoneCompactor::known)
+                .description("Documents archived per second by the last compaction run")
+                .register(registry);
+
+        Gauge.builder("media.tombstones.last.index.reclaimed", lastIndexBytesReclaimed, TombstoneCompactor::known)
+                .description("Decrease of the media collection's total index size over the last compaction run")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Archives up to {@code max-batches-per-run} batches, if this replica holds the lease; stops early when the
+     * lease is about to run out.
+     */
+    @Scheduled(
+            initialDelayString = "${media.tombstones.interval:1h}",
+            fixedDelayString = "${media.tombstones.interval:1h}")
+    public void compact() {
+        try {
+            if (!leaderLock.tryAcquire(LOCK, lockLease)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tombstone compaction could not take its lease: {}", e.getMessage());
+            return;
+        }
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("Tombstone compaction failed: {}", e.getMessage());
+        } finally {
+            leaderLock.release(LOCK);
+        }
+    }
+
+    /**
+     * One compaction run.
+     *
+     * @return the number of documents moved
+     */
+    long run() {
+        long start = System.nanoTime();
+        Instant deadline = Instant.now().plus(lockLease.dividedBy(2));
+        Instant cutoff = Instant.now().minus(retention);
+        long indexBefore = totalIndexSize();
+
+        long moved = 0;
+        for (int i = 0; i < maxBatchesPerRun && Instant.now().isBefore(deadline); i++) {
+            int n = archiveBatch(cutoff);
+            moved += n;
+            if (n < batchSize) {
+                break;
+            }
+        }
+        if (moved == 0) {
+            return 0;
+        }
+
+        if (compactAfterRun) {
+            mongo.executeCommand(new Document("compact", mongo.getCollectionName(Media.class)));
+        }
+        long indexAfter = totalIndexSize();
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        long perSecond = Math.round(moved / seconds);
+        long reclaimed = indexBefore == UNKNOWN || indexAfter == UNKNOWN ? UNKNOWN : indexBefore - indexAfter;
+        lastRunPerSecond.set(perSecond);
+        lastIndexBytesReclaimed.set(reclaimed);
+
+        if (reclaimed == UNKNOWN) {
+            log.info("Archived {} tombstone(s) in {} ms ({}/s); index size not reported by the server",
+                    moved, Math.round(seconds * 1000), perSecond);
+        } else {
+            log.info("Archived {} tombstone(s) in {} ms ({}/s); total index size {} -> {} bytes ({} reclaimed)",
+                    moved, Math.round(seconds * 1000), perSecond, indexBefore, indexAfter, reclaimed);
+        }
+        return moved;
+    }
+
+    /**
+     * Copies one batch of tombstones to the archive and removes them from {@code media}.
+     *
+     * @return the number of documents removed
+     */
+    int archiveBatch(Instant cutoff) {
+        Query candidates = query(where("status").is(MediaStatus.DELETED.name())
+                .and("updatedAt").lt(cutoff)
+                .and("purgePending").ne(true))
+                .with(Sort.by("updatedAt"))
+                .limit(batchSize);
+        List<Document> batch = mongo.find(candidates, Document.class, mongo.getCollectionName(Media.class));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Date now = new Date();
+        batch.forEach(doc -> doc.put("archivedAt", now));
+        try {
+            mongo.getCollection(ARCHIVE).insertMany(batch, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            // Already archived by an interrupted run; anything else keeps the batch in place
+            if (e.getWriteErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+
+        // Same conditions again, so a document that changed meanwhile stays
+        var removed = mongo.remove(query(where("_id").in(batch.stream().map(doc -> doc.get("_id")).toList())
+                        .and("status").is(MediaStatus.DELETED.name())
+                        .and("updatedAt").lt(cutoff)
+                        .and("purgePending").ne(true)),
+                mongo.getCollectionName(Media.class));
+        archived.add(removed.getDeletedCount());
+        return (int) removed.getDeletedCount();
+    }
+
+    /** {@code totalIndexSize} of the media collection, or {@code -1} if the server does not report it. */
+    private long totalIndexSize() {
+        try {
+            var stats = mongo.executeCommand(new Document("collStats", mongo.getCollectionName(Media.class)));
+            Object size = stats.get("totalIndexSize");
+            return size instanceof Number number ? number.longValue() : UNKNOWN;
+        } catch (RuntimeException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private static double known(AtomicLong value) {
+        long v = value.get();
+        return v == UNKNOWN ? Double.NaN : v;
+    }
+}
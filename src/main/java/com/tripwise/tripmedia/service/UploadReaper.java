@@ -0,0 +1,276 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.repository.MediaRepository;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import com.tripwise.tripmedia.service.variant.VariantPipeline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 07:10
+ * Description : Periodically settles media left {@code UPLOADING} by clients that never confirmed.
+ * - Candidates were created more than {@code signed-url-ttl-minutes} plus {@code reaper.grace} ago, so their upload
+ * URLs have expired; they are read oldest first from the {@code status_created} index.
+ * - Each candidate's object is checked in storage (a pending multipart upload is aborted first):
+ * - present with the expected size: promoted to {@code READY} and variants are queued (handed to the
+ * {@link UploadVerifier} instead when uploads are verified, stamping {@code verifyingSince});
+ * - present with another size: {@code FAILED}, and the object joins the purge backlog;
+ * - missing: the record is deleted.
+ * - The outcome of a batch is written with one unordered bulk write; every operation is conditional on the
+ * {@code version} that was read, so a confirm or delete racing with the reaper wins.
+ * - Uploads whose {@code verifyingSince} is newer than the cutoff are being verified (after a confirm or an earlier
+ * run) and are skipped; only verifications that stalled past the cutoff are taken over.
+ * - A candidate whose storage check fails (e.g., a 403 or 5xx, or a key the backend rejects) is logged and left
+ * {@code UPLOADING}; the rest of its batch is still written, so one bad record cannot hold back everything after it.
+ * - Runs on one replica at a time ({@link LeaderLock}); storage is checked one candidate at a time, so a batch stops
+ * at the same deadline as the run and the rest is left for the next run.
+ * <pre>
+ * media:
+ *   reaper:
+ *     interval: 5m
+ *     grace: 10m
+ *     batch-size: 200
+ *     max-batches-per-run: 20
+ *     lock-lease: 10m
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Component
+public class UploadReaper {
+
+    static final String LOCK = "upload-reaper";
+
+    private final MediaRepository repository;
+    private final MongoTemplate mongo;
+    private final StorageClient storageClient;
+    private final VariantPipeline variants;
+    private final UploadVerifier verifier;
+    private final MediaCache mediaCache;
+    private final LeaderLock leaderLock;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lockLease;
+    private final boolean verifyUploads;
+
+    public UploadReaper(MediaRepository repository,
+                        MongoTemplate mongo,
+                        StorageClient storageClient,
+                        VariantPipeline variants,
+                        UploadVerifier verifier,
+                        MediaCache mediaCache,
+                        LeaderLock leaderLock,
+                        @Value("${media.signed-url-ttl-minutes:20}") long signedUrlTtlMinutes,
+                        @Value("${media.reaper.grace:10m}") Duration grace,
+                        @Value("${media.reaper.batch-size:200}") int batchSize,
+                        @Value("${media.reaper.max-batches-per-run:20}") int maxBatchesPerRun,
+                        @Value("${media.reaper.lock-lease:10m}") Duration lockLease,
+                        @Value("${media.verification.enabled:false}") boolean verifyUploads) {
+        this.repository = repository;
+        this.mongo = mongo;
+        this.storageClient = storageClient;
+        this.variants = variants;
+        this.verifier = verifier;
+        this.mediaCache = mediaCache;
+        this.leaderLock = leaderLock;
+        this.staleAfter = Duration.ofMinutes(signedUrlTtlMinutes).plus(grace);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lockLease = lockLease;
+        this.verifyUploads = verifyUploads;
+    }
+
+    /**
+     * Reaps up to {@code max-batches-per-run} batches, if this replica holds the lease; stops early when the lease
+     * is about to run out.
+     */
+    @Scheduled(
+            initialDelayString = "${media.reaper.interval:5m}",
+            fixedDelayString = "${media.reaper.interval:5m}")
+    public void reap() {
+        try {
+            if (!leaderLock.tryAcquire(LOCK, lockLease)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Upload reaper could not take its lease: {}", e.getMessage());
+            return;
+        }
+        Instant deadline = Instant.now().plus(lockLease.dividedBy(2));
+        try {
+            Instant cutoff = Instant.now().minus(staleAfter);
+            Instant after = Instant.EPOCH;
+            for (int i = 0; i < maxBatchesPerRun && Instant.now().isBefore(deadline); i++) {
+                after = reapBatch(after, cutoff, deadline);
+                if (after == null) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Upload reaper failed: {}", e.getMessage());
+        } finally {
+            leaderLock.release(LOCK);
+        }
+    }
+
+    /**
+     * Settles one batch of stale uploads.
+     *
+     * @param after  {@code createdAt} of the last upload of the previous batch (keyset, so uploads left
+     *               {@code UPLOADING} for the verifier are not examined twice in a run)
+     * @param cutoff   uploads created (or handed to the verifier) before this instant are stale
+     * @param deadline no further candidates are checked in storage after this instant
+     * @return {@code createdAt} of the last upload examined, or {@code null} if it was the last batch
+     */
+    Instant reapBatch(Instant after, Instant cutoff, Instant deadline) {
+        var batch = repository.findByStatusAndCreatedAtBetween(MediaStatus.UPLOADING, after, cutoff,
+                PageRequest.of(0, batchSize, Sort.by("createdAt")));
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        var bulk = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Media.class);
+        List<Media> examined = new ArrayList<>();
+        List<Media> promoted = new ArrayList<>();
+        List<Media> toVerify = new ArrayList<>();
+        int verifying = 0;
+        int skipped = 0;
+        int failed = 0;
+        int deleted = 0;
+        int writes = 0;
+        Instant now = Instant.now();
+
+        for (Media m : batch) {
+            if (!examined.isEmpty() && !Instant.now().isBefore(deadline)) {
+                break;
+            }
+            examined.add(m);
+            if (m.getVerifyingSince() != null && m.getVerifyingSince().isAfter(cutoff)) {
+                verifying++; // still in the verifier's hands
+                continue;
+            }
+            Long size;
+            try {
+                size = storedSize(m);
+            } catch (RuntimeException e) {
+                log.warn("Upload reaper could not check media {} in storage: {}", m.getId(), e.getMessage());
+                skipped++;
+                continue;
+            }
+            Query unchanged = query(where("_id").is(m.getId())
+                    .and("status").is(MediaStatus.UPLOADING)
+                    .and("version").is(m.getVersion()));
+
+            if (size == null) {
+                bulk.remove(unchanged);
+                deleted++;
+                writes++;
+            } else if (m.getBytes() != null && size != m.getBytes().longValue()) {
+                bulk.updateOne(unchanged, new Update()
+                        .set("status", MediaStatus.FAILED)
+                        .set("purgePending", true)
+                        .unset("uploadId")
+                        .set("updatedAt", now)
+                        .inc("version", 1));
+                failed++;
+                writes++;
+            } else if (verifyUploads) {
+                // The verifier moves it to READY or FAILED; the stamp keeps later runs from verifying it again
+                bulk.updateOne(unchanged, new Update()
+                        .set("verifyingSince", now)
+                        .set("bytes", size)
+                        .unset("uploadId")
+                        .inc("version", 1));
+                toVerify.add(m);
+                writes++;
+            } else {
+                bulk.updateOne(unchanged, new Update()
+                        .set("status", MediaStatus.READY)
+                        .set("bytes", size)
+                        .unset("uploadId")
+                        .set("updatedAt", now)
+                        .inc("version", 1));
+                promoted.add(m);
+                writes++;
+            }
+        }
+
+        if (writes > 0) {
+            bulk.execute();
+        }
+        mediaCache.invalidateAll(examined.stream().map(Media::getId).toList());
+
+        // Only the promotions and hand-overs that won against a concurrent confirm/delete go on
+        won(promoted, MediaStatus.READY).forEach(variants::submit);
+        won(toVerify, MediaStatus.UPLOADING).forEach(verifier::verifyAsync);
+
+        log.info("Reaped {} stale upload(s): {} promoted, {} sent to verification, {} already verifying, {} failed, "
+                        + "{} deleted, {} skipped",
+                examined.size(), promoted.size(), toVerify.size(), verifying, failed, deleted, skipped);
+        if (examined.size() < batch.size()) {
+            return examined.get(examined.size() - 1).getCreatedAt(); // out of time; the run stops here
+        }
+        return batch.size() < batchSize ? null : batch.get(batch.size() - 1).getCreatedAt();
+    }
+
+    /**
+     * Re-reads the media that were written by the bulk, keeping those whose write applied (version bumped once,
+     * expected status).
+     */
+    private List<Media> won(List<Media> written, MediaStatus status) {
+        if (written.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Long> expected = new HashMap<>();
+        written.forEach(m -> expected.put(m.getId(), m.getVersion() == null ? 1 : m.getVersion() + 1));
+        return mongo.find(query(where("_id").in(expected.keySet()).and("status").is(status)), Media.class)
+                .stream()
+                .filter(m -> Objects.equals(m.getVersion(), expected.get(m.getId())))
+                .toList();
+    }
+
+    /**
+     * Size of the uploaded object, or {@code null} if nothing was stored. A pending multipart upload is aborted
+     * first; if it had already been completed, the assembled object is found.
+     */
+    private Long storedSize(Media m) {
+        if (m.getStorageKey() == null) {
+            return null;
+        }
+        if (m.getUploadId() != null) {
+            storageClient.abortMultipart(m.getStorageKey(), m.getUploadId());
+        }
+        try {
+            return storageClient.headObject(m.getStorageKey()).size();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import com.tripwise.tripmedia.service.variant.VariantPipeline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 14:30
+ * Description : Verifies confirmed uploads against the stored object, off the request thread.
+ * - HEADs the object and compares its size with the confirmed {@code bytes}.
+ * - Streams the object through an incremental digest using parallel ranged GETs; chunks are fetched ahead
+ * (at most {@code range-parallelism} in flight) but digested in order, so memory stays at
+ * {@code range-parallelism x chunk-size} regardless of object size.
+ * - Moves the media from {@code UPLOADING} to {@code READY} (and queues variants) or to {@code FAILED}. Only a size or
+ * digest mismatch or a missing object fails it; any other error (timeouts, throttling, a short read) is retried with
+ * exponential backoff, and after {@code max-attempts} the media stays {@code UPLOADING} for the {@link UploadReaper}.
+ * - A media failed by a mismatch is marked {@code purgePending}, so the {@link MediaPurger} removes the wrong object.
+ * - Waiting verifications are held in a bounded queue; when it is full the verification is dropped (logged) and
+ * likewise left to the reaper.
+ * <pre>
+ * media:
+ *   verification:
+ *     enabled: false
+ *     algorithm: SHA-256
+ *     chunk-size-bytes: 8388608
+ *     range-parallelism: 4
+ *     concurrency: 4
+ *     queue-capacity: 1000
+ *     max-attempts: 3
+ *     retry-backoff: 2s
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Service
+public class UploadVerifier {
+
+    private final StorageClient storageClient;
+    private final MongoTemplate mongo;
+    private final VariantPipeline variants;
+    private final MediaCache mediaCache;
+
+    private final String algorithm;
+    private final int chunkSize;
+    private final int rangeParallelism;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final ThreadPoolExecutor verifications;
+    private final ExecutorService fetchers;
+    private final ScheduledExecutorService retries;
+
+    public UploadVerifier(StorageClient storageClient,
+                          MongoTemplate mongo,
+                          VariantPipeline variants,
+                          MediaCache mediaCache,
+                          @Value("${media.verification.algorithm:SHA-256}") String algorithm,
+                          @Value("${media.verification.chunk-size-bytes:8388608}") int chunkSize,
+                          @Value("${media.verification.range-parallelism:4}") int rangeParallelism,
+                          @Value("${media.verification.concurrency:4}") int concurrency,
+                          @Value("${media.verification.queue-capacity:1000}") int queueCapacity,
+                          @Value("${media.verification.max-attempts:3}") int maxAttempts,
+                          @Value("${media.verification.retry-backoff:2s}") Duration retryBackoff,
+                          Environment environment) throws NoSuchAlgorithmException {
+        this.storageClient = storageClient;
+        this.mongo = mongo;
+        this.variants = variants;
+        this.mediaCache = mediaCache;
+        this.algorithm = algorithm;
+        this.chunkSize = chunkSize;
+        this.rangeParallelism = Math.max(1, rangeParallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+
+        MessageDigest.getInstance(algorithm); // fail fast on a misconfigured algorithm
+
+        // Digesting is CPU-bound and holds chunks in memory, so verifications stay on a bounded platform pool;
+        // the queue is bounded too, and a verification that does not fit is rejected rather than buffered
+        this.verifications = new ThreadPoolExecutor(
+                concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                BlockingIoExecutors.daemon("upload-verify-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.fetchers = BlockingIoExecutors.create(environment, "upload-range-", concurrency * this.rangeParallelism);
+        this.retries = Executors.newSingleThreadScheduledExecutor(BlockingIoExecutors.daemon("upload-verify-retry-"));
+    }
+
+    /**
+     * Schedules verification of a confirmed upload. The media must still be {@code UPLOADING} and carry the
+     * client-supplied {@code bytes} and {@code checksum}.
+     *
+     * @param media the confirmed media
+     */
+    public void verifyAsync(Media media) {
+        submit(media, 1);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retries.shutdownNow();
+        verifications.shutdownNow();
+        fetchers.shutdownNow();
+    }
+
+    private void submit(Media media, int attempt) {
+        try {
+            verifications.execute(() -> verify(media, attempt));
+        } catch (RejectedExecutionException e) {
+            log.warn("Verification queue full; media {} stays UPLOADING for the reaper", media.getId());
+        }
+    }
+
+    /**
+     * HEAD size check, streamed checksum, then the final status transition. A transient error schedules another
+     * attempt after {@code retry-backoff x 2^(attempt-1)} instead of failing the media.
+     */
+    void verify(Media media, int attempt) {
+        String failure = null;
+        boolean missing = false;
+        try {
+            var info = storageClient.headObject(media.getStorageKey());
+            if (media.getBytes() == null || info.size() != media.getBytes()) {
+                failure = "size " + info.size() + " != confirmed " + media.getBytes();
+            } else {
+                String actual = digest(media.getStorageKey(), info.size());
+                if (!actual.equalsIgnoreCase(media.getChecksum())) {
+                    failure = algorithm + " mismatch";
+                }
+            }
+        } catch (NoSuchElementException e) {
+            failure = "object missing";
+            missing = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return; // shutting down; the media stays UPLOADING
+        } catch (Exception e) {
+            retryLater(media, attempt, e);
+            return;
+        }
+
+        MediaStatus outcome = failure == null ? MediaStatus.READY : MediaStatus.FAILED;
+        if (failure != null) {
+            log.warn("Upload verification of media {} failed: {}", media.getId(), failure);
+        }
+
+        // Only an UPLOADING media may transition; a concurrent delete wins
+        var update = new Update().set("status", outcome).unset("verifyingSince").set("updatedAt", Instant.now())
+                .inc("version", 1);
+        if (failure != null && !missing) {
+            update.set("purgePending", true); // the stored object is not what was confirmed; the purger removes it
+        }
+        var result = mongo.updateFirst(
+                Query.query(Criteria.where("_id").is(media.getId()).and("status").is(MediaStatus.UPLOADING)),
+                update,
+                Media.class);
+
+        mediaCache.invalidate(media.getId());
+
+        if (outcome == MediaStatus.READY && result.getModifiedCount() > 0) {
+            media.setStatus(MediaStatus.READY);
+            variants.submit(media);
+        }
+    }
+
+    private void retryLater(Media media, int attempt, Exception cause) {
+        if (attempt >= maxAttempts) {
+            log.warn("Verification of media {} gave up after {} attempt(s): {}; it stays UPLOADING for the reaper",
+                    media.getId(), attempt, cause.getMessage());
+            return;
+        }
+        long delay = retryBackoff.toMillis() << (attempt - 1);
+        log.info("Verification of media {} failed transiently ({}); retrying in {} ms",
+                media.getId(), cause.getMessage(), delay);
+        try {
+            retries.schedule(() -> submit(media, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down; the media stays UPLOADING
+        }
+    }
+
+    /**
+     * Hex digest of the whole object, fed chunk by chunk in order while later chunks download in parallel.
+     */
+    String digest(String key, long size) throws Exception {
+        MessageDigest md = MessageDigest.getInstance(algorithm);
+        Deque<Future<byte[]>> window = new ArrayDeque<>();
+        long next = 0;
+        try {
+            while (next < size || !window.isEmpty()) {
+                while (next < size && window.size() < rangeParallelism) {
+                    long start = next;
+                    long end = Math.min(size, start + chunkSize) - 1;
+                    window.add(fetchers.submit(() -> readRange(key, start, end)));
+                    next = end + 1;
+                }
+                try {
+                    md.update(window.poll().get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+        } finally {
+            window.forEach(f -> f.cancel(true));
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private byte[] readRange(String key, long start, long end) throws IOException {
+        try (InputStream in = storageClient.getObjectRange(key, start, end)) {
+            byte[] chunk = in.readAllBytes();
+            if (chunk.length != end - start + 1) {
+                throw new IOException("Short read at " + start + ": " + chunk.length + " bytes");
+            }
+            return chunk;
+        }
+    }
+
+}
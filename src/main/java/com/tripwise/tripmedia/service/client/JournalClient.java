@@ -1,10 +1,21 @@
 package com.tripwise.tripmedia.service.client;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * ================================================================
@@ -12,25 +23,157 @@ import java.time.Duration;
  * Author      : Ochwada-GMK
  * Project Name: tripmedia
  * Date        : Tuesday,  26.Aug.2025 | 10:20
- * Description :
+ * Description : Client for the TripJournal API.
+ * - Ownership verdicts are cached per (journalId, userId): positive verdicts for {@code ttl},
+ * negative ones (403/404) for the shorter {@code negative-ttl}. Transport errors are never cached.
+ * - Concurrent checks for the same pair share one in-flight request (single-flight).
+ * <pre>
+ * journals:
+ *   ownership-cache:
+ *     max-size: 10000
+ *     ttl: 5m
+ *     negative-ttl: 15s
+ * </pre>
  * ================================================================
  */
 @Component
-@RequiredArgsConstructor
 public class JournalClient {
+
+    /** Upper bound for a single ownership round trip (also the caller's wait limit). */
+    private static final Duration TIMEOUT = Duration.ofSeconds(4);
+
     private final WebClient web;
+    private final AsyncLoadingCache<OwnershipKey, Boolean> verdicts;
+
+    /**
+     * Cache key: a journal and the user claiming it.
+     */
+    record OwnershipKey(String journalId, String userId) {
+    }
+
+    /**
+     * Constructs a new {@code JournalClient}.
+     *
+     * @param web         the {@link WebClient} pointing at the TripJournal base URL
+     * @param maxSize     maximum number of cached verdicts
+     * @param ttl         how long an "owned" verdict is trusted
+     * @param negativeTtl how long a "not owned / not found" verdict is trusted
+     */
+    public JournalClient(
+            WebClient web,
+            @Value("${journals.ownership-cache.max-size:10000}") long maxSize,
+            @Value("${journals.ownership-cache.ttl:5m}") Duration ttl,
+            @Value("${journals.ownership-cache.negative-ttl:15s}") Duration negativeTtl) {
+
+        this.web = web;
+        this.verdicts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<OwnershipKey, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(OwnershipKey key, Boolean owned, long currentTime) {
+                        return (owned ? ttl : negativeTtl).toNanos();
+                    }
 
-    /** Adjust the path to real endpoint; throws if not found/not owned. */
-    public void assertOwnership(String journalId, String userId ) {
-        web.get()
+                    @Override
+                    public long expireAfterUpdate(OwnershipKey key, Boolean owned, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, owned, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(OwnershipKey key, Boolean owned, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                // A failed future is dropped by Caffeine, so transport errors are retried on the next call
+                .buildAsync((key, executor) -> fetchOwnership(key));
+    }
+
+    /**
+     * Verifies that the user owns the journal; throws if not found/not owned.
+     * Served from the verdict cache when possible; otherwise joins (or starts) the in-flight check for the pair.
+     *
+     * @param journalId the journal to check
+     * @param userId    the user claiming ownership
+     * @throws SecurityException     if the journal does not exist or is not owned by the user
+     * @throws IllegalStateException if the journal service did not answer in time or failed
+     */
+    public void assertOwnership(String journalId, String userId) {
+        boolean owned;
+        try {
+            owned = verdicts
+                    .get(new OwnershipKey(journalId, userId))
+                    .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking journal ownership", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timeout checking journal ownership", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Journal ownership check failed", e.getCause());
+        }
+
+        if (!owned) {
+            throw new SecurityException("Not Owner");
+        }
+    }
+
+    /**
+     * Non-blocking {@link #assertOwnership}: shares the verdict cache and in-flight requests with it.
+     *
+     * @param journalId the journal to check
+     * @param userId    the user claiming ownership
+     * @return a {@link Mono} that completes empty if the user owns the journal, or fails with
+     * {@link SecurityException} (not found/not owned) or {@link IllegalStateException} (timeout or failure)
+     */
+    public Mono<Void> checkOwnership(String journalId, String userId) {
+        return Mono.fromFuture(() -> verdicts.get(new OwnershipKey(journalId, userId)), true) // never cancel a shared load
+                .timeout(TIMEOUT)
+                .onErrorMap(TimeoutException.class, e -> new IllegalStateException("Timeout checking journal ownership", e))
+                .onErrorMap(e -> !(e instanceof IllegalStateException),
+                        e -> new IllegalStateException("Journal ownership check failed", e))
+                .flatMap(owned -> owned ? Mono.<Void>empty() : Mono.error(new SecurityException("Not Owner")));
+    }
+
+    /**
+     * Drops any cached verdict for the pair (e.g., after a journal was transferred or deleted).
+     */
+    public void invalidate(String journalId, String userId) {
+        verdicts.synchronous().invalidate(new OwnershipKey(journalId, userId));
+    }
+
+    /**
+     * Hit/miss/eviction counters of the ownership verdict cache.
+     */
+    public CacheStats ownershipCacheStats() {
+        return verdicts.synchronous().stats();
+    }
+
+    /**
+     * Number of verdicts currently cached (approximate).
+     */
+    public long ownershipCacheSize() {
+        return verdicts.synchronous().estimatedSize();
+    }
+
+    /** Adjust the path to real endpoint; 403/404 map to a negative verdict, anything else fails the check. */
+    private CompletableFuture<Boolean> fetchOwnership(OwnershipKey key) {
+        return web.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/journals/{id}")
-                                .queryParam("userId", userId)
-                        .build(journalId))
+                        .queryParam("userId", key.userId())
+                        .build(key.journalId()))
                 .retrieve()
                 .toBodilessEntity()
-                .block(Duration.ofSeconds(4));
+                .map(response -> Boolean.TRUE)
+                .onErrorResume(WebClientResponseException.class, e ->
+                        e.getStatusCode().isSameCodeAs(HttpStatus.FORBIDDEN)
+                                || e.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)
+                                ? Mono.just(Boolean.FALSE)
+                                : Mono.error(e))
+                .timeout(TIMEOUT)
+                .contextCapture() // parent span of the WebClient call (and traceparent header) = caller's observation
+                .toFuture();
     }
 
-
 }
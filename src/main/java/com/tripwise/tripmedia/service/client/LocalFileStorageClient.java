@@ -0,0 +1,509 @@
+package com.tripwise.tripmedia.service.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:40
+ * Description : Filesystem implementation of {@link StorageClient} for single-node and edge deployments, and as a
+ * local S3 stand-in (reactive stack: {@link LocalReactiveStorageClient}).
+ * - Objects live under {@code <root>/objects/<key>}; writes go to {@code <root>/tmp} first and are moved into place,
+ * so readers never see a partial file. Multipart parts are kept in {@code <root>/multipart/<uploadId>}.
+ * - Upload URLs point at this service ({@code PUT <base-url>/<key>}, see {@code LocalFileController}) and carry an
+ * HMAC-SHA256 signature over method, key, content type, size (or upload ID, part number and part size) and expiry,
+ * so a request body cannot be larger than what was announced at initiation.
+ * - The content type is derived from the key's file extension, and the ETag from size and modification time.
+ * <pre>
+ * media:
+ *   storage: local
+ *   public-base-url: http://localhost:9096/media-files
+ *   local:
+ *     root: data/media
+ *     base-url: http://localhost:9096/media-files
+ *     signing-key: change-me
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "media.storage", havingValue = "local")
+public class LocalFileStorageClient implements StorageClient {
+
+    /** Upload URL query parameters. */
+    public static final String EXPIRES = "X-Expires";
+    public static final String SIGNATURE = "X-Signature";
+
+    private static final String HMAC = "HmacSHA256";
+    private static final int MAX_PARTS = 10_000;
+    private static final String META = "upload.meta";
+
+    private final Path objects;
+    private final Path tmp;
+    private final Path multipart;
+    private final String baseUrl;
+    private final String publicBaseUrl;
+    private final Duration ttl;
+    private final SecretKeySpec signingKey;
+
+    /**
+     * Constructs a new {@code LocalFileStorageClient} and creates its directories.
+     *
+     * @param root          directory holding objects, temporary files and multipart parts
+     * @param baseUrl       where this service serves {@code /media-files} (upload URLs point here)
+     * @param publicBaseUrl public read URL prefix; if blank, public URLs are disabled
+     * @param ttlMinutes    upload URL lifetime
+     * @param signingKey    HMAC key for upload URLs; if blank, a random key is used (URLs die with the process)
+     */
+    public LocalFileStorageClient(
+            @Value("${media.local.root:data/media}") Path root,
+            @Value("${media.local.base-url:http://localhost:9096/media-files}") String baseUrl,
+            @Value("${media.public-base-url:}") String publicBaseUrl,
+            @Value("${media.signed-url-ttl-minutes:20}") long ttlMinutes,
+            @Value("${media.local.signing-key:}") String signingKey) throws IOException {
+
+        Path base = root.toAbsolutePath().normalize();
+        this.objects = Files.createDirectories(base.resolve("objects"));
+        this.tmp = Files.createDirectories(base.resolve("tmp"));
+        this.multipart = Files.createDirectories(base.resolve("multipart"));
+        this.baseUrl = baseUrl.replaceAll("/$", "");
+        this.publicBaseUrl = (publicBaseUrl == null || publicBaseUrl.isBlank())
+                ? null
+                : publicBaseUrl.replaceAll("/$", "");
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+
+        byte[] key;
+        if (signingKey == null || signingKey.isBlank()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            log.warn("media.local.signing-key is not set; upload URLs are only valid until this process stops");
+        } else {
+            key = signingKey.getBytes(StandardCharsets.UTF_8);
+        }
+        this.signingKey = new SecretKeySpec(key, HMAC);
+    }
+
+    /**
+     * Creates a signed URL for {@code PUT <base-url>/<key>}.
+     *
+     * @param key         the object key
+     * @param contentType the MIME type the client must send
+     * @param bytes       the exact number of bytes the client must send
+     * @return the signed URL and the {@code Content-Type} header to send with it
+     */
+    @Override
+    public PresignedPut presignPut(String key, String contentType, long bytes) {
+        path(key);
+        if (bytes < 0) throw new IllegalArgumentException("bytes must be >= 0");
+
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String signature = sign("PUT", key, nullToEmpty(contentType), String.valueOf(bytes), String.valueOf(expires));
+
+        Map<String, String> headers = new HashMap<>();
+        if (contentType != null && !contentType.isBlank()) {
+            headers.put("Content-Type", contentType);
+        }
+        return new PresignedPut(key, url(key, expires, signature, null), headers);
+    }
+
+    /**
+     * Opens a multipart upload directory and signs one {@code PUT} URL per part.
+     *
+     * @param key         the object key
+     * @param contentType the MIME type of the file
+     * @param bytes       total size of the file
+     * @param partSize    preferred part size; raised until the upload fits in 10,000 parts
+     * @return the upload ID and per-part URLs
+     */
+    @Override
+    public PresignedMultipart presignMultipart(String key, String contentType, long bytes, long partSize) {
+        path(key);
+        if (bytes <= 0) throw new IllegalArgumentException("bytes must be > 0");
+
+        long size = Math.max(Math.max(1, partSize), (bytes + MAX_PARTS - 1) / MAX_PARTS);
+        int partCount = (int) ((bytes + size - 1) / size);
+
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Path dir = Files.createDirectories(multipart.resolve(uploadId));
+            Files.writeString(dir.resolve(META), key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        // Every part but the last is exactly partSize bytes; its length is part of the signature
+        List<PresignedMultipart.Part> parts = IntStream.rangeClosed(1, partCount)
+                .mapToObj(n -> new PresignedMultipart.Part(n, url(key, expires,
+                        sign("PUT-PART", key, uploadId, String.valueOf(n),
+                                String.valueOf(n < partCount ? size : bytes - (partCount - 1) * size),
+                                String.valueOf(expires)),
+                        Map.of("uploadId", uploadId, "partNumber", String.valueOf(n)))))
+                .toList();
+
+        return new PresignedMultipart(key, uploadId, size, parts, Map.of());
+    }
+
+    /**
+     * Concatenates the uploaded parts, in part number order, into the object; the parts must be contiguous and add
+     * up to the announced size.
+     *
+     * @param key           the object key
+     * @param uploadId      the multipart upload ID
+     * @param contentLength total size announced at initiation
+     */
+    @Override
+    public void completeMultipart(String key, String uploadId, long contentLength) {
+        Path dir = uploadDir(uploadId);
+        try {
+            List<Path> parts;
+            try (Stream<Path> files = Files.list(dir)) {
+                parts = files.filter(p -> p.getFileName().toString().startsWith("part-")).sorted().toList();
+            } catch (NoSuchFileException e) {
+                throw new IllegalStateException("Unknown multipart upload " + uploadId + " for " + key);
+            }
+            long uploadedBytes = 0;
+            for (Path part : parts) {
+                uploadedBytes += Files.size(part);
+            }
+            PresignedMultipart.checkComplete(key, parts.stream()
+                    .map(p -> Integer.parseInt(p.getFileName().toString().substring("part-".length())))
+                    .toList(), uploadedBytes, contentLength);
+
+            Path assembled = Files.createTempFile(tmp, "assemble-", ".tmp");
+            try (FileChannel out = FileChannel.open(assembled, StandardOpenOption.WRITE)) {
+                for (Path part : parts) {
+                    try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                        long size = in.size();
+                        for (long done = 0; done < size; ) {
+                            done += in.transferTo(done, size - done, out);
+                        }
+                    }
+                }
+            }
+            moveIntoPlace(assembled, path(key));
+            deleteRecursively(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the parts of a multipart upload; unknown upload IDs are ignored.
+     */
+    @Override
+    public void abortMultipart(String key, String uploadId) {
+        try {
+            deleteRecursively(uploadDir(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream getObject(String key) {
+        try {
+            return Files.newInputStream(path(key));
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("No object " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens a stream over bytes {@code start..end} (inclusive) using positioned reads; nothing else is read.
+     */
+    @Override
+    public InputStream getObjectRange(String key, long start, long end) {
+        try {
+            FileChannel channel = FileChannel.open(path(key), StandardOpenOption.READ);
+            return new RangeInputStream(channel, start, Math.min(end + 1, channel.size()));
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("No object " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ObjectInfo headObject(String key) {
+        Path file = path(key);
+        try {
+            long size = Files.size(file);
+            return new ObjectInfo(size, etag(size, Files.getLastModifiedTime(file)), contentType(key));
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("No object " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void putObject(String key, String contentType, byte[] content) {
+        Path target = path(key);
+        try {
+            Path file = Files.createTempFile(tmp, "put-", ".tmp");
+            Files.write(file, content);
+            moveIntoPlace(file, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the object and any directories of its key that became empty.
+     */
+    @Override
+    public void deleteObject(String key) {
+        Path file = path(key);
+        try {
+            Files.deleteIfExists(file);
+            for (Path dir = file.getParent(); !dir.equals(objects); dir = dir.getParent()) {
+                Files.delete(dir);
+            }
+        } catch (DirectoryNotEmptyException | NoSuchFileException ignored) {
+            // still used by other objects, or removed concurrently
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteObjects(Collection<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (String key : keys.stream().distinct().toList()) {
+            try {
+                deleteObject(key);
+            } catch (RuntimeException e) {
+                log.warn("Could not delete {}: {}", key, e.getMessage());
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl == null ? null : publicBaseUrl + "/" + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    // ------------------------------------------------------------------ serving (LocalFileController)
+
+    /**
+     * File of an object key; the key may not leave the objects directory.
+     *
+     * @throws IllegalArgumentException if the key is blank or contains empty, {@code .} or {@code ..} segments
+     */
+    public Path path(String key) {
+        if (key == null || key.isBlank()) throw new IllegalArgumentException("key must not be blank");
+        for (String segment : key.split("/", -1)) {
+            if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+                throw new IllegalArgumentException("Invalid key " + key);
+            }
+        }
+        Path file = objects.resolve(key).normalize();
+        if (!file.startsWith(objects)) {
+            throw new IllegalArgumentException("Invalid key " + key);
+        }
+        return file;
+    }
+
+    /**
+     * Checks the signature and expiry of an upload URL.
+     *
+     * @param partNumber  {@code null} for a single PUT
+     * @param contentType the request's {@code Content-Type} (single PUT only)
+     * @param length      the request's {@code Content-Length}; must be the signed size of the object or part
+     * @throws SecurityException if the signature does not match (including another type or size) or has expired
+     */
+    public void verifyUpload(String key, String uploadId, Integer partNumber, String contentType, long length,
+                             long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires) {
+            throw new SecurityException("Upload URL expired");
+        }
+
+        check(signature, uploadId != null && partNumber != null
+                ? sign("PUT-PART", key, uploadId, String.valueOf(partNumber), String.valueOf(length),
+                        String.valueOf(expires))
+                : sign("PUT", key, nullToEmpty(contentType), String.valueOf(length), String.valueOf(expires)));
+    }
+
+    /**
+     * A new temporary file to receive an upload into; pass it to {@link #commitUpload}.
+     */
+    public Path tempFile() throws IOException {
+        return Files.createTempFile(tmp, "upload-", ".tmp");
+    }
+
+    /**
+     * Moves a received upload into place: the object itself, or the part of a multipart upload.
+     *
+     * @return the ETag of the stored object or part
+     * @throws NoSuchElementException if the multipart upload does not exist (completed or aborted)
+     */
+    public String commitUpload(Path received, String key, String uploadId, Integer partNumber) throws IOException {
+        Path target;
+        if (uploadId != null && partNumber != null) {
+            Path dir = uploadDir(uploadId);
+            if (!Files.isDirectory(dir)) {
+                Files.deleteIfExists(received);
+                throw new NoSuchElementException("No multipart upload " + uploadId);
+            }
+            target = dir.resolve(String.format("part-%05d", partNumber));
+        } else {
+            target = path(key);
+        }
+        moveIntoPlace(received, target);
+        return etag(Files.size(target), Files.getLastModifiedTime(target));
+    }
+
+    /**
+     * Strong validator of a stored file: size and modification time.
+     */
+    public static String etag(long size, FileTime modified) {
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(modified.toMillis()) + "\"";
+    }
+
+    /**
+     * Content type by file extension ({@code application/octet-stream} if unknown).
+     */
+    public static String contentType(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    // ------------------------------------------------------------------ internals
+
+    private Path uploadDir(String uploadId) {
+        try {
+            return multipart.resolve(UUID.fromString(uploadId).toString());
+        } catch (IllegalArgumentException e) {
+            throw new NoSuchElementException("No multipart upload " + uploadId);
+        }
+    }
+
+    private void moveIntoPlace(Path file, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private URL url(String key, long expires, String signature, Map<String, String> extra) {
+        StringBuilder url = new StringBuilder(baseUrl).append('/')
+                .append(UriUtils.encodePath(key, StandardCharsets.UTF_8));
+        url.append('?').append(EXPIRES).append('=').append(expires);
+        if (extra != null) {
+            extra.forEach((k, v) -> url.append('&').append(k).append('=').append(v));
+        }
+        url.append('&').append(SIGNATURE).append('=').append(signature);
+        try {
+            return URI.create(url.toString()).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String sign(String... fields) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey);
+            return HexFormat.of().formatHex(mac.doFinal(String.join("\n", fields).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void check(String actual, String expected) {
+        if (!constantTimeEquals(actual, expected)) {
+            throw new SecurityException("Invalid upload signature");
+        }
+    }
+
+    private static boolean constantTimeEquals(String a, String b) {
+        return a != null && MessageDigest.isEqual(
+                a.getBytes(StandardCharsets.US_ASCII), b.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    /**
+     * Positioned reads of {@code [position, end)} from a file channel; closes the channel.
+     */
+    private static final class RangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        private RangeInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+            if (n > 0) {
+                position += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tripwise.tripmedia.service.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:45
+ * Description : {@link ReactiveStorageClient} over {@link LocalFileStorageClient} for the reactive stack.
+ * - File I/O has no non-blocking API worth using here, so each call runs on {@link Schedulers#boundedElastic()}.
+ * ================================================================
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "media.storage", havingValue = "local")
+public class LocalReactiveStorageClient implements ReactiveStorageClient {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final LocalFileStorageClient files;
+
+    public LocalReactiveStorageClient(LocalFileStorageClient files) {
+        this.files = files;
+    }
+
+    @Override
+    public Mono<Void> completeMultipart(String key, String uploadId, long contentLength) {
+        return Mono.<Void>fromRunnable(() -> files.completeMultipart(key, uploadId, contentLength))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Void> abortMultipart(String key, String uploadId) {
+        return Mono.<Void>fromRunnable(() -> files.abortMultipart(key, uploadId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<ObjectInfo> headObject(String key) {
+        return Mono.fromCallable(() -> files.headObject(key))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Streams a byte range with positioned reads of an {@link AsynchronousFileChannel}.
+     */
+    @Override
+    public Flux<DataBuffer> getObjectRange(String key, long start, long end) {
+        return DataBufferUtils.takeUntilByteCount(DataBufferUtils.readAsynchronousFileChannel(
+                                () -> AsynchronousFileChannel.open(files.path(key), StandardOpenOption.READ),
+                                start, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE),
+                        end - start + 1)
+                .onErrorMap(NoSuchFileException.class, e -> new NoSuchElementException("No object " + key));
+    }
+}
@@ -0,0 +1,17 @@
+package com.tripwise.tripmedia.service.client;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 14:20
+ * Description : Metadata of a stored object as reported by the storage backend (HEAD).
+ * ================================================================
+ */
+public record ObjectInfo(
+        long size,
+        String eTag,
+        String contentType
+) {
+}
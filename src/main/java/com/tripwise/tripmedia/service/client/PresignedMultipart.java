@@ -0,0 +1,52 @@
+package com.tripwise.tripmedia.service.client;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 10:05
+ * Description : A started multipart upload plus one presigned PUT URL per part.
+ * - Parts are numbered from 1; every part except the last is exactly {@code partSize} bytes.
+ * - {@link #checkComplete} is applied before an upload is assembled, so a client that uploaded only some parts
+ * cannot turn a truncated object into a {@code READY} media.
+ * ================================================================
+ */
+public record PresignedMultipart(
+        String storageKey,
+        String uploadId,
+        long partSize,
+        List<Part> parts,
+        Map<String, String> headers
+) {
+    /**
+     * Presigned URL for a single part.
+     */
+    public record Part(int partNumber, URL url) {
+    }
+
+    /**
+     * Checks that the uploaded parts form the whole file.
+     *
+     * @param key           storage key, for the message
+     * @param partNumbers   numbers of the uploaded parts, ascending
+     * @param uploadedBytes total size of the uploaded parts
+     * @param contentLength size announced when the upload was started
+     * @throws IllegalArgumentException if a part is missing or the sizes do not add up to {@code contentLength}
+     */
+    static void checkComplete(String key, List<Integer> partNumbers, long uploadedBytes, long contentLength) {
+        for (int i = 0; i < partNumbers.size(); i++) {
+            if (partNumbers.get(i) != i + 1) {
+                throw new IllegalArgumentException("Multipart upload of " + key + " is missing part " + (i + 1));
+            }
+        }
+        if (uploadedBytes != contentLength) {
+            throw new IllegalArgumentException("Multipart upload of " + key + " has " + uploadedBytes + " of "
+                    + contentLength + " bytes in " + partNumbers.size() + " part(s)");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.tripwise.tripmedia.service.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:45
+ * Description : Non-blocking counterpart of the {@link StorageClient} calls made on the request path.
+ * - Presigning stays on {@link StorageClient}: it is local CPU work (SigV4), except the multipart initiation.
+ * - Background jobs (purge, variants, verification, sweeps) keep using the blocking {@link StorageClient}.
+ * ================================================================
+ */
+public interface ReactiveStorageClient {
+
+    /**
+     * Assemble all uploaded parts into the final object.
+     *
+     * @param objectKey     storage key/object name
+     * @param uploadId      ID returned by {@link StorageClient#presignMultipart}
+     * @param contentLength total size given to {@link StorageClient#presignMultipart}
+     * @return completes when the object has been assembled; fails with {@link IllegalArgumentException} if parts
+     * are missing or do not add up to {@code contentLength}
+     */
+    Mono<Void> completeMultipart(String objectKey, String uploadId, long contentLength);
+
+    /**
+     * Abort a multipart upload and discard its parts. Aborting an unknown upload is a no-op.
+     *
+     * @param objectKey storage key/object name
+     * @param uploadId  the multipart upload ID
+     * @return completes when the upload has been aborted
+     */
+    Mono<Void> abortMultipart(String objectKey, String uploadId);
+
+    /**
+     * Read object metadata without downloading it.
+     *
+     * @param objectKey storage key/object name
+     * @return size, ETag and content type; fails with {@link java.util.NoSuchElementException} if the object does
+     * not exist
+     */
+    Mono<ObjectInfo> headObject(String objectKey);
+
+    /**
+     * Stream a byte range of the object.
+     *
+     * @param objectKey storage key/object name
+     * @param start     first byte (inclusive, 0-based)
+     * @param end       last byte (inclusive)
+     * @return the requested bytes; fails with {@link java.util.NoSuchElementException} if the object does not exist
+     */
+    Flux<DataBuffer> getObjectRange(String objectKey, long start, long end);
+}
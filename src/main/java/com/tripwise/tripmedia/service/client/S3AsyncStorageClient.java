@@ -0,0 +1,128 @@
+package com.tripwise.tripmedia.service.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:50
+ * Description : {@link S3AsyncClient}-based implementation of {@link ReactiveStorageClient}.
+ * - Only active in the reactive web stack ({@code reactive} profile).
+ * ================================================================
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "media.storage", havingValue = "s3", matchIfMissing = true)
+public class S3AsyncStorageClient implements ReactiveStorageClient {
+
+    private final S3AsyncClient s3;
+    private final String bucket;
+
+    public S3AsyncStorageClient(S3AsyncClient s3, @Value("${media.bucket}") String bucket) {
+        this.s3 = s3;
+        this.bucket = bucket;
+    }
+
+    /**
+     * Completes a multipart upload from the parts S3 has recorded, so the client does not need to report ETags;
+     * the parts must be contiguous and add up to the announced size.
+     *
+     * @param key           the object key (path) inside the S3 bucket
+     * @param uploadId      the multipart upload ID
+     * @param contentLength total size announced at initiation
+     */
+    @Override
+    public Mono<Void> completeMultipart(String key, String uploadId, long contentLength) {
+        return Flux.from(s3.listPartsPaginator(ListPartsRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .build())
+                        .parts())
+                .sort(Comparator.comparing(Part::partNumber))
+                .collectList()
+                .flatMap(uploaded -> {
+                    PresignedMultipart.checkComplete(key, uploaded.stream().map(Part::partNumber).toList(),
+                            uploaded.stream().mapToLong(Part::size).sum(), contentLength);
+                    var parts = uploaded.stream()
+                            .map(p -> CompletedPart.builder().partNumber(p.partNumber()).eTag(p.eTag()).build())
+                            .toList();
+                    return Mono.fromFuture(() -> s3.completeMultipartUpload(completeRequest(key, uploadId, parts)));
+                })
+                .then();
+    }
+
+    private CompleteMultipartUploadRequest completeRequest(String key, String uploadId, List<CompletedPart> parts) {
+        return CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build();
+    }
+
+    /**
+     * Aborts a multipart upload; unknown upload IDs are ignored.
+     *
+     * @param key      the object key (path) inside the S3 bucket
+     * @param uploadId the multipart upload ID
+     */
+    @Override
+    public Mono<Void> abortMultipart(String key, String uploadId) {
+        return Mono.fromFuture(() -> s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build()))
+                .onErrorResume(NoSuchUploadException.class, e -> Mono.empty()) // already completed or aborted
+                .then();
+    }
+
+    /**
+     * Reads object metadata with a {@code HEAD} request.
+     *
+     * @param key the object key (path) inside the S3 bucket
+     */
+    @Override
+    public Mono<ObjectInfo> headObject(String key) {
+        return Mono.fromFuture(() -> s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()))
+                .map(head -> new ObjectInfo(head.contentLength(), head.eTag(), head.contentType()))
+                .onErrorMap(NoSuchKeyException.class, e -> new NoSuchElementException("No object " + key));
+    }
+
+    /**
+     * Streams a byte range with a ranged {@code GET}; the SDK's buffers are wrapped, not copied.
+     *
+     * @param key   the object key (path) inside the S3 bucket
+     * @param start first byte (inclusive)
+     * @param end   last byte (inclusive)
+     */
+    @Override
+    public Flux<DataBuffer> getObjectRange(String key, long start, long end) {
+        return Mono.fromFuture(() -> s3.getObject(GetObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .range("bytes=" + start + "-" + end)
+                                .build(),
+                        AsyncResponseTransformer.<GetObjectResponse>toPublisher()))
+                .onErrorMap(NoSuchKeyException.class, e -> new NoSuchElementException("No object " + key))
+                .flatMapMany(Flux::from)
+                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+}
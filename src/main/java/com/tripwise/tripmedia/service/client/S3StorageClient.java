@@ -3,16 +3,24 @@ package com.tripwise.tripmedia.service.client;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
 
 /**
  * ================================================================
@@ -24,14 +32,12 @@ import java.util.Map;
  * - This class provides methods for interacting with an S3-compatible storage service,
  * * including generating presigned upload URLs, deleting objects, and generating public URLs.
  * - It uses both {@link S3Client} for direct S3 API calls and {@link S3Presigner} for generating temporary upload links.
- * ================================================================
- */
-
-/**
  * <pre>
  * media:
  *   bucket: my-media-bucket
  *   public-base-url: https://cdn.example.com/media
+ * </pre>
+ * ================================================================
  */
 @Service
 @ConditionalOnProperty(name = "media.storage", havingValue = "s3", matchIfMissing = true)
@@ -43,6 +49,13 @@ public class S3StorageClient implements StorageClient {
     private final String publicBaseUrl;     // optional
     private final long ttlMinutes;          // presign TTL
 
+    /** S3 limits: parts are at least 5 MiB (except the last) and at most 10,000 per upload. */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+
+    /** S3 limit for keys per DeleteObjects request. */
+    private static final int MAX_DELETE_KEYS = 1_000;
+
     /**
      * Constructs a new {@code S3StorageClient}.
      *
@@ -105,6 +118,183 @@ public class S3StorageClient implements StorageClient {
         return new PresignedPut(key, url, headers);
     }
 
+    /**
+     * Starts a multipart upload and presigns an {@code UploadPart} URL for every part.
+     * <p>
+     * The part size is raised to the S3 minimum (5 MiB) and, for very large files, until the upload fits in
+     * 10,000 parts. Part URLs are signed sequentially on the calling thread: signing is a few microseconds of CPU
+     * per part, and a parallel stream would run it on the shared common pool, competing with every other user of it.
+     *
+     * @param key         the object key (path) inside the S3 bucket
+     * @param contentType the MIME type of the file to upload
+     * @param bytes       total size of the file in bytes
+     * @param partSize    preferred part size in bytes
+     * @return a {@link PresignedMultipart} with the upload ID and per-part URLs
+     */
+    @Override
+    public PresignedMultipart presignMultipart(String key, String contentType, long bytes, long partSize) {
+        if (key == null || key.isBlank()) throw new IllegalArgumentException("key must not be blank");
+        if (bytes <= 0) throw new IllegalArgumentException("bytes must be > 0");
+
+        long size = Math.max(partSize, MIN_PART_SIZE);
+        size = Math.max(size, (bytes + MAX_PARTS - 1) / MAX_PARTS);
+        int partCount = (int) ((bytes + size - 1) / size);
+
+        String uploadId = s3.createMultipartUpload(
+                CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build()
+        ).uploadId();
+
+        var ttl = Duration.ofMinutes(ttlMinutes);
+        List<PresignedMultipart.Part> parts = IntStream.rangeClosed(1, partCount)
+                .mapToObj(n -> new PresignedMultipart.Part(n, presigner.presignUploadPart(
+                        UploadPartPresignRequest.builder()
+                                .signatureDuration(ttl)
+                                .uploadPartRequest(UploadPartRequest.builder()
+                                        .bucket(bucket)
+                                        .key(key)
+                                        .uploadId(uploadId)
+                                        .partNumber(n)
+                                        .build())
+                                .build()
+                ).url()))
+                .toList();
+
+        return new PresignedMultipart(key, uploadId, size, parts, Map.of());
+    }
+
+    /**
+     * Completes a multipart upload server-side.
+     * <p>
+     * The part list (numbers + ETags) is read back from S3 via {@code ListParts}, so clients never have to report
+     * ETags. The listed parts must be contiguous and add up to the announced size.
+     *
+     * @param key           the object key (path) inside the S3 bucket
+     * @param uploadId      the multipart upload ID
+     * @param contentLength total size announced at initiation
+     */
+    @Override
+    public void completeMultipart(String key, String uploadId, long contentLength) {
+        List<Part> uploaded = s3.listPartsPaginator(ListPartsRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build())
+                .parts()
+                .stream()
+                .sorted(Comparator.comparing(Part::partNumber))
+                .toList();
+        PresignedMultipart.checkComplete(key, uploaded.stream().map(Part::partNumber).toList(),
+                uploaded.stream().mapToLong(Part::size).sum(), contentLength);
+
+        List<CompletedPart> parts = uploaded.stream()
+                .map(p -> CompletedPart.builder().partNumber(p.partNumber()).eTag(p.eTag()).build())
+                .toList();
+
+        s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    /**
+     * Aborts a multipart upload; unknown upload IDs are ignored.
+     *
+     * @param key      the object key (path) inside the S3 bucket
+     * @param uploadId the multipart upload ID
+     */
+    @Override
+    public void abortMultipart(String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (NoSuchUploadException ignored) {
+            // already completed or aborted
+        }
+    }
+
+    /**
+     * Opens a stream over an object in the S3 bucket.
+     *
+     * @param key the object key (path) inside the S3 bucket
+     * @return the object content; must be closed by the caller
+     * @throws NoSuchElementException if the object does not exist
+     */
+    @Override
+    public InputStream getObject(String key) {
+        try {
+            return s3.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchElementException("No object " + key);
+        }
+    }
+
+    /**
+     * Opens a stream over a byte range of an object ({@code Range: bytes=start-end}).
+     *
+     * @param key   the object key (path) inside the S3 bucket
+     * @param start first byte (inclusive)
+     * @param end   last byte (inclusive)
+     * @return the requested bytes; must be closed by the caller
+     * @throws NoSuchElementException if the object does not exist
+     */
+    @Override
+    public InputStream getObjectRange(String key, long start, long end) {
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=" + start + "-" + end)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchElementException("No object " + key);
+        }
+    }
+
+    /**
+     * Reads object metadata with a {@code HEAD} request.
+     *
+     * @param key the object key (path) inside the S3 bucket
+     * @return size, ETag and content type of the object
+     * @throws NoSuchElementException if the object does not exist
+     */
+    @Override
+    public ObjectInfo headObject(String key) {
+        try {
+            var head = s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return new ObjectInfo(head.contentLength(), head.eTag(), head.contentType());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchElementException("No object " + key);
+        }
+    }
+
+    /**
+     * Uploads an object generated by the service (e.g., a variant rendition).
+     *
+     * @param key         the object key (path) inside the S3 bucket
+     * @param contentType the MIME type of the content
+     * @param content     the object bytes
+     */
+    @Override
+    public void putObject(String key, String contentType, byte[] content) {
+        s3.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length)
+                        .build(),
+                RequestBody.fromBytes(content));
+    }
+
     /**
      * Deletes an object from the S3 bucket.
      *
@@ -119,6 +309,32 @@ public class S3StorageClient implements StorageClient {
                         .build());
     }
 
+    /**
+     * Deletes objects with {@code DeleteObjects}, at most 1,000 keys per request (the S3 limit).
+     * Quiet mode is used, so the response only lists failures.
+     *
+     * @param keys the object keys (paths) to delete
+     * @return keys that S3 reported as not deleted
+     */
+    @Override
+    public List<String> deleteObjects(Collection<String> keys) {
+        List<String> all = keys.stream().distinct().toList();
+        List<String> failed = new ArrayList<>();
+
+        for (int from = 0; from < all.size(); from += MAX_DELETE_KEYS) {
+            var batch = all.subList(from, Math.min(all.size(), from + MAX_DELETE_KEYS));
+            var response = s3.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder()
+                            .quiet(true)
+                            .objects(batch.stream().map(k -> ObjectIdentifier.builder().key(k).build()).toList())
+                            .build())
+                    .build());
+            response.errors().forEach(e -> failed.add(e.key()));
+        }
+        return failed;
+    }
+
     /**
      * Returns a public URL for the given object key.
      * If {@code publicBaseUrl} is not configured, this method returns {@code null}.
@@ -4,6 +4,10 @@ package com.tripwise.tripmedia.service.client;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * ================================================================
  * Package Name: com.tripwise.tripmedia.service.client
@@ -28,6 +32,75 @@ public interface StorageClient {
      */
     PresignedPut presignPut(String objectKey, String contentType, long contentLength);
 
+    /**
+     * Start a multipart upload and create one time-limited PUT URL per part.
+     *
+     * @param objectKey     canonical storage key/object name within the bucket/container
+     * @param contentType   MIME type of the object to upload
+     * @param contentLength total size in bytes; determines the number of parts
+     * @param partSize      preferred part size in bytes; implementations may raise it to respect provider limits
+     * @return a {@link PresignedMultipart} with the upload ID and per-part URLs
+     * @throws IllegalArgumentException if inputs are invalid
+     */
+    PresignedMultipart presignMultipart(String objectKey, String contentType, long contentLength, long partSize);
+
+    /**
+     * Assemble all uploaded parts into the final object.
+     *
+     * @param objectKey     storage key/object name
+     * @param uploadId      ID returned by {@link #presignMultipart}
+     * @param contentLength total size given to {@link #presignMultipart}
+     * @throws IllegalArgumentException if parts are missing or do not add up to {@code contentLength}; the upload
+     *                                  stays open, so the client can upload the rest and confirm again
+     */
+    void completeMultipart(String objectKey, String uploadId, long contentLength);
+
+    /**
+     * Abort a multipart upload and discard its parts. Aborting an unknown upload is a no-op.
+     *
+     * @param objectKey storage key/object name
+     * @param uploadId  ID returned by {@link #presignMultipart}
+     */
+    void abortMultipart(String objectKey, String uploadId);
+
+    /**
+     * Open a stream over the object's bytes. The caller must close the stream.
+     *
+     * @param objectKey storage key/object name
+     * @return the object content
+     * @throws java.util.NoSuchElementException if the object does not exist
+     */
+    InputStream getObject(String objectKey);
+
+    /**
+     * Open a stream over a byte range of the object. The caller must close the stream.
+     *
+     * @param objectKey storage key/object name
+     * @param start     first byte (inclusive, 0-based)
+     * @param end       last byte (inclusive)
+     * @return the requested bytes
+     * @throws java.util.NoSuchElementException if the object does not exist
+     */
+    InputStream getObjectRange(String objectKey, long start, long end);
+
+    /**
+     * Read the object's metadata without its content.
+     *
+     * @param objectKey storage key/object name
+     * @return size, ETag and content type of the object
+     * @throws java.util.NoSuchElementException if the object does not exist
+     */
+    ObjectInfo headObject(String objectKey);
+
+    /**
+     * Store an object produced server-side (e.g., a generated variant), replacing any existing object.
+     *
+     * @param objectKey   storage key/object name
+     * @param contentType MIME type of the content
+     * @param content     the object bytes
+     */
+    void putObject(String objectKey, String contentType, byte[] content);
+
     /**
      * Delete the object at the given key.
      * - Should be idempotent: deleting a non-existent object is a no-op.</p>
@@ -36,6 +109,15 @@ public interface StorageClient {
      */
     void deleteObject(String objectKey);
 
+    /**
+     * Delete several objects in as few requests as the provider allows.
+     * - Missing objects count as deleted.
+     *
+     * @param objectKeys storage keys/object names
+     * @return the keys that could not be deleted (empty if all succeeded)
+     */
+    List<String> deleteObjects(Collection<String> objectKeys);
+
     /**
      * Return a public, cacheable URL for reading the object, if available.
      * - Implementations may return {@code null} if the object has no public endpoint.
@@ -0,0 +1,74 @@
+package com.tripwise.tripmedia.service.variant;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.variant
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 11:20
+ * Description : Downscales a decoded image and encodes the result.
+ * - Decoding is done by {@link SubsamplingImageDecoder}.
+ * - Output formats are whatever {@link ImageIO} has writers for (JPEG/PNG out of the box; WebP/AVIF only with a plugin).
+ * - Images are never upscaled.
+ * ================================================================
+ */
+@Component
+public class ImageVariantRenderer {
+
+    /**
+     * Scales the image so that its longest edge is at most {@code maxEdge} pixels, keeping the aspect ratio.
+     *
+     * @param source  the decoded image
+     * @param maxEdge maximum width/height of the result
+     * @return the scaled image (an RGB copy, so it can be written by encoders without alpha support)
+     */
+    public BufferedImage resize(BufferedImage source, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int w = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int h = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE); // flatten transparency onto white
+            g.fillRect(0, 0, w, h);
+            g.drawImage(source, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Encodes the image in the given format.
+     *
+     * @param image      the image to encode
+     * @param formatName an {@link ImageIO} format name (e.g., {@code jpeg}, {@code webp})
+     * @return the encoded bytes
+     * @throws IOException if no writer exists for the format or encoding fails
+     */
+    public byte[] encode(BufferedImage image, String formatName) throws IOException {
+        var out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, formatName, out)) {
+            throw new IOException("No image writer for " + formatName);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether an {@link ImageIO} writer is installed for the format.
+     */
+    public boolean canEncode(String formatName) {
+        return ImageIO.getImageWritersByFormatName(formatName).hasNext();
+    }
+}
@@ -0,0 +1,148 @@
+package com.tripwise.tripmedia.service.variant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.variant
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 13:05
+ * Description : Memory-bounded image decoder for variant generation.
+ * - Reads only the header first to learn the source dimensions.
+ * - Decodes with source subsampling, so the raster is never much larger than the target rendition
+ * (a 50 MP photo rendered to 1280 px decodes to ~1.6 MP instead of 50 MP).
+ * - A global memory budget (in KiB of estimated raster size) admits decodes; callers wait when it is exhausted.
+ * ================================================================
+ */
+@Component
+public class SubsamplingImageDecoder {
+
+    private static final int BYTES_PER_PIXEL = 4;   // INT_RGB / 4BYTE_ABGR rasters
+
+    private final Semaphore budget;
+    private final int budgetKib;
+
+    /**
+     * @param budgetMb total estimated raster memory that concurrent decodes may hold
+     */
+    public SubsamplingImageDecoder(@Value("${media.variants.decode-memory-budget-mb:256}") int budgetMb) {
+        this.budgetKib = Math.max(1, budgetMb) * 1024;
+        this.budget = new Semaphore(budgetKib, true);
+    }
+
+    /**
+     * A decoded image holding its share of the memory budget until closed.
+     *
+     * @param image        the (subsampled) decoded image
+     * @param sourceWidth  width of the original image
+     * @param sourceHeight height of the original image
+     * @param subsampling  the subsampling factor used on both axes (1 = full resolution)
+     * @param release      returns this decode's share of the budget
+     */
+    public record Decoded(BufferedImage image, int sourceWidth, int sourceHeight, int subsampling,
+                          Runnable release) implements AutoCloseable {
+        @Override
+        public void close() {
+            release.run();
+        }
+    }
+
+    /**
+     * Decodes the image so that its longest edge is at least {@code maxEdge} pixels but no more than twice that
+     * (unless the source itself is smaller). The result must be closed once the caller has finished rendering from
+     * it, which returns its memory estimate to the budget.
+     *
+     * @param original the encoded image bytes
+     * @param maxEdge  longest edge of the rendition that will be produced from the result
+     * @return the decoded image and its admission lease
+     * @throws IOException if the stream is not a readable image, or the wait for budget was interrupted
+     */
+    public Decoded decode(InputStream original, int maxEdge) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(original)) {
+            if (iis == null) {
+                throw new IOException("Unsupported image stream");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);      // header only
+                int height = reader.getHeight(0);
+                int factor = subsampling(width, height, maxEdge);
+
+                int permits = estimatedKib(width, height, factor, maxEdge);
+                try {
+                    budget.acquire(permits);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for decode budget");
+                }
+
+                try {
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(factor, factor, 0, 0);
+                    BufferedImage image = reader.read(0, param);
+                    return new Decoded(image, width, height, factor, () -> budget.release(permits));
+                } catch (IOException | RuntimeException e) {
+                    budget.release(permits);
+                    throw e;
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * KiB of budget currently available (for monitoring).
+     */
+    public int availableKib() {
+        return budget.availablePermits();
+    }
+
+    /**
+     * Total budget in KiB.
+     */
+    public int budgetKib() {
+        return budgetKib;
+    }
+
+    /**
+     * Largest integer factor that keeps the subsampled longest edge at or above {@code maxEdge}.
+     */
+    static int subsampling(int width, int height, int maxEdge) {
+        return Math.max(1, Math.max(width, height) / Math.max(1, maxEdge));
+    }
+
+    /**
+     * Estimated KiB held while rendering: the subsampled raster plus the target raster, capped at the whole budget
+     * so that a single oversized image can still run (alone).
+     */
+    int estimatedKib(int width, int height, int factor, int maxEdge) {
+        long decoded = (long) ceilDiv(width, factor) * ceilDiv(height, factor) * BYTES_PER_PIXEL;
+        long target = (long) maxEdge * maxEdge * BYTES_PER_PIXEL;
+        long kib = (decoded + target + 1023) / 1024;
+        return (int) Math.min(budgetKib, Math.max(1, kib));
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+}
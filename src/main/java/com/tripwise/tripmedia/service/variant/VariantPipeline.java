@@ -0,0 +1,341 @@
+package com.tripwise.tripmedia.service.variant;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.model.MediaVariant;
+import com.tripwise.tripmedia.model.VariantType;
+import com.tripwise.tripmedia.service.MediaCache;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.variant
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 11:40
+ * Description : Background pipeline that produces the configured {@link VariantType} renditions of confirmed images.
+ * - One task per media, FIFO: the original is fetched and decoded once (by {@link SubsamplingImageDecoder}, which
+ * streams the object and bounds heap use) for the largest configured rendition, and every configured type is
+ * rendered from that decode in priority order (THUMBNAIL first), each one stored as soon as it is encoded.
+ * - THUMBNAIL-first therefore holds within each media only, not across media: a thumbnail waits behind the larger
+ * renditions of the media queued before it. This is deliberate; decoding an original once per rendition type, as
+ * a queue of renditions ordered by type across media would need, cost more than the earlier grid thumbnail saves.
+ * - Workers = available cores; the queue is bounded by media (not renditions), {@code queue-capacity} counts queued
+ * and running media, and {@link #submit(Media)} waits at most {@code offer-timeout} for room before refusing work
+ * (backpressure).
+ * - Each rendition is uploaded to storage and appended to {@code Media.variants} with one atomic {@code $push},
+ * also to the deduplicated media that reference the same original ({@code Media.sourceId}), so it is rendered once.
+ * The push only matches {@code READY} media that are not being purged; a rendition finished after a delete is
+ * removed from storage again, since the purger may already have run.
+ * <pre>
+ * media:
+ *   variants:
+ *     enabled: true
+ *     types: THUMBNAIL,MEDIUM
+ *     thumbnail-size: 320
+ *     medium-size: 1280
+ *     queue-capacity: 1000
+ *     offer-timeout: 200ms
+ * </pre>
+ * ================================================================
+ */
+@Slf4j
+@Service
+public class VariantPipeline {
+
+    /** Processing order: grid thumbnails first, larger renditions later. */
+    private static final List<VariantType> PRIORITY =
+            List.of(VariantType.THUMBNAIL, VariantType.MEDIUM, VariantType.WEBP, VariantType.AVIF);
+
+    /** Timed stages of a rendition task; {@code FETCH_DECODE} runs once per media, the others once per rendition. */
+    enum Stage { FETCH_DECODE, RESIZE, ENCODE, UPLOAD, PERSIST }
+
+    private final StorageClient storageClient;
+    private final MongoTemplate mongo;
+    private final ImageVariantRenderer renderer;
+    private final SubsamplingImageDecoder decoder;
+    private final MediaCache mediaCache;
+
+    private final boolean enabled;
+    private final List<VariantType> types;
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final Duration offerTimeout;
+
+    private final ThreadPoolExecutor workers;
+    private final Semaphore capacity;           // queued + running media
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Map<Stage, LongAdder> stageNanos = new EnumMap<>(Stage.class);
+    private final Map<Stage, LongAdder> stageCount = new EnumMap<>(Stage.class);
+
+    public VariantPipeline(StorageClient storageClient,
+                           MongoTemplate mongo,
+                           ImageVariantRenderer renderer,
+                           SubsamplingImageDecoder decoder,
+                           MediaCache mediaCache,
+                           @Value("${media.variants.enabled:true}") boolean enabled,
+                           @Value("${media.variants.types:THUMBNAIL,MEDIUM}") List<VariantType> types,
+                           @Value("${media.variants.thumbnail-size:320}") int thumbnailSize,
+                           @Value("${media.variants.medium-size:1280}") int mediumSize,
+                           @Value("${media.variants.queue-capacity:1000}") int queueCapacity,
+                           @Value("${media.variants.offer-timeout:200ms}") Duration offerTimeout) {
+        this.storageClient = storageClient;
+        this.mongo = mongo;
+        this.renderer = renderer;
+        this.decoder = decoder;
+        this.mediaCache = mediaCache;
+        this.enabled = enabled;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.offerTimeout = offerTimeout;
+
+        // Keep only types we can actually encode, in priority order
+        this.types = PRIORITY.stream()
+                .filter(types::contains)
+                .filter(t -> {
+                    boolean ok = renderer.canEncode(formatName(t));
+                    if (!ok) log.warn("No ImageIO writer for {}; {} variants are disabled", formatName(t), t);
+                    return ok;
+                })
+                .toList();
+
+        for (Stage s : Stage.values()) {
+            stageNanos.put(s, new LongAdder());
+            stageCount.put(s, new LongAdder());
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.capacity = new Semaphore(queueCapacity + cores);
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                cores, cores, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                r -> {
+                    Thread t = new Thread(r, "variant-worker-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * All configured renditions of one media, produced from a single decode of the original.
+     */
+    private final class Task implements Runnable {
+        private final Media media;
+
+        private Task(Media media) {
+            this.media = media;
+        }
+
+        @Override
+        public void run() {
+            try {
+                render(media);
+            } catch (Exception e) {
+                failed.add(types.size());
+                log.warn("Variants of media {} failed: {}", media.getId(), e.getMessage());
+            } finally {
+                capacity.release();
+            }
+        }
+    }
+
+    /**
+     * Queues all configured renditions of a confirmed media. Non-image media are ignored.
+     * <p>
+     * Blocks the caller for at most {@code media.variants.offer-timeout} when the queue is full; if the media still
+     * does not fit, its renditions are counted as rejected.
+     *
+     * @param media the confirmed media (must have a storage key)
+     * @return the number of renditions queued
+     */
+    public int submit(Media media) {
+        if (!enabled || types.isEmpty() || media.getStorageKey() == null
+                || media.getMimeType() == null || !media.getMimeType().startsWith("image/")) {
+            return 0;
+        }
+
+        try {
+            if (!capacity.tryAcquire(offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.add(types.size());
+                return 0;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        try {
+            workers.execute(new Task(media));
+            submitted.add(types.size());
+            return types.size();
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            rejected.add(types.size());
+            return 0;
+        }
+    }
+
+    /**
+     * Current queue depth, throughput counters and mean stage latencies.
+     */
+    public VariantPipelineStats stats() {
+        Map<String, Double> means = new LinkedHashMap<>();
+        for (Stage s : Stage.values()) {
+            long n = stageCount.get(s).sum();
+            means.put(s.name().toLowerCase(), n == 0 ? 0.0 : stageNanos.get(s).sum() / 1e6 / n);
+        }
+        return new VariantPipelineStats(
+                workers.getQueue().size(),
+                workers.getActiveCount(),
+                submitted.sum(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum(),
+                means);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * fetch → decode once, then per type: resize → encode → upload → $push variant.
+     */
+    private void render(Media media) throws Exception {
+        long t = System.nanoTime();
+        int decodeEdge = types.stream().mapToInt(this::maxEdge).max().orElseThrow();
+
+        // The decode lease (memory budget) is held until the last rendition is done
+        try (InputStream in = storageClient.getObject(media.getStorageKey());
+             var decoded = decoder.decode(in, decodeEdge)) {
+            lap(Stage.FETCH_DECODE, t);
+
+            for (VariantType type : types) {
+                try {
+                    if (render(media, type, decoded.image())) {
+                        completed.increment();
+                    }
+                } catch (Exception e) {
+                    failed.increment();
+                    log.warn("Variant {} of media {} failed: {}", type, media.getId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Produces and attaches one rendition from the decoded original.
+     *
+     * @return {@code false} if the media was deleted meanwhile and the rendition was discarded
+     */
+    private boolean render(Media media, VariantType type, BufferedImage original) throws Exception {
+        long t = System.nanoTime();
+        int maxEdge = maxEdge(type);
+
+        BufferedImage scaled = renderer.resize(original, maxEdge);
+        t = lap(Stage.RESIZE, t);
+
+        byte[] bytes = renderer.encode(scaled, formatName(type));
+        t = lap(Stage.ENCODE, t);
+
+        String key = variantKey(media, type);
+        storageClient.putObject(key, mimeType(type), bytes);
+        t = lap(Stage.UPLOAD, t);
+
+        var variant = MediaVariant.builder()
+                .variantType(type)
+                .width(scaled.getWidth())
+                .height(scaled.getHeight())
+                .bytes(bytes.length)
+                .storageKey(key)
+                .cdnUrl(storageClient.publicUrl(key))
+                .build();
+
+        // Atomic append to the live media and its references; the type filter keeps re-runs idempotent
+        var pushed = mongo.updateMulti(
+                Query.query(liveOwners(media).and("variants.variantType").ne(type)),
+                new Update().push("variants", variant).set("updatedAt", Instant.now()).inc("version", 1),
+                Media.class);
+        mediaCache.invalidate(media.getId());
+        if (pushed.getModifiedCount() > 1) {
+            var references = Query.query(Criteria.where("sourceId").is(media.getId()));
+            references.fields().include("_id");
+            mediaCache.invalidateAll(mongo.find(references, Media.class).stream().map(Media::getId).toList());
+        }
+        if (pushed.getMatchedCount() == 0 && !mongo.exists(Query.query(liveOwners(media)), Media.class)) {
+            // Deleted while rendering: the purger never saw this key, so nobody else would remove it
+            storageClient.deleteObject(key);
+            lap(Stage.PERSIST, t);
+            return false;
+        }
+        lap(Stage.PERSIST, t);
+        return true;
+    }
+
+    /**
+     * The media and the deduplicated media referencing its original, if they are {@code READY} and not being purged.
+     */
+    private static Criteria liveOwners(Media media) {
+        return new Criteria().orOperator(
+                        Criteria.where("_id").is(media.getId()), Criteria.where("sourceId").is(media.getId()))
+                .and("status").is(MediaStatus.READY)
+                .and("purgePending").ne(true);
+    }
+
+    private long lap(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageNanos.get(stage).add(now - startNanos);
+        stageCount.get(stage).increment();
+        return now;
+    }
+
+    private int maxEdge(VariantType type) {
+        return type == VariantType.THUMBNAIL ? thumbnailSize : mediumSize;
+    }
+
+    /**
+     * Storage key of a rendition: {@code userId/mediaId/variants/<type>.<ext>}.
+     */
+    static String variantKey(Media media, VariantType type) {
+        return media.getUserId() + "/" + media.getId() + "/variants/"
+                + type.name().toLowerCase() + "." + extension(type);
+    }
+
+    private static String formatName(VariantType type) {
+        return switch (type) {
+            case WEBP -> "webp";
+            case AVIF -> "avif";
+            default -> "jpeg";
+        };
+    }
+
+    private static String extension(VariantType type) {
+        return type == VariantType.WEBP || type == VariantType.AVIF ? formatName(type) : "jpg";
+    }
+
+    private static String mimeType(VariantType type) {
+        return "image/" + formatName(type);
+    }
+}
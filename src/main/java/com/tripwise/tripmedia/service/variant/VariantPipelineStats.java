@@ -0,0 +1,32 @@
+package com.tripwise.tripmedia.service.variant;
+
+import java.util.Map;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.variant
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 11:35
+ * Description : Point-in-time snapshot of the {@link VariantPipeline} counters.
+ * ================================================================
+ */
+/**
+ * @param queueDepth      media waiting for a worker (each one task for all its renditions)
+ * @param active          media whose renditions are currently being produced
+ * @param submitted       renditions accepted into the queue since startup
+ * @param completed       renditions stored and attached to their media
+ * @param failed          renditions that failed in any stage
+ * @param rejected        renditions refused because the queue stayed full (backpressure)
+ * @param meanStageMillis mean latency per stage in milliseconds, keyed by stage name
+ */
+public record VariantPipelineStats(
+        int queueDepth,
+        int active,
+        long submitted,
+        long completed,
+        long failed,
+        long rejected,
+        Map<String, Double> meanStageMillis
+) {
+}
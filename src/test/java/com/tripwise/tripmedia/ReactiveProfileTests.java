@@ -0,0 +1,29 @@
+package com.tripwise.tripmedia;
+
+import com.tripwise.tripmedia.controller.MediaController;
+import com.tripwise.tripmedia.controller.ReactiveMediaController;
+import com.tripwise.tripmedia.repository.ReactiveMediaRepository;
+import com.tripwise.tripmedia.service.client.ReactiveStorageClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveProfileTests {
+
+    @Autowired
+    ApplicationContext context;
+
+    @Test
+    void contextLoadsWithReactiveStack() {
+        assertThat(context.getBeanNamesForType(ReactiveMediaController.class)).hasSize(1);
+        assertThat(context.getBeanNamesForType(ReactiveMediaRepository.class)).hasSize(1);
+        assertThat(context.getBeanNamesForType(ReactiveStorageClient.class)).hasSize(1);
+        assertThat(context.getBeanNamesForType(MediaController.class)).isEmpty();
+    }
+}
@@ -0,0 +1,98 @@
+package com.tripwise.tripmedia.bench;
+
+import com.tripwise.tripmedia.service.variant.ImageVariantRenderer;
+import com.tripwise.tripmedia.service.variant.SubsamplingImageDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.bench
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 13:40
+ * Description : Naive {@code ImageIO.read} vs {@link SubsamplingImageDecoder} when rendering a 1280 px variant.
+ * - Each invocation decodes one synthetic JPEG of {@code megapixels} MP.
+ * - At the end of each trial the heap allocated by the decoding thread per source megapixel is printed
+ * ("alloc MB/MP") - an upper bound on the decode's peak heap footprint. {@code -prof gc} reports the same per op.
+ * Run: mvn -Pbench test-compile exec:exec -Djmh.args="ImageDecode -prof gc"
+ * ================================================================
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class ImageDecodeBenchmark {
+
+    private static final int MAX_EDGE = 1280;
+
+    @Param({"12", "48"})
+    public int megapixels;
+
+    private byte[] jpeg;
+    private final SubsamplingImageDecoder decoder = new SubsamplingImageDecoder(1024);
+    private final ImageVariantRenderer renderer = new ImageVariantRenderer();
+
+    private long allocated;
+    private long decodes;
+
+    @Setup(Level.Trial)
+    public void encodeSource() throws IOException {
+        int width = (int) Math.sqrt(megapixels * 1_000_000 * 4.0 / 3.0);   // 4:3 like a phone photo
+        int height = width * 3 / 4;
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        jpeg = out.toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n%d MP: alloc MB/MP = %.2f (peak bound, %d decodes)%n",
+                megapixels, allocated / (1024.0 * 1024.0) / megapixels / Math.max(1, decodes), decodes);
+    }
+
+    @Benchmark
+    public BufferedImage naiveImageIoRead() throws IOException {
+        long before = allocatedBytes();
+        BufferedImage full = ImageIO.read(new ByteArrayInputStream(jpeg));
+        BufferedImage scaled = renderer.resize(full, MAX_EDGE);
+        record(before);
+        return scaled;
+    }
+
+    @Benchmark
+    public BufferedImage subsampledDecode() throws IOException {
+        long before = allocatedBytes();
+        try (var decoded = decoder.decode(new ByteArrayInputStream(jpeg), MAX_EDGE)) {
+            BufferedImage scaled = renderer.resize(decoded.image(), MAX_EDGE);
+            record(before);
+            return scaled;
+        }
+    }
+
+    private void record(long before) {
+        allocated += allocatedBytes() - before;
+        decodes++;
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,179 @@
+package com.tripwise.tripmedia.bench;
+
+import com.tripwise.tripmedia.TripmediaApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.bench
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 22:20
+ * Description : Max concurrent in-flight {@code POST /media/init} on platform vs virtual threads, at a fixed memory
+ * budget ({@code -Xmx256m}).
+ * - Boots the servlet application in-process against a Testcontainers MongoDB; the journal service is a non-blocking
+ * Reactor Netty stub that answers every ownership check after {@code JOURNAL_DELAY} (a slow upstream).
+ * - Each operation fires {@code requests} inits at once, each for a different journal (no ownership cache hits),
+ * and waits for all of them. The score is the time to drain the burst.
+ * - After each iteration it prints the peak number of ownership checks in flight at the stub (= inits in flight in
+ * the service), failed requests, peak heap and the process' peak RSS. With platform threads the peak is pinned at
+ * Tomcat's 200 workers; with virtual threads it should approach {@code requests}.
+ * - {@code virtual} needs a Java 21 runtime (otherwise Spring Boot silently stays on platform threads); the fork
+ * also traces pinned virtual threads.
+ * - Needs Docker (Testcontainers, mongo:6).
+ * Run: mvn -Pbench,java21 test-compile exec:exec -Djmh.args="InFlightInit"
+ * ================================================================
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xmx256m",
+        "-Djdk.tracePinnedThreads=short",
+        "-Dreactor.netty.pool.maxConnections=20000"})
+@State(Scope.Benchmark)
+public class InFlightInitBenchmark {
+
+    private static final Duration JOURNAL_DELAY = Duration.ofSeconds(2); // below JournalClient's 4s timeout
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000", "4000"})
+    public int requests;
+
+    private MongoDBContainer mongoDb;
+    private DisposableServer journals;
+    private ConfigurableApplicationContext app;
+    private HttpClient http;
+    private String initUrl;
+
+    private final AtomicInteger journalsInFlight = new AtomicInteger();
+    private final AtomicInteger journalsPeak = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger round = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void start() {
+        mongoDb = new MongoDBContainer("mongo:6");
+        mongoDb.start();
+
+        journals = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/journals/{id}", (req, res) -> {
+                    journalsPeak.accumulateAndGet(journalsInFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(JOURNAL_DELAY)
+                            .then(Mono.defer(() -> res.status(200).send().then()))
+                            .doFinally(s -> journalsInFlight.decrementAndGet());
+                }))
+                .bindNow();
+
+        var builder = new SpringApplicationBuilder(TripmediaApplication.class, WebStackLoadBenchmark.BenchAuth.class);
+        if ("virtual".equals(threads)) {
+            builder.profiles("virtual");
+        }
+        // Command-line arguments, so they override the ${ENV:default} placeholders of application.yml
+        app = builder.run(
+                "--server.port=0",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=20000",
+                "--spring.data.mongodb.uri=" + mongoDb.getReplicaSetUrl("mediadb"),
+                "--journals.base-url=http://localhost:" + journals.port(),
+                "--media.variants.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.tripwise.tripmedia=WARN");
+        initUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/media/init";
+
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        journalsPeak.set(0);
+        failed.set(0);
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        System.out.printf("%n%s/%d: peak in-flight inits = %d, failed = %d, peak heap = %d MiB, peak RSS = %s%n",
+                threads, requests, journalsPeak.get(), failed.get(), peakHeap >> 20, peakRss());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        app.close();
+        journals.disposeNow();
+        mongoDb.stop();
+    }
+
+    @Benchmark
+    public int burst() {
+        int r = round.incrementAndGet();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            String body = "{\"fileName\":\"IMG_" + i + ".jpg\",\"mimeType\":\"image/jpeg\",\"bytes\":3500000,"
+                    + "\"journalId\":\"journal-" + r + "-" + i + "\"}";
+            responses.add(http.sendAsync(HttpRequest.newBuilder(URI.create(initUrl))
+                            .header("Authorization", "Bearer bench")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int ok = 0;
+        for (var response : responses) {
+            try {
+                if (response.join().statusCode() == 200) {
+                    ok++;
+                } else {
+                    failed.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+            }
+        }
+        return ok;
+    }
+
+    /** VmHWM from /proc (Linux only). */
+    private static String peakRss() {
+        try {
+            return Files.readAllLines(Path.of("/proc/self/status")).stream()
+                    .filter(line -> line.startsWith("VmHWM:"))
+                    .map(line -> line.substring("VmHWM:".length()).trim())
+                    .findFirst()
+                    .orElse("n/a");
+        } catch (Exception e) {
+            return "n/a";
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.tripwise.tripmedia.bench;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.model.MediaVariant;
+import com.tripwise.tripmedia.model.VariantType;
+import com.tripwise.tripmedia.repository.MediaRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.bench
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 19:40
+ * Description : Confirm transition (UPLOADING -> READY): {@code findById} + full-document {@code save} vs one
+ * conditional {@code findAndModify} ({@link MediaRepositoryImpl#findAndTransition}).
+ * - Each thread owns one media document that is reset to {@code UPLOADING} before every invocation (not measured).
+ * - At the end of each trial the number of commands sent to MongoDB per transition is printed ("round trips/op").
+ * - Needs Docker (Testcontainers, mongo:6).
+ * Run: mvn -Pbench test-compile exec:exec -Djmh.args="MediaTransition -t 8"
+ * ================================================================
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MediaTransitionBenchmark {
+
+    private static final String USER = "bench-user";
+
+    /** Only commands issued inside a measured transition are counted (the sync driver calls listeners in-thread). */
+    private static final ThreadLocal<Boolean> MEASURING = ThreadLocal.withInitial(() -> false);
+
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAdder transitions = new LongAdder();
+
+    private MongoDBContainer mongoDb;
+    private MongoClient client;
+    private MongoTemplate mongo;
+    private MediaRepositoryImpl repository;
+
+    @Setup(Level.Trial)
+    public void start() {
+        mongoDb = new MongoDBContainer("mongo:6");
+        mongoDb.start();
+
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongoDb.getReplicaSetUrl()))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if (MEASURING.get()) roundTrips.increment();
+                    }
+                })
+                .build());
+        mongo = new MongoTemplate(client, "bench");
+        repository = new MediaRepositoryImpl(mongo);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        System.out.printf("%nround trips/op = %.2f (%d transitions)%n",
+                roundTrips.doubleValue() / Math.max(1, transitions.sum()), transitions.sum());
+        client.close();
+        mongoDb.stop();
+    }
+
+    @State(Scope.Thread)
+    public static class Doc {
+        String id;
+
+        @Setup(Level.Trial)
+        public void insert(MediaTransitionBenchmark bench) {
+            id = UUID.randomUUID().toString();
+            bench.mongo.insert(sample(id));
+        }
+
+        @Setup(Level.Invocation)
+        public void reset(MediaTransitionBenchmark bench) {
+            bench.mongo.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                    new Update().set("status", MediaStatus.UPLOADING), Media.class);
+        }
+    }
+
+    @Benchmark
+    public Media readModifyWrite(Doc doc) {
+        MEASURING.set(true);
+        try {
+            Media m = mongo.findById(doc.id, Media.class);
+            if (!Objects.equals(Objects.requireNonNull(m).getUserId(), USER)) {
+                throw new SecurityException("Not Owner");
+            }
+            m.setChecksum("sha256-abc");
+            m.setBytes(3_500_000L);
+            m.setWidth(4032);
+            m.setHeight(3024);
+            m.setStatus(MediaStatus.READY);
+            m.setUpdatedAt(Instant.now());
+            return mongo.save(m);
+        } finally {
+            MEASURING.set(false);
+            transitions.increment();
+        }
+    }
+
+    @Benchmark
+    public Media findAndModify(Doc doc) {
+        MEASURING.set(true);
+        try {
+            return repository.findAndTransition(doc.id, USER,
+                    Criteria.where("status").is(MediaStatus.UPLOADING).and("uploadId").is(null),
+                    new Update()
+                            .set("checksum", "sha256-abc")
+                            .set("bytes", 3_500_000L)
+                            .set("width", 4032)
+                            .set("height", 3024)
+                            .set("status", MediaStatus.READY)
+                            .set("updatedAt", Instant.now()));
+        } finally {
+            MEASURING.set(false);
+            transitions.increment();
+        }
+    }
+
+    /**
+     * A document shaped like a real one (tags, variants) so that full rewrites pay their actual size.
+     */
+    private static Media sample(String id) {
+        List<MediaVariant> variants = new ArrayList<>();
+        for (VariantType type : List.of(VariantType.THUMBNAIL, VariantType.MEDIUM)) {
+            String key = USER + "/" + id + "/variants/" + type.name().toLowerCase() + ".jpg";
+            variants.add(MediaVariant.builder()
+                    .variantType(type).width(320).height(240).bytes(24_000)
+                    .storageKey(key).cdnUrl("https://cdn.example.com/" + key)
+                    .build());
+        }
+        String key = USER + "/" + id + "/IMG_0001.jpg";
+        return Media.builder()
+                .id(id)
+                .userId(USER)
+                .journalId("bench-journal")
+                .fileName("IMG_0001.jpg")
+                .mimeType("image/jpeg")
+                .bytes(3_500_000L)
+                .storageKey(key)
+                .cdnUrl("https://cdn.example.com/" + key)
+                .tags(new ArrayList<>(List.of("beach", "sunset", "cover")))
+                .variants(variants)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+}
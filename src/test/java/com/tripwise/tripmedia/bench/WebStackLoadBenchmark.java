@@ -0,0 +1,176 @@
+package com.tripwise.tripmedia.bench;
+
+import com.sun.management.OperatingSystemMXBean;
+import com.tripwise.tripmedia.TripmediaApplication;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.testcontainers.containers.MongoDBContainer;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.bench
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 21:40
+ * Description : HTTP load test of the servlet stack vs the {@code reactive} profile (WebFlux + reactive Mongo).
+ * - Boots the application in-process against a Testcontainers MongoDB, seeded with READY media; the media cache is
+ * disabled so every request reaches MongoDB. JWTs are accepted without verification.
+ * - 64 client threads issue {@code GET /media/{id}} and {@code POST /media/batch} (50 IDs) over keep-alive
+ * connections.
+ * - The fork is capped at {@code -XX:ActiveProcessorCount=2}; divide the score by 2 for requests/s per core. After
+ * each iteration the process CPU time per request is printed ("cpu us/req", client included, same for both).
+ * - Needs Docker (Testcontainers, mongo:6).
+ * Run: mvn -Pbench test-compile exec:exec -Djmh.args="WebStackLoad"
+ * ================================================================
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(64)
+@Fork(value = 1, jvmArgsAppend = {"-XX:ActiveProcessorCount=2", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class WebStackLoadBenchmark {
+
+    private static final int SEEDED = 2_000;
+    private static final int BATCH = 50;
+
+    @Param({"servlet", "reactive"})
+    public String stack;
+
+    private MongoDBContainer mongoDb;
+    private ConfigurableApplicationContext app;
+    private HttpClient http;
+    private String baseUrl;
+    private List<String> ids;
+
+    private final LongAdder requests = new LongAdder();
+    private long cpuNanosAtStart;
+
+    /**
+     * Accepts any bearer token as user {@code bench-user}, for both web stacks. Registered as an application source
+     * (not {@code @Configuration}, so component scanning in other tests never picks it up).
+     */
+    static class BenchAuth {
+        private static Jwt jwt(String token) {
+            return Jwt.withTokenValue(token).header("alg", "none").subject("bench-user")
+                    .issuedAt(Instant.now()).expiresAt(Instant.now().plusSeconds(3600)).build();
+        }
+
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return BenchAuth::jwt;
+        }
+
+        @Bean
+        ReactiveJwtDecoder reactiveJwtDecoder() {
+            return token -> Mono.just(jwt(token));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        mongoDb = new MongoDBContainer("mongo:6");
+        mongoDb.start();
+
+        var builder = new SpringApplicationBuilder(TripmediaApplication.class, BenchAuth.class);
+        if ("reactive".equals(stack)) {
+            builder.profiles("reactive");
+        }
+        // Command-line arguments, so they override the ${ENV:default} placeholders of application.yml
+        app = builder.run(
+                "--server.port=0",
+                "--spring.data.mongodb.uri=" + mongoDb.getReplicaSetUrl("mediadb"),
+                "--media.cache.max-bytes=0",
+                "--media.variants.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.tripwise.tripmedia=WARN");
+        baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/media";
+
+        ids = new ArrayList<>();
+        List<Media> docs = new ArrayList<>();
+        for (int i = 0; i < SEEDED; i++) {
+            String id = String.format("bench-%05d", i);
+            ids.add(id);
+            docs.add(Media.builder()
+                    .id(id).userId("bench-user").journalId("bench-journal-" + (i % 20))
+                    .fileName("IMG_" + i + ".jpg").mimeType("image/jpeg").bytes(3_500_000L)
+                    .storageKey("bench-user/" + id + "/IMG_" + i + ".jpg")
+                    .status(MediaStatus.READY)
+                    .createdAt(Instant.now()).updatedAt(Instant.now())
+                    .build());
+        }
+        app.getBean(MongoTemplate.class).insert(docs, Media.class);
+
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void markCpu() {
+        requests.reset();
+        cpuNanosAtStart = processCpuNanos();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCpu() {
+        long cpu = processCpuNanos() - cpuNanosAtStart;
+        System.out.printf("%n%s: cpu us/req = %.1f (%d requests)%n",
+                stack, cpu / 1e3 / Math.max(1, requests.sum()), requests.sum());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        app.close();
+        mongoDb.stop();
+    }
+
+    @Benchmark
+    public int getById() throws Exception {
+        String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET());
+    }
+
+    @Benchmark
+    public int batch() throws Exception {
+        int from = ThreadLocalRandom.current().nextInt(ids.size() - BATCH);
+        String body = "[\"" + String.join("\",\"", ids.subList(from, from + BATCH)) + "\"]";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        var response = http.send(request.header("Authorization", "Bearer bench").build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(stack + " returned " + response.statusCode());
+        }
+        requests.increment();
+        return response.statusCode();
+    }
+
+    private static long processCpuNanos() {
+        return ((OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tripwise.tripmedia.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.config
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 09:30
+ * Description : Lines written by {@link OtlpJsonFileSpanExporter}.
+ * - One {@code ExportTraceServiceRequest} per line, with the fields the OTLP exporters send (links, trace state,
+ * flags); guards the format against upgrades of the OpenTelemetry BOM.
+ * - The file is rotated by encoded bytes, so non-ASCII attributes count in full.
+ * ================================================================
+ */
+class OtlpJsonFileSpanExporterTests {
+
+    private static final SpanContext LINKED = SpanContext.create("0af7651916cd43dd8448eb211c80319c",
+            "b7ad6b7169203331", TraceFlags.getSampled(), TraceState.builder().put("vendor", "x").build());
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private OtlpJsonFileSpanExporter exporter;
+    private SdkTracerProvider provider;
+
+    @AfterEach
+    void stop() {
+        provider.shutdown();
+    }
+
+    @Test
+    void eachExportIsOneRequestLineWithLinksAndTraceState() throws IOException {
+        Path file = dir.resolve("spans.jsonl");
+        Tracer tracer = tracer(file, 1 << 20);
+
+        tracer.spanBuilder("confirm").addLink(LINKED, Attributes.of(AttributeKey.stringKey("why"), "batch"))
+                .setAttribute("file", "café.jpg").startSpan().end();
+        tracer.spanBuilder("purge").startSpan().end();
+        exporter.flush();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        JsonNode span = json.readTree(lines.get(0)).at("/resourceSpans/0/scopeSpans/0/spans/0");
+        assertThat(span.path("name").asText()).isEqualTo("confirm");
+        assertThat(span.path("flags").isMissingNode()).isFalse();
+        JsonNode link = span.path("links").path(0);
+        assertThat(link.path("traceId").asText()).isEqualTo(LINKED.getTraceId());
+        assertThat(link.path("spanId").asText()).isEqualTo(LINKED.getSpanId());
+        assertThat(link.path("traceState").asText()).isEqualTo("vendor=x");
+        assertThat(span.path("attributes").toString()).contains("café.jpg");
+        assertThat(json.readTree(lines.get(1)).at("/resourceSpans/0/scopeSpans/0/spans/0/name").asText())
+                .isEqualTo("purge");
+    }
+
+    @Test
+    void rotatesOnEncodedBytes() throws IOException {
+        Path file = dir.resolve("spans.jsonl");
+        // The first line alone exceeds the limit only when its non-ASCII characters are counted in bytes
+        String name = "é".repeat(1000);
+        Tracer tracer = tracer(file, 2000);
+
+        tracer.spanBuilder(name).startSpan().end();
+
+        Path rotated = dir.resolve("spans.jsonl.1");
+        assertThat(rotated).exists();
+        assertThat(Files.size(rotated)).isGreaterThanOrEqualTo(2000);
+        assertThat(Files.readString(rotated, StandardCharsets.UTF_8).length()).isLessThan(2000);
+        assertThat(file).isEmptyFile();
+    }
+
+    private Tracer tracer(Path file, long maxBytes) throws IOException {
+        exporter = new OtlpJsonFileSpanExporter(file, maxBytes);
+        provider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+        return provider.get("test");
+    }
+}
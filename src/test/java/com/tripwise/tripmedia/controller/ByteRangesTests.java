@@ -0,0 +1,158 @@
+package com.tripwise.tripmedia.controller;
+
+import com.tripwise.tripmedia.controller.ByteRanges.Outcome;
+import com.tripwise.tripmedia.controller.ByteRanges.Plan;
+import com.tripwise.tripmedia.controller.ByteRanges.Region;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.controller
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 06:20
+ * Description : Decisions of {@link ByteRanges#plan} (304/200/206/416) and the framing of multi-range responses.
+ * ================================================================
+ */
+class ByteRangesTests {
+
+    private static final String ETAG = "\"abc123\"";
+    private static final long MODIFIED = Instant.parse("2026-10-17T10:00:00.500Z").toEpochMilli();
+    private static final String MODIFIED_DATE = http(MODIFIED);
+    private static final long SIZE = 1000;
+
+    @Test
+    void ifNoneMatchWithTheCurrentEtagIsNotModified() {
+        assertThat(plan(null, null, ETAG, null).outcome()).isEqualTo(Outcome.NOT_MODIFIED);
+        assertThat(plan(null, null, "W/" + ETAG, null).outcome()).isEqualTo(Outcome.NOT_MODIFIED); // weak comparison
+        assertThat(plan(null, null, "\"other\", " + ETAG, null).outcome()).isEqualTo(Outcome.NOT_MODIFIED);
+        assertThat(plan(null, null, "*", null).outcome()).isEqualTo(Outcome.NOT_MODIFIED);
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() {
+        assertThat(plan(null, null, "\"other\"", MODIFIED_DATE).outcome()).isEqualTo(Outcome.FULL);
+    }
+
+    @Test
+    void ifModifiedSinceComparesWholeSeconds() {
+        assertThat(plan(null, null, null, MODIFIED_DATE).outcome()).isEqualTo(Outcome.NOT_MODIFIED);
+        assertThat(plan(null, null, null, http(MODIFIED - 1000)).outcome()).isEqualTo(Outcome.FULL);
+        assertThat(plan(null, null, null, "yesterday").outcome()).isEqualTo(Outcome.FULL);
+    }
+
+    @Test
+    void singleRangeIsPartial() {
+        Plan plan = plan("bytes=0-99", null, null, null);
+
+        assertThat(plan.outcome()).isEqualTo(Outcome.PARTIAL);
+        assertThat(plan.regions()).containsExactly(new Region(0, 99));
+        assertThat(plan.multipart()).isFalse();
+        assertThat(plan.regions().get(0).contentRange(SIZE)).isEqualTo("bytes 0-99/1000");
+    }
+
+    @Test
+    void suffixAndOpenRangesAreClampedToTheSize() {
+        assertThat(plan("bytes=-100", null, null, null).regions()).containsExactly(new Region(900, 999));
+        assertThat(plan("bytes=950-", null, null, null).regions()).containsExactly(new Region(950, 999));
+        assertThat(plan("bytes=990-5000", null, null, null).regions()).containsExactly(new Region(990, 999));
+    }
+
+    @Test
+    void rangeBeyondTheEndIsUnsatisfiable() {
+        Plan plan = plan("bytes=1000-1100", null, null, null);
+
+        assertThat(plan.outcome()).isEqualTo(Outcome.UNSATISFIABLE);
+        assertThat(plan.regions()).isEmpty();
+    }
+
+    @Test
+    void unsatisfiableRangesAreDroppedWhenOthersFit() {
+        Plan plan = plan("bytes=0-9,2000-2100", null, null, null);
+
+        assertThat(plan.outcome()).isEqualTo(Outcome.PARTIAL);
+        assertThat(plan.regions()).containsExactly(new Region(0, 9));
+    }
+
+    @Test
+    void malformedRangeOrOtherMethodGetsTheWholeRepresentation() {
+        assertThat(plan("items=0-9", null, null, null).outcome()).isEqualTo(Outcome.FULL);
+        assertThat(plan("bytes=9-0", null, null, null).outcome()).isEqualTo(Outcome.FULL);
+        assertThat(ByteRanges.plan(false, "bytes=0-9", null, null, null, ETAG, MODIFIED, SIZE).outcome())
+                .isEqualTo(Outcome.FULL);
+        assertThat(plan(null, null, null, null).regions()).containsExactly(new Region(0, SIZE - 1));
+    }
+
+    @Test
+    void rangesAddingUpToMoreThanTheSizeFallBackToFull() {
+        // Overlapping ranges would send more bytes than the representation has
+        Plan overlapping = plan("bytes=0-999,0-999", null, null, null);
+        Plan partlyOverlapping = plan("bytes=0-600,400-999", null, null, null);
+
+        assertThat(overlapping.outcome()).isEqualTo(Outcome.FULL);
+        assertThat(overlapping.regions()).containsExactly(new Region(0, SIZE - 1));
+        assertThat(partlyOverlapping.outcome()).isEqualTo(Outcome.FULL);
+    }
+
+    @Test
+    void ifRangeNeedsAStrongEtagMatch() {
+        assertThat(plan("bytes=0-9", ETAG, null, null).outcome()).isEqualTo(Outcome.PARTIAL);
+        assertThat(plan("bytes=0-9", "\"stale\"", null, null).outcome()).isEqualTo(Outcome.FULL);
+        assertThat(plan("bytes=0-9", "W/" + ETAG, null, null).outcome()).isEqualTo(Outcome.FULL);
+        assertThat(ByteRanges.plan(true, "bytes=0-9", ETAG, null, null, "W/" + ETAG, MODIFIED, SIZE).outcome())
+                .isEqualTo(Outcome.FULL);
+    }
+
+    @Test
+    void ifRangeDateMustMatchTheModificationSecond() {
+        assertThat(plan("bytes=0-9", MODIFIED_DATE, null, null).outcome()).isEqualTo(Outcome.PARTIAL);
+        assertThat(plan("bytes=0-9", http(MODIFIED - 1000), null, null).outcome()).isEqualTo(Outcome.FULL);
+        assertThat(plan("bytes=0-9", "not a date", null, null).outcome()).isEqualTo(Outcome.FULL);
+    }
+
+    @Test
+    void emptyRepresentationIsFullWithoutRegions() {
+        Plan plan = ByteRanges.plan(true, "bytes=0-9", null, null, null, ETAG, MODIFIED, 0);
+
+        assertThat(plan.outcome()).isEqualTo(Outcome.FULL);
+        assertThat(plan.regions()).isEmpty();
+    }
+
+    @Test
+    void multipartContentLengthMatchesTheFramedBody() {
+        Plan plan = plan("bytes=0-9,100-149,990-", null, null, null);
+        assertThat(plan.multipart()).isTrue();
+
+        var multipart = ByteRanges.multipart(plan, "image/jpeg", SIZE);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < plan.regions().size(); i++) {
+            body.writeBytes(multipart.headers().get(i));
+            body.writeBytes(new byte[(int) plan.regions().get(i).length()]);
+        }
+        body.writeBytes(multipart.end());
+        assertThat(multipart.contentLength()).isEqualTo(body.size());
+
+        String boundary = multipart.contentType().substring("multipart/byteranges; boundary=".length());
+        String first = new String(multipart.headers().get(0), StandardCharsets.US_ASCII);
+        assertThat(first).isEqualTo("\r\n--" + boundary
+                + "\r\nContent-Type: image/jpeg\r\nContent-Range: bytes 0-9/1000\r\n\r\n");
+        assertThat(new String(multipart.end(), StandardCharsets.US_ASCII)).isEqualTo("\r\n--" + boundary + "--\r\n");
+    }
+
+    private static Plan plan(String range, String ifRange, String ifNoneMatch, String ifModifiedSince) {
+        return ByteRanges.plan(true, range, ifRange, ifNoneMatch, ifModifiedSince, ETAG, MODIFIED, SIZE);
+    }
+
+    private static String http(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC));
+    }
+}
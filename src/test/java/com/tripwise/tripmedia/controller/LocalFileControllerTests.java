@@ -0,0 +1,176 @@
+package com.tripwise.tripmedia.controller;
+
+import com.tripwise.tripmedia.service.client.LocalFileStorageClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.controller
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 08:59
+ * Description : Requests to {@link LocalFileController} that must not read or store anything.
+ * - Percent-encoded {@code ..} and {@code /} in the path are decoded before the key is checked.
+ * - An upload whose {@code Content-Length} is not the signed size, or that is chunked, is refused before its body
+ * is read; a body shorter than its {@code Content-Length} is not stored.
+ * - A part sent after its multipart upload was completed or aborted is not stored.
+ * ================================================================
+ */
+class LocalFileControllerTests {
+
+    private static final String KEY = "u1/m1/photo.jpg";
+    private static final String URI = LocalFileController.PATH + "/" + KEY;
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageClient files;
+    private LocalFileController controller;
+
+    @BeforeEach
+    void start() throws IOException {
+        files = new LocalFileStorageClient(root, "http://localhost/media-files", "", 20, "test-key");
+        controller = new LocalFileController(files);
+        Files.writeString(root.resolve("secret.txt"), "secret");
+    }
+
+    @Test
+    void encodedTraversalIsRejected() {
+        for (String uri : new String[]{"/media-files/u1/%2e%2e/%2e%2e/secret.txt", "/media-files/..%2F..%2Fsecret.txt",
+                "/media-files/u1%2F%2E%2E%2F%2E%2E%2Fsecret.txt"}) {
+            assertThatThrownBy(() -> controller.get(new MockHttpServletRequest("GET", uri),
+                    new MockHttpServletResponse())).as(uri).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void signatureOfAnotherKeyDoesNotCoverAnEncodedTraversal() {
+        var query = query(files.presignPut(KEY, "image/jpeg", 6).url());
+        var request = upload("/media-files/u1/m1/%2e%2e%2F%2e%2e%2F%2e%2e%2Fsecret.txt", new byte[6]);
+
+        assertThatThrownBy(() -> put(request, query)).isInstanceOf(SecurityException.class);
+        assertThat(root.resolve("secret.txt")).hasContent("secret");
+    }
+
+    @Test
+    void uploadOfTheSignedSizeIsStored() throws IOException {
+        var query = query(files.presignPut(KEY, "image/jpeg", 6).url());
+
+        var response = put(upload(URI, "photo!".getBytes()), query);
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(files.path(KEY)).hasContent("photo!");
+        assertThat(root.resolve("tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    void contentLengthOtherThanTheSignedSizeIsRejected() {
+        var query = query(files.presignPut(KEY, "image/jpeg", 6).url());
+
+        assertThatThrownBy(() -> put(upload(URI, new byte[7]), query)).isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> put(upload(URI, new byte[5]), query)).isInstanceOf(SecurityException.class);
+        assertThat(files.path(KEY)).doesNotExist();
+    }
+
+    @Test
+    void bodyShorterThanItsContentLengthIsNotStored() {
+        var query = query(files.presignPut(KEY, "image/jpeg", 6).url());
+        var request = new MockHttpServletRequest("PUT", URI) {
+            @Override
+            public long getContentLengthLong() {
+                return 6; // connection closed after 3 bytes
+            }
+        };
+        request.setContentType("image/jpeg");
+        request.setContent(new byte[3]);
+
+        assertThatThrownBy(() -> put(request, query)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(files.path(KEY)).doesNotExist();
+        assertThat(root.resolve("tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    void chunkedUploadIsRejected() {
+        var query = query(files.presignPut(KEY, "image/jpeg", 6).url());
+        var request = new MockHttpServletRequest("PUT", URI) {
+            @Override
+            public long getContentLengthLong() {
+                return -1; // Transfer-Encoding: chunked
+            }
+        };
+        request.setContentType("image/jpeg");
+        request.setContent(new byte[6]);
+
+        assertThatThrownBy(() -> put(request, query)).isInstanceOf(SecurityException.class);
+        assertThat(files.path(KEY)).doesNotExist();
+    }
+
+    @Test
+    void partOfACompletedOrAbortedUploadIsNotStored() throws IOException {
+        var upload = files.presignMultipart(KEY, "image/jpeg", 10, 5);
+        var first = query(upload.parts().get(0).url());
+        var second = query(upload.parts().get(1).url());
+        put(part(upload.parts().get(0).url(), new byte[5]), first);
+        put(part(upload.parts().get(1).url(), new byte[5]), second);
+        files.completeMultipart(KEY, upload.uploadId(), 10);
+
+        // A retried part would otherwise be left behind in a directory nobody completes
+        assertThatThrownBy(() -> put(part(upload.parts().get(1).url(), new byte[5]), second))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(files.headObject(KEY).size()).isEqualTo(10);
+        assertThat(root.resolve("multipart")).isEmptyDirectory();
+        assertThat(root.resolve("tmp")).isEmptyDirectory();
+
+        var aborted = files.presignMultipart("u1/m2/photo.jpg", "image/jpeg", 10, 5);
+        files.abortMultipart("u1/m2/photo.jpg", aborted.uploadId());
+        assertThatThrownBy(() -> put(part(aborted.parts().get(0).url(), new byte[5]),
+                query(aborted.parts().get(0).url()))).isInstanceOf(NoSuchElementException.class);
+        assertThat(root.resolve("multipart")).isEmptyDirectory();
+        assertThat(root.resolve("tmp")).isEmptyDirectory();
+    }
+
+    private ResponseEntity<Void> put(MockHttpServletRequest request, Map<String, String> query) throws IOException {
+        String partNumber = query.get("partNumber");
+        return controller.put(request, Long.parseLong(query.get(LocalFileStorageClient.EXPIRES)),
+                query.get(LocalFileStorageClient.SIGNATURE), query.get("uploadId"),
+                partNumber == null ? null : Integer.valueOf(partNumber));
+    }
+
+    private static MockHttpServletRequest upload(String uri, byte[] body) {
+        var request = new MockHttpServletRequest("PUT", uri);
+        request.setContentType("image/jpeg");
+        request.setContent(body);
+        return request;
+    }
+
+    private static MockHttpServletRequest part(URL url, byte[] body) {
+        var request = new MockHttpServletRequest("PUT", url.getPath());
+        request.setContent(body);
+        return request;
+    }
+
+    private static Map<String, String> query(URL url) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : url.getQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            params.put(pair.substring(0, eq), pair.substring(eq + 1));
+        }
+        return params;
+    }
+}
@@ -0,0 +1,72 @@
+package com.tripwise.tripmedia.load;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.load
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:10
+ * Description : In-process stand-in for the TripJournal API ({@code GET /journals/{id}?userId=...}).
+ * - Every ownership check is answered after {@code latency} plus a uniform random {@code jitter}; the delay is a
+ * timer, not a sleeping thread, so a slow upstream costs the stub nothing.
+ * - {@code failureRate} of the checks get a 503 (the service fails the request; nothing is cached) and
+ * {@code denyRate} a 403 (cached as "not owned" for the negative TTL). The rest get a 200.
+ * ================================================================
+ */
+final class FakeJournals implements AutoCloseable {
+
+    private final DisposableServer server;
+
+    private final LongAdder owned = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    FakeJournals(Duration latency, Duration jitter, double failureRate, double denyRate) {
+        this.server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/journals/{id}", (req, res) -> {
+                    var random = ThreadLocalRandom.current();
+                    long delay = latency.toNanos() + (jitter.isZero() ? 0 : random.nextLong(jitter.toNanos() + 1));
+                    double roll = random.nextDouble();
+                    int status;
+                    if (roll < failureRate) {
+                        status = 503;
+                        failed.increment();
+                    } else if (roll < failureRate + denyRate) {
+                        status = 403;
+                        denied.increment();
+                    } else {
+                        status = 200;
+                        owned.increment();
+                    }
+                    return Mono.delay(Duration.ofNanos(delay))
+                            .then(Mono.defer(() -> res.status(status).send().then()));
+                }))
+                .bindNow();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    /**
+     * One line of request counts by answer, for the report.
+     */
+    String summary() {
+        return String.format("journals: %d ownership checks (%d owned, %d denied, %d failed)",
+                owned.sum() + denied.sum() + failed.sum(), owned.sum(), denied.sum(), failed.sum());
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
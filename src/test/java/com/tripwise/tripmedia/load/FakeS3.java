@@ -0,0 +1,365 @@
+package com.tripwise.tripmedia.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.load
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:15
+ * Description : In-memory, path-style S3 endpoint ({@code /bucket/key}) for the operations this service uses.
+ * - Objects: PUT (presigned or SDK, incl. {@code aws-chunked} bodies), GET with {@code Range}, HEAD, DELETE and
+ * {@code DeleteObjects}. Multipart: create, upload part, list parts, complete, abort and list uploads.
+ * - Signatures and checksums are not verified; any bucket is accepted.
+ * - Object bodies are stored by content (MD5), so the identical payloads of a load test share one array and the heap
+ * does not grow with the number of uploads.
+ * - {@code latency} is added to every request (a sleeping handler thread, from an unbounded pool).
+ * ================================================================
+ */
+final class FakeS3 implements AutoCloseable {
+
+    private static final String XMLNS = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final Pattern DELETE_KEY = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+
+    private record Blob(byte[] data, String etag, String contentType) {
+    }
+
+    private record Upload(String key, String contentType, Instant initiated,
+                          ConcurrentSkipListMap<Integer, Blob> parts) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final Duration latency;
+
+    private final Map<String, Blob> objects = new ConcurrentHashMap<>();     // "bucket/key"
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();  // etag -> shared body
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();   // uploadId
+    private final Map<String, LongAdder> requests = new ConcurrentSkipListMap<>();
+
+    FakeS3(Duration latency) throws IOException {
+        this.latency = latency;
+        this.handlers = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "fake-s3");
+            t.setDaemon(true);
+            return t;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.setExecutor(handlers);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String endpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * One line of request counts by S3 operation, for the report.
+     */
+    String summary() {
+        StringBuilder line = new StringBuilder("s3: ").append(objects.size()).append(" objects;");
+        requests.forEach((op, n) -> line.append(' ').append(op).append('=').append(n.sum()));
+        return line.toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            String path = exchange.getRequestURI().getPath().substring(1);
+            int slash = path.indexOf('/');
+            String bucket = slash < 0 ? path : path.substring(0, slash);
+            String key = slash < 0 ? "" : path.substring(slash + 1);
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploadPart(exchange, query);
+                    } else {
+                        putObject(exchange, bucket + "/" + key);
+                    }
+                }
+                case "GET" -> {
+                    if (key.isEmpty() && query.containsKey("uploads")) {
+                        listUploads(exchange, bucket);
+                    } else if (query.containsKey("uploadId")) {
+                        listParts(exchange, bucket, query.get("uploadId"));
+                    } else {
+                        getObject(exchange, bucket + "/" + key, false);
+                    }
+                }
+                case "HEAD" -> getObject(exchange, bucket + "/" + key, true);
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        count("AbortMultipartUpload");
+                        boolean known = uploads.remove(query.get("uploadId")) != null;
+                        if (known) {
+                            exchange.sendResponseHeaders(204, -1);
+                        } else {
+                            error(exchange, 404, "NoSuchUpload");
+                        }
+                    } else {
+                        count("DeleteObject");
+                        objects.remove(bucket + "/" + key);
+                        exchange.sendResponseHeaders(204, -1);
+                    }
+                }
+                case "POST" -> {
+                    if (query.containsKey("delete")) {
+                        deleteObjects(exchange, bucket);
+                    } else if (query.containsKey("uploads")) {
+                        createUpload(exchange, bucket, key);
+                    } else if (query.containsKey("uploadId")) {
+                        completeUpload(exchange, bucket, key, query.get("uploadId"));
+                    } else {
+                        error(exchange, 501, "NotImplemented");
+                    }
+                }
+                default -> error(exchange, 405, "MethodNotAllowed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void putObject(HttpExchange exchange, String path) throws IOException {
+        count("PutObject");
+        Blob blob = store(body(exchange), exchange.getRequestHeaders().getFirst("Content-Type"));
+        objects.put(path, blob);
+        exchange.getResponseHeaders().set("ETag", blob.etag());
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void getObject(HttpExchange exchange, String path, boolean head) throws IOException {
+        count(head ? "HeadObject" : "GetObject");
+        Blob blob = objects.get(path);
+        if (blob == null) {
+            if (head) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                error(exchange, 404, "NoSuchKey");
+            }
+            return;
+        }
+        byte[] data = blob.data();
+        int from = 0;
+        int to = data.length - 1;
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null && range.startsWith("bytes=") && data.length > 0) {
+            String[] bounds = range.substring(6).split("-", 2);
+            from = (int) Math.min(Long.parseLong(bounds[0]), data.length - 1);
+            to = bounds[1].isEmpty() ? to : (int) Math.min(Long.parseLong(bounds[1]), data.length - 1);
+            status = 206;
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + from + "-" + to + "/" + data.length);
+        }
+        int length = Math.max(0, to - from + 1);
+        exchange.getResponseHeaders().set("ETag", blob.etag());
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+        if (blob.contentType() != null) {
+            exchange.getResponseHeaders().set("Content-Type", blob.contentType());
+        }
+        if (head) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(data.length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+        exchange.getResponseBody().write(data, from, length);
+    }
+
+    private void deleteObjects(HttpExchange exchange, String bucket) throws IOException {
+        count("DeleteObjects");
+        Matcher keys = DELETE_KEY.matcher(new String(body(exchange), StandardCharsets.UTF_8));
+        while (keys.find()) {
+            objects.remove(bucket + "/" + unescape(keys.group(1)));
+        }
+        xml(exchange, 200, "<DeleteResult xmlns=\"" + XMLNS + "\"></DeleteResult>");
+    }
+
+    private void createUpload(HttpExchange exchange, String bucket, String key) throws IOException {
+        count("CreateMultipartUpload");
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new Upload(bucket + "/" + key, exchange.getRequestHeaders().getFirst("Content-Type"),
+                Instant.now(), new ConcurrentSkipListMap<>()));
+        xml(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"" + XMLNS + "\">"
+                + "<Bucket>" + escape(bucket) + "</Bucket><Key>" + escape(key) + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        count("UploadPart");
+        Upload upload = uploads.get(query.get("uploadId"));
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        Blob part = store(body(exchange), null);
+        upload.parts().put(Integer.parseInt(query.get("partNumber")), part);
+        exchange.getResponseHeaders().set("ETag", part.etag());
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void listParts(HttpExchange exchange, String bucket, String uploadId) throws IOException {
+        count("ListParts");
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        StringBuilder xml = new StringBuilder("<ListPartsResult xmlns=\"" + XMLNS + "\">")
+                .append("<Bucket>").append(escape(bucket)).append("</Bucket>")
+                .append("<UploadId>").append(uploadId).append("</UploadId>")
+                .append("<IsTruncated>false</IsTruncated>");
+        upload.parts().forEach((n, part) -> xml.append("<Part><PartNumber>").append(n).append("</PartNumber>")
+                .append("<ETag>").append(escape(part.etag())).append("</ETag>")
+                .append("<Size>").append(part.data().length).append("</Size></Part>"));
+        xml(exchange, 200, xml.append("</ListPartsResult>").toString());
+    }
+
+    private void completeUpload(HttpExchange exchange, String bucket, String key, String uploadId) throws IOException {
+        count("CompleteMultipartUpload");
+        body(exchange); // part list; the stored parts are used as they are
+        Upload upload = uploads.remove(uploadId);
+        if (upload == null) {
+            error(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        var whole = new ByteArrayOutputStream();
+        upload.parts().values().forEach(part -> whole.writeBytes(part.data()));
+        Blob blob = store(whole.toByteArray(), upload.contentType());
+        objects.put(upload.key(), blob);
+        xml(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"" + XMLNS + "\">"
+                + "<Bucket>" + escape(bucket) + "</Bucket><Key>" + escape(key) + "</Key>"
+                + "<ETag>" + escape(blob.etag()) + "</ETag></CompleteMultipartUploadResult>");
+    }
+
+    private void listUploads(HttpExchange exchange, String bucket) throws IOException {
+        count("ListMultipartUploads");
+        StringBuilder xml = new StringBuilder("<ListMultipartUploadsResult xmlns=\"" + XMLNS + "\">")
+                .append("<Bucket>").append(escape(bucket)).append("</Bucket>")
+                .append("<IsTruncated>false</IsTruncated>");
+        uploads.forEach((id, upload) -> {
+            if (upload.key().startsWith(bucket + "/")) {
+                xml.append("<Upload><Key>").append(escape(upload.key().substring(bucket.length() + 1)))
+                        .append("</Key><UploadId>").append(id).append("</UploadId>")
+                        .append("<Initiated>").append(upload.initiated()).append("</Initiated></Upload>");
+            }
+        });
+        xml(exchange, 200, xml.append("</ListMultipartUploadsResult>").toString());
+    }
+
+    /** Shares the body array with every earlier object of the same content. */
+    private Blob store(byte[] data, String contentType) {
+        String etag = "\"" + md5(data) + "\"";
+        return new Blob(contents.computeIfAbsent(etag, e -> data), etag, contentType);
+    }
+
+    private void count(String operation) {
+        requests.computeIfAbsent(operation, op -> new LongAdder()).increment();
+    }
+
+    /** The request body, with {@code aws-chunked} framing (SDK uploads with trailing checksums) removed. */
+    private static byte[] body(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        String sha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        boolean chunked = (encoding != null && encoding.contains("aws-chunked"))
+                || (sha != null && sha.startsWith("STREAMING-"));
+        return chunked ? dechunk(raw) : raw;
+    }
+
+    /** {@code <hex size>[;chunk-signature=...]\r\n<bytes>\r\n ... 0\r\n[trailers]\r\n}. */
+    private static byte[] dechunk(byte[] raw) {
+        var out = new ByteArrayOutputStream(raw.length);
+        int pos = 0;
+        while (pos < raw.length) {
+            int eol = indexOfCrlf(raw, pos);
+            String header = new String(raw, pos, eol - pos, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            pos = eol + 2;
+            if (size == 0) {
+                break;
+            }
+            out.write(raw, pos, size);
+            pos += size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] data, int from) {
+        for (int i = from; i < data.length - 1; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return data.length;
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> params = new HashMap<>();
+        if (raw != null) {
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                params.put(eq < 0 ? pair : pair.substring(0, eq), eq < 0 ? "" : pair.substring(eq + 1));
+            }
+        }
+        return params;
+    }
+
+    private static void xml(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void error(HttpExchange exchange, int status, String code) throws IOException {
+        xml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>");
+    }
+
+    private static String escape(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String unescape(String s) {
+        return s.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&amp;", "&");
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
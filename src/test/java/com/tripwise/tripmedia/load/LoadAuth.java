@@ -0,0 +1,39 @@
+package com.tripwise.tripmedia.load;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.load
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:20
+ * Description : Accepts any bearer token without verification; the token itself is the user ID ({@code sub}), so each
+ * virtual user of the load test is a different owner.
+ * - Registered as an application source (not {@code @Configuration}, so component scanning in other tests never
+ * picks it up). Works for both web stacks.
+ * ================================================================
+ */
+class LoadAuth {
+
+    private static Jwt jwt(String token) {
+        return Jwt.withTokenValue(token).header("alg", "none").subject(token)
+                .issuedAt(Instant.now()).expiresAt(Instant.now().plusSeconds(3600)).build();
+    }
+
+    @Bean
+    JwtDecoder jwtDecoder() {
+        return LoadAuth::jwt;
+    }
+
+    @Bean
+    ReactiveJwtDecoder reactiveJwtDecoder() {
+        return token -> Mono.just(jwt(token));
+    }
+}
@@ -0,0 +1,331 @@
+package com.tripwise.tripmedia.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.load
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:25
+ * Description : Drives upload flows against a running media service and records latency per endpoint.
+ * - One flow: {@code POST /media/init} -> {@code PUT} of the payload to the presigned URL (each part for multipart
+ * uploads) -> {@code POST /media/confirm} -> {@code reads} x {@code GET /media/{id}} -> {@code DELETE /media/{id}}
+ * with probability {@code deleteRatio}. The first read is the flow's own media (read-after-write); the others pick a
+ * random media kept by an earlier flow.
+ * - Closed model ({@code rate = 0}): {@code users} threads run flows back to back. Open model: flows start at
+ * {@code rate} per second, at most {@code users} in flight; a flow that waits for a free user is late, and the init
+ * latency is measured from its scheduled start (no coordinated omission).
+ * - Latencies go to one HdrHistogram {@link Recorder} per endpoint (1 us - 60 s, 3 significant digits); only 2xx
+ * responses are recorded, the others are counted by status ({@code -1} = I/O error or timeout).
+ * ================================================================
+ */
+final class LoadGenerator {
+
+    /**
+     * Endpoints in report order.
+     */
+    enum Endpoint {
+        INIT("POST /media/init"),
+        UPLOAD("PUT presigned upload"),
+        CONFIRM("POST /media/confirm"),
+        GET("GET /media/{id}"),
+        DELETE("DELETE /media/{id}");
+
+        final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Load shape; see the class description.
+     */
+    record Options(int users, double rate, Duration warmup, Duration duration, int reads, double deleteRatio,
+                   int journalsPerUser, Duration requestTimeout) {
+    }
+
+    /**
+     * Measured window of one endpoint.
+     */
+    record Result(Endpoint endpoint, Histogram latencies, Map<Integer, Long> errors) {
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private static final long HIGHEST_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final int KEPT = 10_000;
+
+    private final String baseUrl;
+    private final Options options;
+    private final byte[] payload;
+    private final String checksum;
+    private final int width;
+    private final int height;
+
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Map<Integer, LongAdder>> errors = new EnumMap<>(Endpoint.class);
+    private final AtomicReferenceArray<String> kept = new AtomicReferenceArray<>(KEPT);
+    private final AtomicLong keptCount = new AtomicLong();
+    private final LongAdder flows = new LongAdder();
+
+    private volatile boolean measuring;
+    private volatile boolean running = true;
+
+    LoadGenerator(String baseUrl, Options options, byte[] payload, int width, int height) {
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.payload = payload;
+        this.checksum = sha256(payload);
+        this.width = width;
+        this.height = height;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_MICROS, 3));
+            errors.put(endpoint, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Runs the warmup, then the measured window, and returns the measured latencies per endpoint.
+     */
+    List<Result> run() throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(options.users(), r -> {
+            Thread t = new Thread(r, "load-user");
+            t.setDaemon(true);
+            return t;
+        });
+        Thread scheduler = null;
+        if (options.rate() > 0) {
+            scheduler = openModel(users, System.nanoTime());
+        } else {
+            closedModel(users);
+        }
+
+        Thread.sleep(options.warmup().toMillis());
+        recorders.values().forEach(Recorder::getIntervalHistogram); // drop the warmup
+        errors.values().forEach(Map::clear);
+        flows.reset();
+        measuring = true;
+
+        Thread.sleep(options.duration().toMillis());
+        List<Result> results = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Map<Integer, Long> byStatus = new TreeMap<>();
+            errors.get(endpoint).forEach((status, n) -> byStatus.put(status, n.sum()));
+            results.add(new Result(endpoint, recorders.get(endpoint).getIntervalHistogram(), byStatus));
+        }
+        measuring = false;
+        running = false;
+
+        if (scheduler != null) {
+            scheduler.interrupt();
+        }
+        users.shutdownNow();
+        users.awaitTermination(options.requestTimeout().toSeconds() + 5, TimeUnit.SECONDS);
+        return results;
+    }
+
+    /**
+     * Flows completed in the measured window.
+     */
+    long flows() {
+        return flows.sum();
+    }
+
+    private void closedModel(ExecutorService users) {
+        for (int u = 0; u < options.users(); u++) {
+            String user = "load-user-" + u;
+            users.execute(() -> {
+                while (running && !Thread.currentThread().isInterrupted()) {
+                    flow(user, System.nanoTime());
+                }
+            });
+        }
+    }
+
+    private Thread openModel(ExecutorService users, long start) {
+        long intervalNanos = (long) (1e9 / options.rate());
+        Thread scheduler = new Thread(() -> {
+            for (long i = 0; running; i++) {
+                long scheduled = start + i * intervalNanos;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                String user = "load-user-" + (i % options.users());
+                try {
+                    users.execute(() -> flow(user, scheduled));
+                } catch (RejectedExecutionException e) {
+                    return; // stopped
+                }
+            }
+        }, "load-scheduler");
+        scheduler.setDaemon(true);
+        scheduler.start();
+        return scheduler;
+    }
+
+    /**
+     * One upload flow; stops at the first failed step.
+     *
+     * @param scheduled when the flow should have started ({@code System.nanoTime()})
+     */
+    private void flow(String user, long scheduled) {
+        var random = ThreadLocalRandom.current();
+        String journalId = "journal-" + user + "-" + random.nextInt(options.journalsPerUser());
+        String fileName = "IMG_" + random.nextInt(1_000_000) + ".jpg";
+
+        JsonNode init = call(Endpoint.INIT, user, scheduled, post("/init", Map.of(
+                "journalId", journalId,
+                "fileName", fileName,
+                "mimeType", "image/jpeg",
+                "bytes", payload.length)));
+        if (init == null) {
+            return;
+        }
+        String id = init.path("mediaId").asText();
+        if (!upload(user, init)) {
+            return;
+        }
+
+        Map<String, Object> confirm = new LinkedHashMap<>();
+        confirm.put("mediaId", id);
+        confirm.put("checksum", checksum);
+        confirm.put("bytes", payload.length);
+        confirm.put("width", width);
+        confirm.put("height", height);
+        if (call(Endpoint.CONFIRM, user, System.nanoTime(), post("/confirm", confirm)) == null) {
+            return;
+        }
+
+        for (int r = 0; r < options.reads(); r++) {
+            String read = r == 0 ? id : keptOr(id);
+            call(Endpoint.GET, user, System.nanoTime(), HttpRequest.newBuilder(URI.create(baseUrl + "/" + read)).GET());
+        }
+
+        if (random.nextDouble() < options.deleteRatio()) {
+            call(Endpoint.DELETE, user, System.nanoTime(),
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE());
+        } else {
+            kept.set((int) (keptCount.getAndIncrement() % KEPT), id);
+        }
+        if (measuring) {
+            flows.increment();
+        }
+    }
+
+    /** PUTs the payload to the presigned URL, or each slice of it to its part URL. */
+    private boolean upload(String user, JsonNode init) {
+        JsonNode parts = init.path("parts");
+        if (!parts.isArray() || parts.isEmpty()) {
+            var put = HttpRequest.newBuilder(URI.create(init.path("uploadUrl").asText()))
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(payload));
+            init.path("headers").fields().forEachRemaining(h -> put.header(h.getKey(), h.getValue().asText()));
+            return send(Endpoint.UPLOAD, System.nanoTime(), put) != null;
+        }
+        long partSize = init.path("partSize").asLong();
+        for (JsonNode part : parts) {
+            int from = (int) ((part.path("partNumber").asInt() - 1) * partSize);
+            int length = (int) Math.min(partSize, payload.length - from);
+            var put = HttpRequest.newBuilder(URI.create(part.path("uploadUrl").asText()))
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(payload, from, length));
+            if (send(Endpoint.UPLOAD, System.nanoTime(), put) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** An authenticated API call; the parsed JSON body (or an empty node), {@code null} on failure. */
+    private JsonNode call(Endpoint endpoint, String user, long startNanos, HttpRequest.Builder request) {
+        byte[] body = send(endpoint, startNanos, request.header("Authorization", "Bearer " + user));
+        if (body == null) {
+            return null;
+        }
+        try {
+            return body.length == 0 ? json.createObjectNode() : json.readTree(body);
+        } catch (IOException e) {
+            return json.createObjectNode();
+        }
+    }
+
+    private byte[] send(Endpoint endpoint, long startNanos, HttpRequest.Builder request) {
+        int status;
+        byte[] body = null;
+        try {
+            var response = http.send(request.timeout(options.requestTimeout()).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            body = response.body();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        if (status >= 200 && status < 300) {
+            long micros = (System.nanoTime() - startNanos) / 1_000;
+            recorders.get(endpoint).recordValue(Math.min(Math.max(1, micros), HIGHEST_MICROS));
+            return body;
+        }
+        if (measuring) {
+            errors.get(endpoint).computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+        return null;
+    }
+
+    private String keptOr(String fallback) {
+        long count = keptCount.get();
+        if (count == 0) {
+            return fallback;
+        }
+        String id = kept.get(ThreadLocalRandom.current().nextInt((int) Math.min(count, KEPT)));
+        return id == null ? fallback : id;
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.tripwise.tripmedia.load;
+
+import com.tripwise.tripmedia.TripmediaApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.List;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.load
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 05:30
+ * Description : End-to-end load test of the media service without Docker, MinIO or the journals service.
+ * - Boots the application in-process against three in-process stand-ins: an in-memory MongoDB wire server
+ * ({@code mongo-java-server}), {@link FakeS3} and {@link FakeJournals}. JWTs are accepted as user IDs
+ * ({@link LoadAuth}).
+ * - {@link LoadGenerator} then drives init -> PUT -> confirm -> get -> delete flows and this class prints throughput
+ * and latency percentiles per endpoint.
+ * - The stand-ins answer in microseconds (plus the configured latency), so the numbers are the service's own cost
+ * and an upper bound for a deployment against real backends. The in-memory MongoDB has no query planner; use
+ * the Testcontainers benchmarks for query costs.
+ * - Arguments are {@code key=value}; unknown keys are passed to the application as properties
+ * (e.g. {@code media.variants.enabled=false}).
+ * <pre>
+ *   users=32                  concurrent virtual users (each its own user ID)
+ *   rate=0                    flows started per second; 0 = closed model (users loop back to back)
+ *   warmup=10s duration=60s
+ *   reads=3                   GET /media/{id} per flow
+ *   delete-ratio=0.5          share of flows that delete their media
+ *   journals-per-user=20      distinct journals per user (ownership cache keys)
+ *   image=1600x1200           JPEG payload (noise, so it compresses like a photo)
+ *   journal-latency=20ms journal-jitter=10ms journal-failure-rate=0 journal-deny-rate=0
+ *   s3-latency=0ms
+ *   request-timeout=30s
+ *   profiles=                 e.g. reactive, virtual
+ * </pre>
+ * Run: mvn -Pload test-compile exec:exec -Dload.args="users=64 duration=2m journal-latency=50ms"
+ * Local storage (uploads and reads go to this service's /media-files, so fix the port):
+ * -Dload.args="server.port=18080 media.storage=local media.local.root=/tmp/media
+ * media.local.base-url=http://localhost:18080/media-files media.public-base-url=http://localhost:18080/media-files"
+ * ================================================================
+ */
+public final class LoadHarness {
+
+    private static final Set<String> OPTIONS = Set.of(
+            "users", "rate", "warmup", "duration", "reads", "delete-ratio", "journals-per-user", "image",
+            "journal-latency", "journal-jitter", "journal-failure-rate", "journal-deny-rate", "s3-latency",
+            "request-timeout", "profiles");
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> appProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            (OPTIONS.contains(arg.substring(0, eq)) ? options : appProperties)
+                    .put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        var load = new LoadGenerator.Options(
+                Integer.parseInt(options.getOrDefault("users", "32")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                duration(options, "warmup", "10s"),
+                duration(options, "duration", "60s"),
+                Integer.parseInt(options.getOrDefault("reads", "3")),
+                Double.parseDouble(options.getOrDefault("delete-ratio", "0.5")),
+                Integer.parseInt(options.getOrDefault("journals-per-user", "20")),
+                duration(options, "request-timeout", "30s"));
+        String[] image = options.getOrDefault("image", "1600x1200").split("x");
+        int width = Integer.parseInt(image[0]);
+        int height = Integer.parseInt(image[1]);
+        byte[] payload = jpeg(width, height);
+
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        String mongoUri = mongo.bindAndGetConnectionString() + "/mediadb";
+
+        try (var journals = new FakeJournals(
+                duration(options, "journal-latency", "20ms"),
+                duration(options, "journal-jitter", "10ms"),
+                Double.parseDouble(options.getOrDefault("journal-failure-rate", "0")),
+                Double.parseDouble(options.getOrDefault("journal-deny-rate", "0")));
+             var s3 = new FakeS3(duration(options, "s3-latency", "0ms"))) {
+
+            // Command-line arguments, so they override the ${ENV:default} placeholders of application.yml.
+            // One entry per key: Spring joins repeated command-line properties with commas.
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("server.port", "0");
+            properties.put("spring.data.mongodb.uri", mongoUri);
+            properties.put("journals.base-url", journals.baseUrl());
+            properties.put("media.s3.endpoint", s3.endpoint());
+            properties.put("media.s3.path-style-access", "true");
+            properties.put("media.s3.access-key", "load");
+            properties.put("media.s3.secret-key", "load");
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.com.tripwise.tripmedia", "WARN");
+            properties.putAll(appProperties);
+
+            var builder = new SpringApplicationBuilder(TripmediaApplication.class, LoadAuth.class);
+            String profiles = options.getOrDefault("profiles", "");
+            if (!profiles.isBlank()) {
+                builder.profiles(profiles.split(","));
+            }
+
+            try (ConfigurableApplicationContext app = builder.run(
+                    properties.entrySet().stream().map(p -> "--" + p.getKey() + "=" + p.getValue())
+                            .toArray(String[]::new))) {
+                String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/media";
+                System.out.printf("%nLoad: %s, payload %d KiB (%dx%d JPEG), warmup %s, measuring %s%n",
+                        load.rate() > 0
+                                ? String.format("%.0f flows/s open model, max %d in flight", load.rate(), load.users())
+                                : load.users() + " users, closed model",
+                        payload.length / 1024, width, height, load.warmup(), load.duration());
+
+                var generator = new LoadGenerator(baseUrl, load, payload, width, height);
+                List<LoadGenerator.Result> results = generator.run();
+                report(results, generator.flows(), load.duration());
+                System.out.println(journals.summary());
+                System.out.println(s3.summary());
+            }
+        } finally {
+            mongo.shutdownNow();
+        }
+        System.exit(0);
+    }
+
+    private static void report(List<LoadGenerator.Result> results, long flows, Duration window) {
+        double seconds = window.toMillis() / 1000.0;
+        System.out.printf("%n%-22s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "ok", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LoadGenerator.Result result : results) {
+            Histogram h = result.latencies();
+            System.out.printf("%-22s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.endpoint().label,
+                    h.getTotalCount(),
+                    result.errorCount(),
+                    h.getTotalCount() / seconds,
+                    millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9),
+                    h.getTotalCount() == 0 ? 0 : h.getMaxValue() / 1000.0);
+        }
+        System.out.printf("%ncompleted flows: %d (%.1f/s)%n", flows, flows / seconds);
+        results.stream()
+                .filter(r -> r.errorCount() > 0)
+                .forEach(r -> System.out.printf("errors %s by status: %s%n", r.endpoint().label, r.errors()));
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getTotalCount() == 0 ? 0 : h.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Duration duration(Map<String, String> options, String key, String fallback) {
+        return DurationStyle.detectAndParse(options.getOrDefault(key, fallback));
+    }
+
+    /** A gradient with per-pixel noise, so the JPEG is about as large as a photo of the same size. */
+    private static byte[] jpeg(int width, int height) throws IOException {
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        var random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(32) - 16;
+                int rgb = image.getRGB(x, y);
+                int r = clamp(((rgb >> 16) & 0xff) + noise);
+                int gr = clamp(((rgb >> 8) & 0xff) + noise);
+                int b = clamp((rgb & 0xff) + noise);
+                image.setRGB(x, y, (r << 16) | (gr << 8) | b);
+            }
+        }
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private static int clamp(int channel) {
+        return Math.max(0, Math.min(255, channel));
+    }
+}
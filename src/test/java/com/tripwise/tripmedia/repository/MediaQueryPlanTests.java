@@ -0,0 +1,274 @@
+package com.tripwise.tripmedia.repository;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.tripwise.tripmedia.config.MediaIndexManager;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.service.LeaderLock;
+import com.tripwise.tripmedia.service.TombstoneCompactor;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.repository
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 17:50
+ * Description : Query-plan regression suite for the {@link Media} access patterns.
+ * - Seeds a dataset, creates the declared indexes and calls each repository query (and the lifecycle jobs' scans)
+ * as the application does. The {@code find}/{@code update} it sends is recorded by a command listener and explained,
+ * so a changed query method is checked as it now is.
+ * - Each plan must use the index meant for it: {@code status_created} (stale-upload reaper), {@code checksum}
+ * (dedupe), {@code status_updated} (tombstone compactor), {@code purge_backlog}, {@code journal_created_id}.
+ * - Fails if a plan falls back to {@code COLLSCAN} or examines more than {@link #MAX_DOCS_EXAMINED_RATIO}
+ * documents per returned document.
+ * - Needs a real MongoDB (Testcontainers): mongo-java-server has no query planner, so {@code explain()} cannot be
+ * checked without Docker. Locally the suite is skipped when Docker is missing; when {@code CI} is set it always runs,
+ * so a CI runner without Docker fails here instead of silently skipping the guard.
+ * ================================================================
+ */
+@DataMongoTest
+@Import(MediaIndexManager.class)
+@Testcontainers
+@EnabledIf("dockerAvailableOrCi")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MediaQueryPlanTests {
+
+    private static final double MAX_DOCS_EXAMINED_RATIO = 1.5;
+
+    private static final int USERS = 20;
+    private static final int JOURNALS_PER_USER = 5;
+    private static final int MEDIA_PER_JOURNAL = 50;
+
+    /** Commands sent to MongoDB, in order ({@link RecordCommands}). */
+    private static final List<BsonDocument> COMMANDS = new CopyOnWriteArrayList<>();
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoDb = new MongoDBContainer("mongo:6");
+
+    @Autowired
+    MongoTemplate mongo;
+
+    @Autowired
+    MediaIndexManager indexes;
+
+    @Autowired
+    MediaRepository repository;
+
+    private final Instant base = Instant.parse("2026-01-01T00:00:00Z");
+
+    @BeforeAll
+    void seed() {
+        mongo.dropCollection(Media.class);
+        mongo.dropCollection("media_archive");
+        indexes.ensureIndexes();
+
+        List<Media> docs = new ArrayList<>();
+        int n = 0;
+        for (int u = 0; u < USERS; u++) {
+            for (int j = 0; j < JOURNALS_PER_USER; j++) {
+                for (int m = 0; m < MEDIA_PER_JOURNAL; m++, n++) {
+                    MediaStatus status = n % 10 == 0 ? MediaStatus.DELETED
+                            : n % 10 == 1 ? MediaStatus.UPLOADING
+                            : MediaStatus.READY;
+                    Instant created = base.plus(n, ChronoUnit.MINUTES);
+                    docs.add(Media.builder()
+                            .id(String.format("m%05d", n))
+                            .userId("u" + u)
+                            .journalId("j" + u + "-" + j)
+                            .fileName("f" + n + ".jpg")
+                            .mimeType("image/jpeg")
+                            .bytes(1024L)
+                            .checksum(status == MediaStatus.UPLOADING ? null : "c" + n)
+                            .storageKey("u" + u + "/m" + n + "/f" + n + ".jpg")
+                            .status(status)
+                            .purgePending(status == MediaStatus.DELETED && n % 100 == 0 ? Boolean.TRUE : null)
+                            .createdAt(created)
+                            .updatedAt(created)
+                            .build());
+                }
+            }
+        }
+        mongo.insert(docs, Media.class);
+    }
+
+    @Test
+    void findByIdIn() {
+        var find = captured("find", () -> repository.findByIdIn(List.of("m00011", "m00021", "m00031", "m04001")));
+        assertIndexed(find, "_id_");
+    }
+
+    @Test
+    void journalFirstPage() {
+        assertIndexed(captured("find", () -> repository.findJournalPage("j3-2", null, null, 21)),
+                "journal_created_id");
+    }
+
+    @Test
+    void journalPageAfterCursor() {
+        var after = base.plus(3 * 250 + 2 * 50 + 25, ChronoUnit.MINUTES);
+        assertIndexed(captured("find", () -> repository.findJournalPage("j3-2", after, "m00875", 21)),
+                "journal_created_id");
+    }
+
+    @Test
+    void markDeleted() {
+        var update = captured("update",
+                () -> repository.markDeleted(List.of("m00101", "m00102", "m00103"), "u0", Instant.now()));
+        seed(); // explained against the data the update saw
+        assertIndexed(update, "_id_");
+    }
+
+    @Test
+    void markDeletedByJournal() {
+        var update = captured("update", () -> repository.markDeletedByJournal("j7-1", "u7", Instant.now()));
+        seed();
+        assertIndexed(update, "journal_created_id");
+    }
+
+    @Test
+    void purgeBacklog() {
+        // As read by MediaPurger
+        var find = captured("find", () -> repository.findByPurgePendingTrue(
+                PageRequest.of(0, 100, Sort.by("purgeAttempts", "updatedAt"))));
+        assertIndexed(find, "purge_backlog");
+    }
+
+    @Test
+    void staleUploads() {
+        // As read by UploadReaper
+        var find = captured("find", () -> repository.findByStatusAndCreatedAtBetween(MediaStatus.UPLOADING,
+                Instant.EPOCH, Instant.now(), PageRequest.of(0, 200, Sort.by("createdAt"))));
+        assertIndexed(find, "status_created");
+    }
+
+    @Test
+    void dedupeSource() {
+        // As read by MediaDeduplicator
+        var find = captured("find",
+                () -> repository.findFirstByUserIdAndChecksumAndStatus("u16", "c4242", MediaStatus.READY));
+        assertIndexed(find, "checksum");
+    }
+
+    @Test
+    void tombstoneScan() {
+        var compactor = new TombstoneCompactor(mongo, new LeaderLock(mongo), Duration.ofDays(30), 1000, 1,
+                Duration.ofMinutes(30), false);
+        var find = captured("find", compactor::compact);
+        seed();
+        assertIndexed(find, "status_updated");
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Records every command the driver sends, so tests explain the repository's real queries.
+     */
+    @TestConfiguration
+    static class RecordCommands {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer recordCommands() {
+            return settings -> settings.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    COMMANDS.add(event.getCommand().clone()); // only valid during the callback
+                }
+            });
+        }
+    }
+
+    static boolean dockerAvailableOrCi() {
+        return System.getenv("CI") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    /**
+     * The last command {@code name} sent to the media collection while {@code call} ran: the query exactly as the
+     * repository or job built it.
+     */
+    private Sent captured(String name, Runnable call) {
+        COMMANDS.clear();
+        call.run();
+        BsonDocument command = COMMANDS.stream()
+                .filter(c -> c.containsKey(name) && c.get(name).isString()
+                        && c.getString(name).getValue().equals(mongo.getCollectionName(Media.class)))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No " + name + " command on the media collection"));
+        if (name.equals("update")) {
+            return new Sent(command.getArray("updates").get(0).asDocument().getDocument("q"), null, 0);
+        }
+        return new Sent(command.getDocument("filter", new BsonDocument()), command.getDocument("sort", null),
+                command.containsKey("limit") ? command.getNumber("limit").intValue() : 0);
+    }
+
+    private void assertIndexed(Sent sent, String index) {
+        var find = mongo.getCollection(mongo.getCollectionName(Media.class)).find(sent.filter());
+        if (sent.sort() != null && !sent.sort().isEmpty()) find = find.sort(sent.sort());
+        if (sent.limit() > 0) find = find.limit(sent.limit());
+
+        Document explain = find.explain(ExplainVerbosity.EXECUTION_STATS);
+        Document plan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        Document stats = explain.get("executionStats", Document.class);
+
+        assertThat(stages(plan, "stage")).as("plan for %s", sent.filter()).doesNotContain("COLLSCAN");
+        assertThat(stages(plan, "indexName")).as("indexes for %s", sent.filter()).contains(index);
+
+        long returned = ((Number) stats.get("nReturned")).longValue();
+        long examined = ((Number) stats.get("totalDocsExamined")).longValue();
+        assertThat((double) examined / Math.max(1, returned))
+                .as("docs examined per returned for %s (examined %d, returned %d)", sent.filter(), examined, returned)
+                .isLessThanOrEqualTo(MAX_DOCS_EXAMINED_RATIO);
+    }
+
+    /** Filter, sort and limit of a sent {@code find}, or the filter of an {@code update}. */
+    private record Sent(BsonDocument filter, BsonDocument sort, int limit) {
+    }
+
+    /**
+     * Values of {@code field} ({@code stage}, {@code indexName}) over a (possibly nested) plan tree.
+     */
+    private static List<String> stages(Document plan, String field) {
+        List<String> out = new ArrayList<>();
+        if (plan == null) return out;
+        if (plan.containsKey(field)) out.add(plan.getString(field));
+        if (plan.containsKey("queryPlan")) out.addAll(stages(plan.get("queryPlan", Document.class), field));
+        if (plan.containsKey("inputStage")) out.addAll(stages(plan.get("inputStage", Document.class), field));
+        if (plan.containsKey("inputStages")) {
+            for (Object child : plan.getList("inputStages", Object.class)) {
+                out.addAll(stages((Document) child, field));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,116 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.dto.MediaGridItem;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.repository.MediaRepositoryImpl;
+import com.tripwise.tripmedia.support.InMemoryMongo;
+import com.tripwise.tripmedia.support.TestMedia;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 17:55
+ * Description : Round trip of the journal page cursor, and a full walk of a journal page by page.
+ * - Runs against an in-memory MongoDB (mongo-java-server); no Docker needed.
+ * ================================================================
+ */
+class JournalCursorTests {
+
+    @RegisterExtension
+    final InMemoryMongo db = new InMemoryMongo();
+
+    @Test
+    void cursorRoundTripsCreatedAtAndId() {
+        Instant createdAt = Instant.parse("2026-10-17T10:15:30.123Z");
+
+        var cursor = MediaService.JournalCursor.parse(MediaService.encodeCursor(createdAt, "m-42"));
+
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.id()).isEqualTo("m-42");
+    }
+
+    @Test
+    void cursorWithoutCreatedAtKeepsItNull() {
+        var cursor = MediaService.JournalCursor.parse(MediaService.encodeCursor(null, "m-7"));
+
+        assertThat(cursor.createdAt()).isNull();
+        assertThat(cursor.id()).isEqualTo("m-7");
+    }
+
+    @Test
+    void blankCursorIsTheFirstPage() {
+        assertThat(MediaService.JournalCursor.parse(null)).isNull();
+        assertThat(MediaService.JournalCursor.parse(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String noId = Base64.getUrlEncoder().encodeToString("123|".getBytes());
+        String badMillis = Base64.getUrlEncoder().encodeToString("abc|m-1".getBytes());
+
+        assertThatThrownBy(() -> MediaService.JournalCursor.parse("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MediaService.JournalCursor.parse(noId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MediaService.JournalCursor.parse(badMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pagingVisitsEveryMediaOnceIncludingThoseWithoutCreatedAt() {
+        MongoTemplate mongo = db.template();
+        Instant base = Instant.parse("2026-10-01T00:00:00Z");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Two media share each timestamp, so the _id tie-breaker is exercised
+            Instant createdAt = base.plusSeconds(i / 2);
+            mongo.insert(media("dated-" + i, createdAt));
+            expected.add("dated-" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            mongo.insert(media("undated-" + i, null));
+            expected.add("undated-" + i);
+        }
+        mongo.insert(Media.builder().id("deleted").journalId("j1").status(MediaStatus.DELETED).createdAt(base).build());
+        Media otherJournal = media("other-journal", base);
+        otherJournal.setJournalId("j2");
+        mongo.insert(otherJournal);
+
+        var repository = new MediaRepositoryImpl(mongo);
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            var cursor = MediaService.JournalCursor.parse(after);
+            var found = cursor == null
+                    ? repository.findJournalPage("j1", null, null, 4)
+                    : repository.findJournalPage("j1", cursor.createdAt(), cursor.id(), 4);
+            var page = MediaService.page(found, 3);
+            page.getItems().stream().map(MediaGridItem::getId).forEach(seen::add);
+            after = page.getNextCursor();
+            pages++;
+        } while (after != null && pages < 10);
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(expected).doesNotHaveDuplicates();
+        assertThat(seen.subList(0, 7)).allMatch(id -> id.startsWith("dated-"));
+        assertThat(pages).isEqualTo(4);
+    }
+
+    private static Media media(String id, Instant createdAt) {
+        return TestMedia.media(id).status(MediaStatus.READY).createdAt(createdAt).build();
+    }
+}
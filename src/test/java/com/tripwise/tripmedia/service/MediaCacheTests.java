@@ -0,0 +1,72 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 18:40
+ * Description : Guards of {@link MediaCache#put(Media, long)} against reads that raced with a write.
+ * ================================================================
+ */
+class MediaCacheTests {
+
+    private final MediaCache cache = new MediaCache(1 << 20, Duration.ofSeconds(5), Duration.ofMinutes(10));
+
+    @Test
+    void readThatStartedBeforeAnInvalidationIsNotCached() {
+        long stamp = cache.stamp();
+        cache.invalidate("m1");
+
+        cache.put(media("m1", 1, MediaStatus.UPLOADING), stamp);
+
+        assertThat(cache.get("m1")).isNull();
+    }
+
+    @Test
+    void readThatStartedAfterAnInvalidationIsCached() {
+        cache.invalidateAll(List.of("m1"));
+        long stamp = cache.stamp();
+
+        cache.put(media("m1", 2, MediaStatus.READY), stamp);
+
+        assertThat(cache.get("m1").getStatus()).isEqualTo(MediaStatus.READY);
+    }
+
+    @Test
+    void olderVersionDoesNotReplaceANewerOne() {
+        long stamp = cache.stamp();
+        cache.put(media("m1", 3, MediaStatus.READY), stamp);
+
+        cache.put(media("m1", 2, MediaStatus.UPLOADING), stamp);
+
+        assertThat(cache.get("m1").getStatus()).isEqualTo(MediaStatus.READY);
+    }
+
+    @Test
+    void flushAndJournalInvalidationRejectEarlierReads() {
+        long beforeFlush = cache.stamp();
+        cache.flush();
+        cache.put(media("m1", 1, MediaStatus.READY), beforeFlush);
+
+        long beforeJournal = cache.stamp();
+        cache.invalidateJournal("j1");
+        cache.put(media("m2", 1, MediaStatus.READY), beforeJournal);
+
+        assertThat(cache.get("m1")).isNull();
+        assertThat(cache.get("m2")).isNull();
+    }
+
+    private static Media media(String id, long version, MediaStatus status) {
+        return Media.builder().id(id).journalId("j1").status(status).version(version).build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.dto.InitUploadRequest;
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaObject;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.support.InMemoryMongo;
+import com.tripwise.tripmedia.support.TestMedia;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 06:45
+ * Description : Reference counting of {@link MediaDeduplicator} against an in-memory MongoDB (mongo-java-server).
+ * - A reference to an object that is already released is rolled back.
+ * - Releases racing with a new reference never free an object that a live media still points at.
+ * ================================================================
+ */
+class MediaDeduplicatorTests {
+
+    private static final String USER = TestMedia.USER;
+
+    @RegisterExtension
+    final InMemoryMongo db = new InMemoryMongo();
+
+    private MongoTemplate mongo;
+    private MediaDeduplicator deduplicator;
+    private final ExecutorService threads = Executors.newFixedThreadPool(3);
+
+    @BeforeEach
+    void start() {
+        mongo = db.template();
+        deduplicator = new MediaDeduplicator(db.repository(), mongo, true, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void stop() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void objectIsReleasedWithItsLastLiveHolder() {
+        Media source = source("s1", "key-1", "sum-1");
+
+        Media reference = deduplicator.reference(USER, "r1", request("sum-1"));
+
+        assertThat(reference).isNotNull();
+        assertThat(reference.getStorageKey()).isEqualTo("key-1");
+        assertThat(reference.getSourceId()).isEqualTo("s1");
+        assertThat(mongo.findById("s1", Media.class).getShared()).isTrue();
+        assertThat(mongo.findById("key-1", MediaObject.class).getHolders()).containsExactlyInAnyOrder("s1", "r1");
+
+        delete("r1");
+        assertThat(deduplicator.release(mongo.findById("r1", Media.class))).isFalse(); // the source still uses it
+
+        delete(source.getId());
+        assertThat(deduplicator.release(mongo.findById("s1", Media.class))).isTrue();
+        assertThat(mongo.findById("key-1", MediaObject.class).getReleased()).isTrue();
+    }
+
+    @Test
+    void referenceToAReleasedObjectIsRolledBack() {
+        source("s1", "key-1", "sum-1");
+        // The object is being deleted: its tombstone is already there
+        mongo.insert(MediaObject.builder()
+                .storageKey("key-1")
+                .released(true)
+                .expireAt(Instant.now().plusSeconds(3600))
+                .build());
+
+        Media reference = deduplicator.reference(USER, "r1", request("sum-1"));
+
+        assertThat(reference).isNull();
+        assertThat(mongo.findById("r1", Media.class)).isNull();
+        assertThat(mongo.findById("key-1", MediaObject.class).getHolders()).isEmpty();
+    }
+
+    @Test
+    void referenceIsSkippedWhenTheSourceIsNoLongerReady() {
+        source("s1", "key-1", "sum-1");
+        delete("s1");
+
+        assertThat(deduplicator.reference(USER, "r1", request("sum-1"))).isNull();
+        assertThat(mongo.findById("r1", Media.class)).isNull();
+    }
+
+    @Test
+    void releasesRacingWithANewReferenceNeverFreeALiveObject() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            String key = "key-" + i;
+            String checksum = "sum-" + i;
+            source("s" + i, key, checksum);
+            assertThat(deduplicator.reference(USER, "r" + i, request(checksum))).isNotNull();
+            delete("r" + i);
+
+            // Purge of the first reference, delete + purge of the source, and a new upload of the same file
+            CyclicBarrier go = new CyclicBarrier(3);
+            String first = "r" + i;
+            String src = "s" + i;
+            String fresh = "n" + i;
+            Future<Boolean> releaseFirst = threads.submit(() -> {
+                go.await();
+                return deduplicator.release(mongo.findById(first, Media.class));
+            });
+            Future<Boolean> releaseSource = threads.submit(() -> {
+                go.await();
+                delete(src);
+                return deduplicator.release(mongo.findById(src, Media.class));
+            });
+            Future<Media> referenced = threads.submit(() -> {
+                go.await();
+                return deduplicator.reference(USER, fresh, request(checksum));
+            });
+
+            boolean released = releaseFirst.get(10, TimeUnit.SECONDS) | releaseSource.get(10, TimeUnit.SECONDS);
+            Media reference = referenced.get(10, TimeUnit.SECONDS);
+            boolean live = mongo.exists(
+                    query(where("storageKey").is(key).and("status").ne(MediaStatus.DELETED)), Media.class);
+
+            assertThat(released && live).as("iteration %d released an object that is still in use", i).isFalse();
+            if (reference != null) {
+                assertThat(released).as("iteration %d", i).isFalse();
+                assertThat(mongo.findById(key, MediaObject.class).getHolders()).contains(fresh);
+            } else {
+                assertThat(mongo.findById(fresh, Media.class)).as("iteration %d left a reference", i).isNull();
+            }
+        }
+    }
+
+    private Media source(String id, String key, String checksum) {
+        Instant now = Instant.now();
+        return mongo.insert(TestMedia.media(id)
+                .bytes(1000L)
+                .checksum(checksum)
+                .storageKey(key)
+                .cdnUrl("https://cdn.example/" + key)
+                .status(MediaStatus.READY)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    private void delete(String id) {
+        mongo.updateFirst(query(where("_id").is(id)),
+                new Update().set("status", MediaStatus.DELETED).set("purgePending", true).inc("version", 1),
+                Media.class);
+    }
+
+    private static InitUploadRequest request(String checksum) {
+        InitUploadRequest request = new InitUploadRequest();
+        request.setJournalId("j1");
+        request.setFileName("copy.jpg");
+        request.setMimeType("image/jpeg");
+        request.setBytes(1000L);
+        request.setChecksum(checksum);
+        return request;
+    }
+}
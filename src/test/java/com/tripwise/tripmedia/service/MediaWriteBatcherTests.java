@@ -0,0 +1,115 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.support.InMemoryMongo;
+import com.tripwise.tripmedia.support.TestMedia;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 20:40
+ * Description : Behaviour of {@link MediaWriteBatcher} against an in-memory MongoDB (mongo-java-server).
+ * - A document that fails inside a batch fails only its own caller.
+ * - A full queue falls back to a direct insert instead of blocking.
+ * ================================================================
+ */
+class MediaWriteBatcherTests {
+
+    @RegisterExtension
+    final InMemoryMongo db = new InMemoryMongo();
+
+    private MongoTemplate mongo;
+    private MediaWriteBatcher batcher;
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    @BeforeEach
+    void start() {
+        mongo = db.template();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        callers.shutdownNow();
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void duplicateKeyFailsOnlyItsCaller() throws Exception {
+        mongo.insert(media("taken"));
+        // A wide window so all callers land in the same batch
+        batcher = new MediaWriteBatcher(mongo, true, 100, Duration.ofMillis(300), 100);
+
+        List<String> ids = List.of("a", "b", "taken", "c", "d");
+        List<Future<?>> results = new ArrayList<>();
+        for (String id : ids) {
+            results.add(callers.submit(() -> {
+                batcher.insert(media(id));
+                return null;
+            }));
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i).equals("taken")) {
+                assertThatThrownBy(results.get(i)::get)
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(DuplicateKeyException.class);
+            } else {
+                results.get(i).get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(mongo.findAll(Media.class)).extracting(Media::getId)
+                .containsExactlyInAnyOrder("taken", "a", "b", "c", "d");
+        // Counters are updated after the callers are released
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batcher.stats().documents() < ids.size() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        var stats = batcher.stats();
+        assertThat(stats.failed()).isEqualTo(1);
+        assertThat(stats.documents()).isEqualTo(ids.size());
+        assertThat(stats.maxBatchSize()).isGreaterThan(1);
+    }
+
+    @Test
+    void fullQueueFallsBackToADirectInsert() throws Exception {
+        // Not enabled: no flusher drains the queue, so its single slot stays taken
+        batcher = new MediaWriteBatcher(mongo, false, 100, Duration.ofMillis(5), 1);
+        Future<?> queued = callers.submit(() -> batcher.insert(media("queued")));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batcher.stats().queueDepth() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(batcher.stats().queueDepth()).isEqualTo(1);
+
+        batcher.insert(media("direct"));
+
+        assertThat(mongo.findById("direct", Media.class)).isNotNull();
+        assertThat(mongo.findById("queued", Media.class)).isNull();
+        assertThat(batcher.stats().documents()).isZero();
+        queued.cancel(true);
+    }
+
+    private static Media media(String id) {
+        return TestMedia.media(id).status(MediaStatus.UPLOADING).build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import com.tripwise.tripmedia.support.InMemoryMongo;
+import com.tripwise.tripmedia.support.TestMedia;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 09:25
+ * Description : Uploads aborted by {@link MultipartUploadSweeper} against an in-memory MongoDB and mocked storage.
+ * - Only the uploads recorded on stale {@code UPLOADING} media are aborted, across batches; storage is never listed.
+ * - An upload whose abort fails keeps its media {@code UPLOADING} for the next run.
+ * ================================================================
+ */
+class MultipartUploadSweeperTests {
+
+    private static final Instant STALE = Instant.now().minus(Duration.ofDays(2));
+
+    @RegisterExtension
+    final InMemoryMongo db = new InMemoryMongo();
+
+    private MongoTemplate mongo;
+    private final StorageClient storage = mock(StorageClient.class);
+
+    @BeforeEach
+    void start() {
+        mongo = db.template();
+    }
+
+    @Test
+    void onlyUploadsRecordedOnStaleUploadingMediaAreAborted() {
+        // Three stale uploads with a batch size of two: the second batch starts after the first one's last createdAt
+        mongo.insert(upload("a", STALE, "up-a"));
+        mongo.insert(upload("b", STALE.plusSeconds(1), "up-b"));
+        mongo.insert(upload("c", STALE.plusSeconds(2), "up-c"));
+        mongo.insert(upload("single", STALE, null));
+        mongo.insert(upload("fresh", Instant.now(), "up-fresh"));
+        Media ready = upload("ready", STALE, "up-ready");
+        ready.setStatus(MediaStatus.READY);
+        mongo.insert(ready);
+
+        sweeper().sweep();
+
+        for (String id : new String[]{"a", "b", "c"}) {
+            verify(storage).abortMultipart("key/" + id, "up-" + id);
+            Media aborted = mongo.findById(id, Media.class);
+            assertThat(aborted.getStatus()).as(id).isEqualTo(MediaStatus.FAILED);
+            assertThat(aborted.getUploadId()).as(id).isNull();
+            assertThat(aborted.getVersion()).as(id).isEqualTo(1L);
+        }
+        verifyNoMoreInteractions(storage);
+        assertThat(mongo.findById("fresh", Media.class).getUploadId()).isEqualTo("up-fresh");
+        assertThat(mongo.findById("ready", Media.class).getUploadId()).isEqualTo("up-ready");
+        assertThat(mongo.findById("single", Media.class).getStatus()).isEqualTo(MediaStatus.UPLOADING);
+    }
+
+    @Test
+    void uploadWhoseAbortFailsStaysUploading() {
+        mongo.insert(upload("denied", STALE, "up-denied"));
+        mongo.insert(upload("aborted", STALE.plusSeconds(1), "up-aborted"));
+        doThrow(new IllegalStateException("403 Access Denied")).when(storage).abortMultipart("key/denied", "up-denied");
+
+        sweeper().sweep();
+
+        Media denied = mongo.findById("denied", Media.class);
+        assertThat(denied.getStatus()).isEqualTo(MediaStatus.UPLOADING);
+        assertThat(denied.getUploadId()).isEqualTo("up-denied");
+        assertThat(mongo.findById("aborted", Media.class).getStatus()).isEqualTo(MediaStatus.FAILED);
+    }
+
+    private MultipartUploadSweeper sweeper() {
+        return new MultipartUploadSweeper(storage, mongo,
+                new MediaCache(1 << 20, Duration.ofSeconds(5), Duration.ofMinutes(10)), new LeaderLock(mongo),
+                Duration.ofHours(24), 2, Duration.ofMinutes(30));
+    }
+
+    private static Media upload(String id, Instant createdAt, String uploadId) {
+        return TestMedia.media(id)
+                .bytes(100L)
+                .storageKey("key/" + id)
+                .uploadId(uploadId)
+                .status(MediaStatus.UPLOADING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.support.InMemoryMongo;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.tripwise.tripmedia.support.TestMedia.media;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 07:30
+ * Description : Batches of {@link TombstoneCompactor} against an in-memory MongoDB (mongo-java-server).
+ * - A batch replayed after an interrupted run skips the documents already archived and still removes them.
+ * - Recent tombstones, tombstones still to be purged and live media stay in {@code media}.
+ * ================================================================
+ */
+class TombstoneCompactorTests {
+
+    private static final Instant OLD = Instant.parse("2026-08-01T00:00:00Z");
+
+    @RegisterExtension
+    final InMemoryMongo db = new InMemoryMongo();
+
+    private MongoTemplate mongo;
+    private TombstoneCompactor compactor;
+
+    @BeforeEach
+    void start() {
+        mongo = db.template();
+        compactor = new TombstoneCompactor(mongo, new LeaderLock(mongo), Duration.ofDays(30), 100, 5,
+                Duration.ofMinutes(30), false);
+    }
+
+    @Test
+    void replayedBatchSkipsArchivedDocumentsAndRemovesThemAll() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            mongo.insert(media("t" + i, MediaStatus.DELETED, OLD.plusSeconds(i)));
+            ids.add("t" + i);
+        }
+        // An earlier run copied the first two and stopped before removing them
+        for (String id : List.of("t0", "t1")) {
+            Document copy = mongo.findById(id, Document.class, mongo.getCollectionName(Media.class));
+            copy.put("archivedAt", new Date());
+            mongo.getCollection(TombstoneCompactor.ARCHIVE).insertOne(copy);
+        }
+
+        int removed = compactor.archiveBatch(Instant.now().minus(Duration.ofDays(30)));
+
+        assertThat(removed).isEqualTo(5);
+        assertThat(mongo.findAll(Media.class)).isEmpty();
+        List<Document> archive = mongo.findAll(Document.class, TombstoneCompactor.ARCHIVE);
+        assertThat(archive).extracting(doc -> doc.getString("_id")).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(archive).allMatch(doc -> doc.get("archivedAt") != null);
+    }
+
+    @Test
+    void onlyOldPurgedTombstonesAreArchived() {
+        mongo.insert(media("old", MediaStatus.DELETED, OLD));
+        mongo.insert(media("recent", MediaStatus.DELETED, Instant.now()));
+        Media pending = media("pending", MediaStatus.DELETED, OLD);
+        pending.setPurgePending(true);
+        mongo.insert(pending);
+        mongo.insert(media("live", MediaStatus.READY, OLD));
+
+        assertThat(compactor.run()).isEqualTo(1);
+
+        assertThat(mongo.findAll(Media.class)).extracting(Media::getId)
+                .containsExactlyInAnyOrder("recent", "pending", "live");
+        assertThat(mongo.exists(query(where("_id").is("old")), TombstoneCompactor.ARCHIVE)).isTrue();
+    }
+}
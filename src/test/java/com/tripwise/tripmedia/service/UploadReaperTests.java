@@ -0,0 +1,152 @@
+package com.tripwise.tripmedia.service;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+import com.tripwise.tripmedia.service.client.ObjectInfo;
+import com.tripwise.tripmedia.service.client.StorageClient;
+import com.tripwise.tripmedia.service.variant.VariantPipeline;
+import com.tripwise.tripmedia.support.InMemoryMongo;
+import com.tripwise.tripmedia.support.TestMedia;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 08:50
+ * Description : Outcomes of {@link UploadReaper} against an in-memory MongoDB (mongo-java-server) and mocked storage.
+ * - Stale uploads are promoted, failed or deleted by what storage holds; a storage error skips only its own record.
+ * - A confirm or delete that lands while the reaper checks storage wins over the reaper's write.
+ * - Uploads being verified are left alone until their {@code verifyingSince} is stale.
+ * ================================================================
+ */
+class UploadReaperTests {
+
+    private static final Instant STALE = Instant.now().minus(Duration.ofHours(2));
+
+    @RegisterExtension
+    final InMemoryMongo db = new InMemoryMongo();
+
+    private MongoTemplate mongo;
+    private final StorageClient storage = mock(StorageClient.class);
+    private final VariantPipeline variants = mock(VariantPipeline.class);
+    private final UploadVerifier verifier = mock(UploadVerifier.class);
+
+    @BeforeEach
+    void start() {
+        mongo = db.template();
+    }
+
+    @Test
+    void staleUploadsArePromotedFailedOrDeletedAndAStorageErrorSkipsOnlyItsRecord() {
+        // Oldest first, so the bad record is the first one every run reads
+        mongo.insert(upload("bad", STALE));
+        mongo.insert(upload("present", STALE.plusSeconds(1)));
+        mongo.insert(upload("short", STALE.plusSeconds(2)));
+        mongo.insert(upload("missing", STALE.plusSeconds(3)));
+        mongo.insert(upload("fresh", Instant.now()));
+        when(storage.headObject("key/bad")).thenThrow(new IllegalArgumentException("Invalid storage key"));
+        when(storage.headObject("key/present")).thenReturn(new ObjectInfo(100, "e1", "image/jpeg"));
+        when(storage.headObject("key/short")).thenReturn(new ObjectInfo(50, "e2", "image/jpeg"));
+        when(storage.headObject("key/missing")).thenThrow(new NoSuchElementException("key/missing"));
+
+        reaper(false).reap();
+
+        assertThat(mongo.findById("bad", Media.class).getStatus()).isEqualTo(MediaStatus.UPLOADING);
+        Media present = mongo.findById("present", Media.class);
+        assertThat(present.getStatus()).isEqualTo(MediaStatus.READY);
+        assertThat(present.getVersion()).isEqualTo(1L);
+        Media shortObject = mongo.findById("short", Media.class);
+        assertThat(shortObject.getStatus()).isEqualTo(MediaStatus.FAILED);
+        assertThat(shortObject.getPurgePending()).isTrue();
+        assertThat(mongo.findById("missing", Media.class)).isNull();
+        assertThat(mongo.findById("fresh", Media.class).getStatus()).isEqualTo(MediaStatus.UPLOADING);
+        verify(storage, never()).headObject("key/fresh");
+        verify(variants).submit(argThat(m -> m.getId().equals("present")));
+    }
+
+    @Test
+    void confirmOrDeleteRacingWithTheReaperWins() {
+        mongo.insert(upload("confirmed", STALE));
+        mongo.insert(upload("deleted", STALE.plusSeconds(1)));
+        // The client confirms, and another one deletes, while the reaper is checking storage
+        when(storage.headObject("key/confirmed")).thenAnswer(inv -> {
+            transition("confirmed", MediaStatus.READY);
+            return new ObjectInfo(50, "e1", "image/jpeg");
+        });
+        when(storage.headObject("key/deleted")).thenAnswer(inv -> {
+            transition("deleted", MediaStatus.DELETED);
+            throw new NoSuchElementException("key/deleted");
+        });
+
+        reaper(false).reap();
+
+        Media confirmed = mongo.findById("confirmed", Media.class);
+        assertThat(confirmed.getStatus()).isEqualTo(MediaStatus.READY);
+        assertThat(confirmed.getPurgePending()).isNull();
+        assertThat(confirmed.getVersion()).isEqualTo(1L);
+        assertThat(mongo.findById("deleted", Media.class).getStatus()).isEqualTo(MediaStatus.DELETED);
+        verify(variants, never()).submit(any());
+    }
+
+    @Test
+    void uploadsUnderVerificationAreSkippedUntilTheVerificationIsStale() {
+        Media verifying = upload("verifying", STALE);
+        verifying.setVerifyingSince(Instant.now());
+        mongo.insert(verifying);
+        Media stalled = upload("stalled", STALE.plusSeconds(1));
+        stalled.setVerifyingSince(STALE);
+        mongo.insert(stalled);
+        when(storage.headObject("key/stalled")).thenReturn(new ObjectInfo(100, "e1", "image/jpeg"));
+
+        reaper(true).reap();
+
+        verify(storage, never()).headObject("key/verifying");
+        assertThat(mongo.findById("verifying", Media.class).getVersion()).isZero();
+        Media handedOver = mongo.findById("stalled", Media.class);
+        assertThat(handedOver.getStatus()).isEqualTo(MediaStatus.UPLOADING);
+        assertThat(handedOver.getVerifyingSince()).isAfter(STALE);
+        verify(verifier).verifyAsync(argThat(m -> m.getId().equals("stalled")));
+        verify(verifier, never()).verifyAsync(argThat(m -> m.getId().equals("verifying")));
+    }
+
+    private UploadReaper reaper(boolean verifyUploads) {
+        return new UploadReaper(db.repository(), mongo, storage, variants, verifier,
+                new MediaCache(1 << 20, Duration.ofSeconds(5), Duration.ofMinutes(10)), new LeaderLock(mongo),
+                20, Duration.ofMinutes(10), 100, 5, Duration.ofMinutes(10), verifyUploads);
+    }
+
+    private void transition(String id, MediaStatus status) {
+        mongo.updateFirst(query(where("_id").is(id)),
+                new Update().set("status", status).inc("version", 1), Media.class);
+    }
+
+    private static Media upload(String id, Instant createdAt) {
+        return TestMedia.media(id)
+                .bytes(100L)
+                .storageKey("key/" + id)
+                .status(MediaStatus.UPLOADING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.tripwise.tripmedia.service.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.service.client
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 08:58
+ * Description : Guards of {@link LocalFileStorageClient} behind the unauthenticated {@code PUT /media-files}.
+ * - Keys cannot leave the objects directory.
+ * - An upload URL only accepts its own key, content type, size (or part and part size), and only until it expires.
+ * - A part cannot be stored once its multipart upload is gone.
+ * ================================================================
+ */
+class LocalFileStorageClientTests {
+
+    private static final String KEY = "u1/m1/photo.jpg";
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageClient files;
+
+    @BeforeEach
+    void start() throws IOException {
+        files = client(20);
+    }
+
+    @Test
+    void keysWithEmptyDotOrDotDotSegmentsAreRejected() {
+        for (String key : List.of("", " ", "../secret", "u1/../../secret", "u1/./photo.jpg", "u1//photo.jpg",
+                "/u1/photo.jpg", "u1/photo.jpg/", "..", ".")) {
+            assertThatThrownBy(() -> files.path(key)).as(key).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(files.path(KEY)).startsWithRaw(root.toAbsolutePath().normalize().resolve("objects"));
+    }
+
+    @Test
+    void presigningAnInvalidKeyIsRejected() {
+        assertThatThrownBy(() -> files.presignPut("u1/../../secret", "image/jpeg", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> files.presignMultipart("../secret", "image/jpeg", 10, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void signedPutAcceptsOnlyItsOwnKeyTypeAndSize() {
+        var query = query(files.presignPut(KEY, "image/jpeg", 1000).url());
+        long expires = Long.parseLong(query.get(LocalFileStorageClient.EXPIRES));
+        String signature = query.get(LocalFileStorageClient.SIGNATURE);
+
+        assertThatCode(() -> files.verifyUpload(KEY, null, null, "image/jpeg", 1000, expires, signature))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> files.verifyUpload("u1/m2/photo.jpg", null, null, "image/jpeg", 1000, expires,
+                signature)).isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, "text/html", 1000, expires, signature))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, "image/jpeg", 1001, expires, signature))
+                .isInstanceOf(SecurityException.class);
+        // A chunked body has no Content-Length
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, "image/jpeg", -1, expires, signature))
+                .isInstanceOf(SecurityException.class);
+        // A later expiry is not covered by the signature
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, "image/jpeg", 1000, expires + 3600, signature))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void tamperedOrForeignSignaturesAreRejected() throws IOException {
+        var query = query(files.presignPut(KEY, "image/jpeg", 1000).url());
+        long expires = Long.parseLong(query.get(LocalFileStorageClient.EXPIRES));
+        String signature = query.get(LocalFileStorageClient.SIGNATURE);
+        String tampered = (signature.charAt(0) == '0' ? "1" : "0") + signature.substring(1);
+        var otherKey = new LocalFileStorageClient(root, "http://localhost/media-files", "", 20, "another-key");
+
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, "image/jpeg", 1000, expires, tampered))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, "image/jpeg", 1000, expires, null))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> otherKey.verifyUpload(KEY, null, null, "image/jpeg", 1000, expires, signature))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void expiredUploadUrlsAreRejected() throws IOException {
+        var expired = client(-1);
+        var query = query(expired.presignPut(KEY, "image/jpeg", 1000).url());
+
+        assertThatThrownBy(() -> expired.verifyUpload(KEY, null, null, "image/jpeg", 1000,
+                Long.parseLong(query.get(LocalFileStorageClient.EXPIRES)), query.get(LocalFileStorageClient.SIGNATURE)))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    void partUrlsAreBoundToTheirUploadPartAndPartSize() {
+        var upload = files.presignMultipart(KEY, "image/jpeg", 25, 10);
+        assertThat(upload.parts()).hasSize(3);
+        var last = query(upload.parts().get(2).url());
+        long expires = Long.parseLong(last.get(LocalFileStorageClient.EXPIRES));
+        String signature = last.get(LocalFileStorageClient.SIGNATURE);
+        String uploadId = upload.uploadId();
+
+        assertThatCode(() -> files.verifyUpload(KEY, uploadId, 3, null, 5, expires, signature))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> files.verifyUpload(KEY, uploadId, 3, null, 10, expires, signature))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> files.verifyUpload(KEY, uploadId, 2, null, 5, expires, signature))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> files.verifyUpload(KEY, UUID.randomUUID().toString(), 3, null, 5, expires,
+                signature)).isInstanceOf(SecurityException.class);
+        // Without uploadId the same signature is checked as a single PUT of the whole object
+        assertThatThrownBy(() -> files.verifyUpload(KEY, null, null, null, 5, expires, signature))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void partOfAnAbortedOrUnknownUploadIsNotStored() throws IOException {
+        var upload = files.presignMultipart(KEY, "image/jpeg", 25, 10);
+        files.abortMultipart(KEY, upload.uploadId());
+
+        Path received = received(10);
+        assertThatThrownBy(() -> files.commitUpload(received, KEY, upload.uploadId(), 1))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(received).doesNotExist();
+
+        Path another = received(10);
+        assertThatThrownBy(() -> files.commitUpload(another, KEY, "../../objects/u1", 1))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(files.path(KEY)).doesNotExist();
+    }
+
+    @Test
+    void committedUploadIsStoredUnderItsKey() throws IOException {
+        Path received = received(10);
+
+        files.commitUpload(received, KEY, null, null);
+
+        assertThat(files.headObject(KEY).size()).isEqualTo(10);
+        assertThat(received).doesNotExist();
+    }
+
+    private LocalFileStorageClient client(long ttlMinutes) throws IOException {
+        return new LocalFileStorageClient(root, "http://localhost/media-files", "", ttlMinutes, "test-key");
+    }
+
+    private Path received(int bytes) throws IOException {
+        Path file = files.tempFile();
+        Files.write(file, new byte[bytes]);
+        return file;
+    }
+
+    static Map<String, String> query(URL url) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : url.getQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            params.put(pair.substring(0, eq), pair.substring(eq + 1));
+        }
+        return params;
+    }
+}
@@ -0,0 +1,57 @@
+package com.tripwise.tripmedia.support;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.tripwise.tripmedia.repository.MediaRepository;
+import com.tripwise.tripmedia.repository.MediaRepositoryImpl;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.support
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 08:45
+ * Description : JUnit extension that starts an empty in-memory MongoDB (mongo-java-server) for every test.
+ * - Register it as an instance field with {@code @RegisterExtension}; no Docker needed.
+ * - {@link #template()} and {@link #repository()} are valid from {@code @BeforeEach} methods on.
+ * ================================================================
+ */
+public class InMemoryMongo implements BeforeEachCallback, AfterEachCallback {
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate template;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create(server.bindAndGetConnectionString());
+        template = new MongoTemplate(client, context.getRequiredTestClass().getSimpleName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        client.close();
+        server.shutdown();
+    }
+
+    public MongoTemplate template() {
+        return template;
+    }
+
+    /**
+     * A {@link MediaRepository} on this database, with the custom fragment wired in as Spring Data would.
+     */
+    public MediaRepository repository() {
+        return new MongoRepositoryFactory(template)
+                .getRepository(MediaRepository.class, RepositoryFragments.just(new MediaRepositoryImpl(template)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.tripwise.tripmedia.support;
+
+import com.tripwise.tripmedia.model.Media;
+import com.tripwise.tripmedia.model.MediaStatus;
+
+import java.time.Instant;
+
+/**
+ * ================================================================
+ * Package Name: com.tripwise.tripmedia.support
+ * Author      : Ochwada-GMK
+ * Project Name: tripmedia
+ * Date        : Saturday,  17.Oct.2026 | 08:48
+ * Description : {@link Media} fixtures for tests.
+ * - {@link #media(String)} is a JPEG of user {@code u1} in journal {@code j1}; tests set what they care about.
+ * ================================================================
+ */
+public final class TestMedia {
+
+    public static final String USER = "u1";
+    public static final String JOURNAL = "j1";
+
+    private TestMedia() {
+    }
+
+    public static Media.MediaBuilder media(String id) {
+        return Media.builder()
+                .id(id)
+                .userId(USER)
+                .journalId(JOURNAL)
+                .fileName(id + ".jpg")
+                .mimeType("image/jpeg");
+    }
+
+    /**
+     * A media in {@code status}, created and last updated at {@code at}.
+     */
+    public static Media media(String id, MediaStatus status, Instant at) {
+        return media(id).status(status).createdAt(at).updatedAt(at).build();
+    }
+}